@@ -0,0 +1,188 @@
+package com.riwi.H4.jmh;
+
+import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.Venue;
+import com.riwi.H4.infrastructure.dto.EventDTO;
+import com.riwi.H4.infrastructure.dto.VenueDTO;
+import com.riwi.H4.infrastructure.entity.EventEntity;
+import com.riwi.H4.infrastructure.entity.VenueEntity;
+import com.riwi.H4.infrastructure.mapper.EventDTOMapper;
+import com.riwi.H4.infrastructure.mapper.EventDTOMapperImpl;
+import com.riwi.H4.infrastructure.mapper.EventMapper;
+import com.riwi.H4.infrastructure.mapper.EventMapperImpl;
+import com.riwi.H4.infrastructure.mapper.VenueDTOMapper;
+import com.riwi.H4.infrastructure.mapper.VenueDTOMapperImpl;
+import com.riwi.H4.infrastructure.mapper.VenueMapper;
+import com.riwi.H4.infrastructure.mapper.VenueMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de los mappers MapStruct de H4 por objeto y por listado de 10.000
+ * elementos (lo que hace un endpoint de listado).
+ *
+ * Ejecutar: mvn -Pjmh test-compile exec:exec
+ * El perfil agrega "-prof gc": además del throughput, JMH reporta
+ * gc.alloc.rate.norm (bytes asignados por operación).
+ *
+ * Los mappers se instancian a mano (sin contexto Spring); EventMapperImpl
+ * recibe su VenueMapper por reflexión, igual que lo haría el @Autowired.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final int LIST_SIZE = 10_000;
+
+    private VenueMapper venueMapper;
+    private EventMapper eventMapper;
+    private EventDTOMapper eventDTOMapper;
+    private VenueDTOMapper venueDTOMapper;
+
+    private EventEntity eventEntity;
+    private Event event;
+    private EventDTO eventDTO;
+    private VenueEntity venueEntity;
+    private Venue venue;
+    private VenueDTO venueDTO;
+
+    private List<EventEntity> eventEntities;
+    private List<Event> events;
+    private List<VenueEntity> venueEntities;
+
+    @Setup
+    public void setUp() {
+        venueMapper = new VenueMapperImpl();
+        eventMapper = new EventMapperImpl();
+        ReflectionTestUtils.setField(eventMapper, "venueMapper", venueMapper);
+        eventDTOMapper = new EventDTOMapperImpl();
+        venueDTOMapper = new VenueDTOMapperImpl();
+
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        venueEntities = new ArrayList<>(LIST_SIZE);
+        eventEntities = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            VenueEntity venue = new VenueEntity();
+            venue.setId((long) i + 1);
+            venue.setName("Venue " + i);
+            venue.setLocation("Calle " + i + " #10-20");
+            venue.setCapacity(100 + i);
+            venueEntities.add(venue);
+
+            EventEntity entity = new EventEntity();
+            entity.setId((long) i + 1);
+            entity.setName("Evento " + i);
+            entity.setDate(start.plusDays(i % 365));
+            entity.setStatus(i % 10 == 0 ? EventStatus.CANCELLED : EventStatus.ACTIVE);
+            entity.setVenue(venue);
+            eventEntities.add(entity);
+        }
+        events = eventEntities.stream().map(eventMapper::toModel).toList();
+
+        eventEntity = eventEntities.get(0);
+        event = events.get(0);
+        eventDTO = eventDTOMapper.toDTO(event);
+        venueEntity = venueEntities.get(0);
+        venue = venueMapper.toModel(venueEntity);
+        venueDTO = venueDTOMapper.toDTO(venue);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // UN OBJETO
+    // ═══════════════════════════════════════════════════════════════════════
+
+    @Benchmark
+    public Event eventEntityToModel() {
+        return eventMapper.toModel(eventEntity);
+    }
+
+    @Benchmark
+    public EventEntity eventModelToEntity() {
+        return eventMapper.toEntity(event);
+    }
+
+    @Benchmark
+    public EventDTO eventModelToDTO() {
+        return eventDTOMapper.toDTO(event);
+    }
+
+    @Benchmark
+    public Event eventDTOToModel() {
+        return eventDTOMapper.toDomain(eventDTO);
+    }
+
+    @Benchmark
+    public Venue venueEntityToModel() {
+        return venueMapper.toModel(venueEntity);
+    }
+
+    @Benchmark
+    public VenueEntity venueModelToEntity() {
+        return venueMapper.toEntity(venue);
+    }
+
+    @Benchmark
+    public VenueDTO venueModelToDTO() {
+        return venueDTOMapper.toDTO(venue);
+    }
+
+    @Benchmark
+    public Venue venueDTOToModel() {
+        return venueDTOMapper.toDomain(venueDTO);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // LISTADOS DE 10.000 (una operación = la lista completa)
+    // ═══════════════════════════════════════════════════════════════════════
+
+    @Benchmark
+    public List<Event> eventEntitiesToModels() {
+        return eventEntities.stream().map(eventMapper::toModel).toList();
+    }
+
+    @Benchmark
+    public List<EventDTO> eventModelsToDTOs() {
+        return events.stream().map(eventDTOMapper::toDTO).toList();
+    }
+
+    /**
+     * Camino completo de un listado de eventos: Entity → Domain → DTO.
+     */
+    @Benchmark
+    public List<EventDTO> eventEntitiesToDTOs() {
+        return eventEntities.stream()
+                .map(eventMapper::toModel)
+                .map(eventDTOMapper::toDTO)
+                .toList();
+    }
+
+    /**
+     * Camino completo de un listado de venues: Entity → Domain → DTO.
+     */
+    @Benchmark
+    public List<VenueDTO> venueEntitiesToDTOs() {
+        return venueEntities.stream()
+                .map(venueMapper::toModel)
+                .map(venueDTOMapper::toDTO)
+                .toList();
+    }
+}
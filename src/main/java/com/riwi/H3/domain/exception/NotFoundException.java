@@ -1,7 +0,0 @@
-package com.riwi.H3.domain.exception;
-
-public class NotFoundException extends RuntimeException {
-    public NotFoundException(String message) {
-        super(message);
-    }
-}
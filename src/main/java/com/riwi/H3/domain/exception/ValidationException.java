@@ -1,7 +0,0 @@
-package com.riwi.H3.domain.exception;
-
-public class ValidationException extends RuntimeException {
-    public ValidationException(String message) {
-        super(message);
-    }
-}
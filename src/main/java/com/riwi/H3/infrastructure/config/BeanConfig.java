@@ -1,8 +0,0 @@
-package com.riwi.H3.infrastructure.config;
-
-import org.springframework.context.annotation.Configuration;
-
-@Configuration
-public class BeanConfig {
-    // Por ahora vacío, porque los adapters se registran con @Component
-}
@@ -1,8 +1,4 @@
-<<<<<<<< HEAD:src/main/java/com/riwi/H4/Application.java
 package com.riwi.H4;
-========
-package com.riwi.H3;
->>>>>>>> origin/main:src/main/java/com/riwi/H3/Application.java
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
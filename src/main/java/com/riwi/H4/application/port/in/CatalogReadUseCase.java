@@ -0,0 +1,26 @@
+package com.riwi.H4.application.port.in;
+
+import com.riwi.H4.domain.model.EventSummary;
+import com.riwi.H4.domain.model.UpcomingEvent;
+import com.riwi.H4.domain.model.VenueStats;
+import com.riwi.H4.domain.model.VenueSummary;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface CatalogReadUseCase {
+    List<EventSummary> findAllEvents();
+
+    List<EventSummary> findEvents(int page, int size);
+
+    List<VenueSummary> findAllVenues();
+
+    List<VenueStats> findVenueStats(LocalDate from, LocalDate to);
+
+    List<UpcomingEvent> findUpcoming(LocalDate from, int limit);
+
+    // Sellos de cambios de cada colección (ETag de los listados completos)
+    String eventsStamp();
+
+    String venuesStamp();
+}
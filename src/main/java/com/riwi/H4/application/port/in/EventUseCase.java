@@ -1,28 +1,66 @@
 package com.riwi.H4.application.port.in;
 
+import com.riwi.H4.domain.model.BulkResult;
+import com.riwi.H4.domain.model.CursorPage;
 import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventPatch;
+import com.riwi.H4.domain.model.EventSearchCriteria;
+import com.riwi.H4.domain.model.SliceResult;
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.EventSummary;
 import java.time.LocalDate;
 
 public interface EventUseCase {
     Event create(Event event);
 
+    BulkResult createAll(List<Event> events);
+
     Event update(Long id, Event event);
 
+    // Aplica solo los campos presentes si el evento sigue en expectedVersion.
+    // Retorna la nueva versión.
+    Long patch(Long id, Long expectedVersion, EventPatch patch);
+
     Event findById(Long id);
 
+    // Versión actual del evento, sin cargarlo (GET condicional)
+    Long findVersion(Long id);
+
+    // Los eventos encontrados, en el orden de ids (los inexistentes se omiten)
+    List<Event> findAllById(List<Long> ids);
+
     List<Event> findAll();
 
     List<Event> findAll(int page, int size);
 
+    CursorPage<Event> findAllByCursor(String cursor, int size);
+
+    void exportAll(Consumer<Event> consumer);
+
     void delete(Long id);
 
+    // Borra los eventos existentes de la lista; retorna cuántos se borraron
+    int deleteAll(List<Long> ids);
+
+    // Operaciones en bloque sobre los eventos que cumplen el filtro (el mismo
+    // de search). Retornan cuántos eventos cambiaron.
+    int cancelMatching(EventSearchCriteria criteria);
+
+    int rescheduleMatching(EventSearchCriteria criteria, int days);
+
+    int deleteMatching(EventSearchCriteria criteria);
+
     // Métodos de búsqueda avanzada (TASK 2)
     List<Event> findByVenue(Long venueId);
 
     List<Event> findByDateRange(LocalDate startDate, LocalDate endDate);
 
     List<Event> findByStatus(EventStatus status);
+
+    SliceResult<Event> search(EventSearchCriteria criteria, int page, int size);
+
+    List<EventSummary> suggest(String prefix, int limit);
 }
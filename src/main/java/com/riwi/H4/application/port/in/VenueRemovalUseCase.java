@@ -0,0 +1,11 @@
+package com.riwi.H4.application.port.in;
+
+import com.riwi.H4.domain.model.VenueRemoval;
+
+public interface VenueRemovalUseCase {
+    // Encola la eliminación del venue y sus eventos por lotes de chunkSize.
+    // Si ya hay una en curso para el venue, retorna esa.
+    VenueRemoval start(Long venueId, boolean archive, int chunkSize);
+
+    VenueRemoval findById(String removalId);
+}
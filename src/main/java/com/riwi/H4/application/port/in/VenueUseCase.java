@@ -1,6 +1,9 @@
 package com.riwi.H4.application.port.in;
 
 import com.riwi.H4.domain.model.Venue;
+import com.riwi.H4.domain.model.VenueAvailability;
+
+import java.time.LocalDate;
 import java.util.List;
 
 public interface VenueUseCase {
@@ -10,6 +13,9 @@ public interface VenueUseCase {
 
     Venue findById(Long id);
 
+    // Versión actual del venue, sin cargarlo (GET condicional)
+    Long findVersion(Long id);
+
     List<Venue> findAll();
 
     void delete(Long id);
@@ -18,4 +24,9 @@ public interface VenueUseCase {
     List<Venue> findByMinimumCapacity(Integer capacity);
 
     List<Venue> findByLocation(String location);
+
+    List<Venue> findByName(String name);
+
+    // Días ocupados / libres del venue entre from y to (inclusive)
+    VenueAvailability availability(Long id, LocalDate from, LocalDate to);
 }
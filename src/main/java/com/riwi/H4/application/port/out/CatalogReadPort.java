@@ -0,0 +1,31 @@
+package com.riwi.H4.application.port.out;
+
+import com.riwi.H4.domain.model.EventSummary;
+import com.riwi.H4.domain.model.UpcomingEvent;
+import com.riwi.H4.domain.model.VenueStats;
+import com.riwi.H4.domain.model.VenueSummary;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Puerto de lectura: retorna vistas proyectadas (solo las columnas necesarias)
+ * en lugar de modelos de dominio completos.
+ */
+public interface CatalogReadPort {
+    List<EventSummary> findAllEvents();
+
+    List<EventSummary> findEvents(int page, int size);
+
+    List<VenueSummary> findAllVenues();
+
+    /**
+     * Conteos de eventos por venue, todos los venues (incluidos los que no
+     * tienen eventos). from/to son opcionales y filtran los eventos contados;
+     * today es la fecha desde la que un evento ACTIVE cuenta como próximo.
+     */
+    List<VenueStats> findVenueStats(LocalDate from, LocalDate to, LocalDate today);
+
+    // Eventos ACTIVE desde from (inclusive), por fecha e id, con el nombre del venue
+    List<UpcomingEvent> findUpcomingEvents(LocalDate from, int limit);
+}
@@ -0,0 +1,17 @@
+package com.riwi.H4.application.port.out;
+
+/**
+ * Sello de cambios por colección (eventos, venues): cambia cada vez que se
+ * confirma una escritura sobre la colección. Permite responder un GET
+ * condicional de un listado completo sin consultar la base de datos.
+ */
+public interface CatalogStampPort {
+    String eventsStamp();
+
+    String venuesStamp();
+
+    // Se aplican al hacer commit la transacción actual (de inmediato si no hay)
+    void eventsChanged();
+
+    void venuesChanged();
+}
@@ -1,22 +1,84 @@
 package com.riwi.H4.application.port.out;
 
 import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventPatch;
+import com.riwi.H4.domain.model.EventSearchCriteria;
+import com.riwi.H4.domain.model.SliceResult;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.EventSummary;
 import java.time.LocalDate;
 
 public interface EventRepositoryPort {
     Event save(Event event);
 
+    // Inserta todos los eventos en batches JDBC. Retorna los eventos con su ID asignado.
+    List<Event> saveAll(List<Event> events);
+
     Optional<Event> findById(Long id);
 
+    // Solo la versión del evento (para responder If-None-Match sin cargarlo)
+    Optional<Long> findVersionById(Long id);
+
+    // Solo las columnas del evento, sin hidratar la entidad ni su venue
+    Optional<EventSummary> findSummaryById(Long id);
+
+    // Un único UPDATE de los campos presentes en patch, solo si la versión
+    // sigue siendo expectedVersion (la incrementa). false si no se actualizó nada.
+    boolean updateIfVersion(Long id, Long expectedVersion, EventPatch patch);
+
+    // Una sola consulta IN. Los IDs inexistentes se omiten; el orden no está garantizado.
+    List<Event> findAllById(Collection<Long> ids);
+
     List<Event> findAll();
 
     List<Event> findAll(int page, int size);
 
-    void deleteById(Long id);
+    // Un único DELETE, sin cargar el evento. false si no existía.
+    boolean deleteById(Long id);
+
+    // Los IDs de la colección que existen, con una sola consulta IN
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    // Un único DELETE ... WHERE id IN (...). Retorna cuántos eventos se borraron.
+    int deleteAllById(Collection<Long> ids);
+
+    // Un único DELETE de todos los eventos del venue. Retorna cuántos se borraron.
+    int deleteByVenueId(Long venueId);
+
+    // Hasta limit IDs de eventos del venue, en orden de ID (eliminación por lotes)
+    List<Long> findIdsByVenue(Long venueId, int limit);
+
+    long countByVenue(Long venueId);
+
+    // Copia los eventos a events_archive con un INSERT ... SELECT. Retorna cuántos copió.
+    int archiveAllById(Collection<Long> ids);
+
+    // Eventos ACTIVE desde hoy cuyo nombre (sin espacios alrededor, sin
+    // distinguir mayúsculas) empieza con prefix, por fecha e id, hasta limit
+    List<EventSummary> findUpcomingByNamePrefix(String prefix, int limit);
+
+    // Operaciones por filtro (el mismo vocabulario de search): cada una es un
+    // único UPDATE/DELETE y retorna cuántas filas afectó
+
+    // Las columnas de los eventos que cumplen el filtro, hasta limit, sin
+    // hidratar entidades
+    List<EventSummary> findSummaries(EventSearchCriteria criteria, int limit);
+
+    // UPDATE ... SET status = ?, version = version + 1 WHERE <filtro>
+    int updateStatusMatching(EventSearchCriteria criteria, EventStatus status);
+
+    // UPDATE ... SET date = date + days, version = version + 1
+    // WHERE <filtro> AND date IS NOT NULL
+    int shiftDatesMatching(EventSearchCriteria criteria, int days);
+
+    // DELETE ... WHERE <filtro>
+    int deleteMatching(EventSearchCriteria criteria);
 
     // Métodos de búsqueda avanzada (TASK 2)
     List<Event> findByVenue(Long venueId);
@@ -24,4 +86,19 @@ public interface EventRepositoryPort {
     List<Event> findByDateRange(LocalDate startDate, LocalDate endDate);
 
     List<Event> findByStatus(EventStatus status);
+
+    // ¿Hay otro evento ACTIVE (distinto de excludeEventId) en el venue ese día?
+    boolean existsActiveOn(Long venueId, LocalDate date, Long excludeEventId);
+
+    // Búsqueda con cualquier combinación de filtros, paginada sin COUNT
+    SliceResult<Event> search(EventSearchCriteria criteria, int page, int size);
+
+    // Paginación keyset: eventos posteriores a (date, id) ordenados por fecha e id,
+    // los sin fecha al final. Con id null retorna la primera página; con date null
+    // y un id, los eventos sin fecha posteriores a ese id.
+    List<Event> findAllAfter(LocalDate date, Long id, int limit);
+
+    // Recorre todos los eventos uno a uno sin acumularlos en memoria.
+    // Requiere una transacción activa mientras dure el recorrido.
+    void forEachEvent(Consumer<Event> consumer);
 }
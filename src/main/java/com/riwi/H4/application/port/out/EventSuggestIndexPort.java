@@ -0,0 +1,27 @@
+package com.riwi.H4.application.port.out;
+
+import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventSummary;
+
+import java.util.List;
+
+/**
+ * Índice en memoria para el autocompletado de nombres de eventos (búsqueda por
+ * prefijo sobre eventos activos y futuros). Mientras no esté listo
+ * (isReady = false) las sugerencias deben resolverse en la base de datos.
+ */
+public interface EventSuggestIndexPort {
+    boolean isReady();
+
+    void index(Event event);
+
+    void remove(Long eventId);
+
+    // Quita todos los eventos de un venue (borrado del venue con sus eventos)
+    void removeVenue(Long venueId);
+
+    // Cambia solo el nombre de un evento ya indexado (sin conocer el resto de sus datos)
+    void rename(Long eventId, String name);
+
+    List<EventSummary> suggest(String prefix, int limit);
+}
@@ -0,0 +1,19 @@
+package com.riwi.H4.application.port.out;
+
+import com.riwi.H4.domain.model.UpcomingEvent;
+
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+/**
+ * Read model en memoria de los eventos activos y futuros, ordenados por fecha
+ * e id. Se mantiene solo con los cambios publicados por los services después
+ * del commit. Mientras no esté listo (isReady = false) la consulta debe
+ * resolverse en la base de datos.
+ */
+public interface UpcomingEventsPort {
+    boolean isReady();
+
+    // Recorre en orden (fecha, id) los eventos desde from (inclusive); se detiene cuando action devuelve false
+    void forEachFrom(LocalDate from, Predicate<UpcomingEvent> action);
+}
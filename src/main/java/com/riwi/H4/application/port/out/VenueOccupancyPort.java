@@ -0,0 +1,36 @@
+package com.riwi.H4.application.port.out;
+
+import com.riwi.H4.domain.model.Event;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Ocupación de venues por día en memoria: un venue no puede tener dos eventos
+ * ACTIVE el mismo día. Mientras no esté listo (isReady = false) la
+ * verificación debe hacerse en la base de datos.
+ */
+public interface VenueOccupancyPort {
+    boolean isReady();
+
+    // true si otro evento ACTIVE (distinto de excludeEventId) ocupa el día
+    boolean isBooked(Long venueId, LocalDate date, Long excludeEventId);
+
+    // Reserva el día del evento dentro de la transacción actual. Retorna false
+    // si el día ya está ocupado por otro evento. Un rollback libera la reserva;
+    // el commit libera el día que el evento ocupaba antes. Los eventos que no
+    // están ACTIVE no ocupan día.
+    boolean book(Event event);
+
+    // Como book, para varios eventos que cambian de día juntos en la misma
+    // transacción: un día que hoy ocupa uno de ellos cuenta como libre para
+    // los demás. Si alguno no puede reservarse no se reserva ninguno.
+    boolean bookAll(Collection<Event> events);
+
+    void release(Long eventId);
+
+    void removeVenue(Long venueId);
+
+    List<LocalDate> bookedDays(Long venueId, LocalDate from, LocalDate to);
+}
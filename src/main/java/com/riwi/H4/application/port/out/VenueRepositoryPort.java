@@ -1,20 +1,31 @@
 package com.riwi.H4.application.port.out;
 
 import com.riwi.H4.domain.model.Venue;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface VenueRepositoryPort {
     Venue save(Venue venue);
 
     Optional<Venue> findById(Long id);
 
+    // Solo la versión del venue (para responder If-None-Match sin cargarlo)
+    Optional<Long> findVersionById(Long id);
+
     List<Venue> findAll();
 
-    void deleteById(Long id);
+    // Un único DELETE, sin cargar el venue ni sus eventos (borrarlos antes). false si no existía.
+    boolean deleteById(Long id);
+
+    // Retorna cuáles de los IDs recibidos existen, con una sola consulta
+    Set<Long> findExistingIds(Collection<Long> ids);
 
     // Métodos de búsqueda avanzada (TASK 2)
     List<Venue> findByMinimumCapacity(Integer capacity);
 
     List<Venue> findByLocation(String location);
+
+    List<Venue> findByName(String name);
 }
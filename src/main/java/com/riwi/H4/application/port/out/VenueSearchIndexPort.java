@@ -0,0 +1,22 @@
+package com.riwi.H4.application.port.out;
+
+import com.riwi.H4.domain.model.Venue;
+
+import java.util.List;
+
+/**
+ * Índice de búsqueda en memoria para venues (búsqueda parcial por nombre y
+ * ubicación). Mientras no esté listo (isReady = false) las búsquedas deben
+ * resolverse en la base de datos.
+ */
+public interface VenueSearchIndexPort {
+    boolean isReady();
+
+    void index(Venue venue);
+
+    void remove(Long venueId);
+
+    List<Venue> findByName(String term);
+
+    List<Venue> findByLocation(String term);
+}
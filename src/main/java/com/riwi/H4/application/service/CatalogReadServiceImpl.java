@@ -0,0 +1,111 @@
+package com.riwi.H4.application.service;
+
+import com.riwi.H4.application.port.in.CatalogReadUseCase;
+import com.riwi.H4.application.port.out.CatalogReadPort;
+import com.riwi.H4.application.port.out.CatalogStampPort;
+import com.riwi.H4.application.port.out.UpcomingEventsPort;
+import com.riwi.H4.domain.exception.ValidationException;
+import com.riwi.H4.domain.model.EventSummary;
+import com.riwi.H4.domain.model.UpcomingEvent;
+import com.riwi.H4.domain.model.VenueStats;
+import com.riwi.H4.domain.model.VenueSummary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lado de lectura del catálogo para los listados.
+ * Las proyecciones no son entidades: Hibernate no las registra en el contexto
+ * de persistencia ni guarda snapshots, y no hace falta mapear
+ * Entity → Domain → DTO por cada fila.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CatalogReadServiceImpl implements CatalogReadUseCase {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_UPCOMING_LIMIT = 1_000;
+
+    private final CatalogReadPort repository;
+    private final CatalogStampPort stamps;
+    private final UpcomingEventsPort upcoming;
+
+    public CatalogReadServiceImpl(CatalogReadPort repository, CatalogStampPort stamps, UpcomingEventsPort upcoming) {
+        this.repository = repository;
+        this.stamps = stamps;
+        this.upcoming = upcoming;
+    }
+
+    @Override
+    public List<EventSummary> findAllEvents() {
+        return repository.findAllEvents();
+    }
+
+    @Override
+    public List<EventSummary> findEvents(int page, int size) {
+        requirePage(page, size);
+        return repository.findEvents(page, size);
+    }
+
+    @Override
+    public List<VenueSummary> findAllVenues() {
+        return repository.findAllVenues();
+    }
+
+    @Override
+    public List<VenueStats> findVenueStats(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ValidationException("from no puede ser posterior a to");
+        }
+        return repository.findVenueStats(from, to, LocalDate.now());
+    }
+
+    /**
+     * Próximos eventos activos desde from (por defecto hoy), por fecha e id.
+     * Con el read model listo no se usa la base de datos ni se copian eventos:
+     * la lista referencia las instancias inmutables del modelo. Mientras se
+     * carga, una consulta con JOIN al venue.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<UpcomingEvent> findUpcoming(LocalDate from, int limit) {
+        if (limit < 1 || limit > MAX_UPCOMING_LIMIT) {
+            throw new ValidationException("limit debe estar entre 1 y " + MAX_UPCOMING_LIMIT);
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate start = from == null || from.isBefore(today) ? today : from;
+        if (!upcoming.isReady()) {
+            return repository.findUpcomingEvents(start, limit);
+        }
+        List<UpcomingEvent> result = new ArrayList<>(limit);
+        upcoming.forEachFrom(start, event -> {
+            result.add(event);
+            return result.size() < limit;
+        });
+        return result;
+    }
+
+    // Mismo límite que search: un page negativo haría fallar PageRequest (500)
+    private static void requirePage(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("page debe ser >= 0 y size entre 1 y " + MAX_PAGE_SIZE);
+        }
+    }
+
+    // Los sellos están en memoria: sin transacción ni conexión del pool
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String eventsStamp() {
+        return stamps.eventsStamp();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String venuesStamp() {
+        return stamps.venuesStamp();
+    }
+}
@@ -1,27 +1,167 @@
 package com.riwi.H4.application.service;
 
 import com.riwi.H4.application.port.in.EventUseCase;
+import com.riwi.H4.application.port.out.CatalogStampPort;
 import com.riwi.H4.application.port.out.EventRepositoryPort;
+import com.riwi.H4.application.port.out.EventSuggestIndexPort;
+import com.riwi.H4.application.port.out.VenueOccupancyPort;
+import com.riwi.H4.application.port.out.VenueRepositoryPort;
+import com.riwi.H4.domain.exception.ConflictException;
 import com.riwi.H4.domain.exception.NotFoundException;
+import com.riwi.H4.domain.exception.PreconditionFailedException;
+import com.riwi.H4.domain.exception.ValidationException;
+import com.riwi.H4.domain.model.BulkResult;
+import com.riwi.H4.domain.model.CursorPage;
 import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventChange;
+import com.riwi.H4.domain.model.EventCursor;
+import com.riwi.H4.domain.model.EventPatch;
+import com.riwi.H4.domain.model.EventSearchCriteria;
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.EventSummary;
+import com.riwi.H4.domain.model.SliceResult;
+import com.riwi.H4.domain.model.Venue;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class EventServiceImpl implements EventUseCase {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_BULK_SIZE = 10_000;
+    private static final int MAX_SUGGEST_LIMIT = 50;
+    private static final int MAX_IDS = 100;
+    private static final int MAX_DELETE_IDS = 1_000;
+
     private final EventRepositoryPort repository;
+    private final VenueRepositoryPort venueRepository;
+    private final EventSuggestIndexPort suggestIndex;
+    private final VenueOccupancyPort occupancy;
+    private final CatalogStampPort stamps;
+    // Publica un EventChange por evento modificado; los oyentes lo reciben al commit
+    private final ApplicationEventPublisher publisher;
 
-    public EventServiceImpl(EventRepositoryPort repository) {
+    public EventServiceImpl(EventRepositoryPort repository, VenueRepositoryPort venueRepository,
+            EventSuggestIndexPort suggestIndex, VenueOccupancyPort occupancy, CatalogStampPort stamps,
+            ApplicationEventPublisher publisher) {
         this.repository = repository;
+        this.venueRepository = venueRepository;
+        this.suggestIndex = suggestIndex;
+        this.occupancy = occupancy;
+        this.stamps = stamps;
+        this.publisher = publisher;
     }
 
     @Override
     public Event create(Event event) {
-        return repository.save(event);
+        // save() solo asigna el ID (el INSERT se ejecuta al commit): si el día
+        // está ocupado, el rollback descarta el evento sin haberlo escrito
+        Event saved = repository.save(event);
+        reserveVenueDay(saved);
+        suggestIndex.index(saved);
+        stamps.eventsChanged();
+        publisher.publishEvent(EventChange.created(saved));
+        return saved;
+    }
+
+    /**
+     * Carga masiva de eventos en una sola transacción.
+     *
+     * 1. Valida cada elemento en memoria (nombre, fecha, venue).
+     * 2. Verifica TODOS los venues referenciados con una única consulta IN.
+     * 3. Rechaza los eventos cuyo venue ya está ocupado ese día (o que chocan
+     *    con otro evento de la misma carga), con el índice de ocupación.
+     * 4. Inserta los válidos en batches JDBC; los inválidos se reportan
+     *    como rechazados sin abortar el resto de la carga.
+     */
+    @Override
+    public BulkResult createAll(List<Event> events) {
+        if (events.size() > MAX_BULK_SIZE) {
+            throw new ValidationException("Máximo " + MAX_BULK_SIZE + " eventos por carga");
+        }
+
+        String[] errors = new String[events.size()];
+        Set<Long> venueIds = new HashSet<>();
+        for (int i = 0; i < events.size(); i++) {
+            errors[i] = validateForBulk(events.get(i));
+            if (errors[i] == null) {
+                venueIds.add(events.get(i).getVenue().getId());
+            }
+        }
+
+        Set<Long> existingVenues = venueRepository.findExistingIds(venueIds);
+        Set<String> batchDays = new HashSet<>();
+        List<Event> accepted = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            if (errors[i] == null && !existingVenues.contains(event.getVenue().getId())) {
+                errors[i] = "Venue not found with id: " + event.getVenue().getId();
+            }
+            if (errors[i] == null) {
+                if (event.getStatus() == null) {
+                    event.setStatus(EventStatus.ACTIVE);
+                }
+                if (occupiesVenueDay(event) && (!batchDays.add(event.getVenue().getId() + "@" + event.getDate())
+                        || isVenueDayTaken(event))) {
+                    errors[i] = conflictMessage(event);
+                }
+            }
+            if (errors[i] == null) {
+                accepted.add(event);
+            }
+        }
+
+        // saveAll asigna el ID sobre los mismos objetos recibidos
+        repository.saveAll(accepted);
+        // Solo falla si otra transacción reservó el día entre la validación y
+        // este punto: se revierte toda la carga
+        accepted.forEach(this::reserveVenueDay);
+        accepted.forEach(suggestIndex::index);
+        accepted.forEach(event -> publisher.publishEvent(EventChange.created(event)));
+        if (!accepted.isEmpty()) {
+            stamps.eventsChanged();
+        }
+
+        BulkResult result = new BulkResult();
+        for (int i = 0; i < events.size(); i++) {
+            if (errors[i] == null) {
+                result.created(i, events.get(i).getId());
+            } else {
+                result.rejected(i, errors[i]);
+            }
+        }
+        return result;
+    }
+
+    private String validateForBulk(Event event) {
+        if (event == null) {
+            return "El evento es obligatorio";
+        }
+        if (event.getName() == null || event.getName().isBlank()) {
+            return "El nombre del evento es obligatorio";
+        }
+        if (event.getDate() == null) {
+            return "La fecha del evento es obligatoria";
+        }
+        if (event.getVenue() == null || event.getVenue().getId() == null) {
+            return "El venue es obligatorio";
+        }
+        return null;
     }
 
     @Override
@@ -33,17 +173,137 @@ public class EventServiceImpl implements EventUseCase {
         existing.setDate(event.getDate());
         existing.setVenue(event.getVenue());
         existing.setStatus(event.getStatus());
+        reserveVenueDay(existing);
 
-        return repository.save(existing);
+        Event saved = repository.save(existing);
+        suggestIndex.index(saved);
+        stamps.eventsChanged();
+        publisher.publishEvent(EventChange.updated(saved));
+        return saved;
     }
 
+    /**
+     * Actualización parcial guardada por versión (If-Match).
+     *
+     * - Solo el nombre: un único UPDATE, sin leer el evento.
+     * - Fecha, estado o venue: además se lee el evento como proyección (sin
+     *   entidad) para validar la ocupación del venue con los valores finales.
+     *
+     * El UPDATE incluye "version = expectedVersion": si otra escritura se
+     * confirmó antes, no actualiza nada y se responde 412 sin sobrescribirla.
+     */
     @Override
-    @Transactional(readOnly = true)
+    public Long patch(Long id, Long expectedVersion, EventPatch patch) {
+        if (patch.isEmpty()) {
+            throw new ValidationException("El PATCH no incluye cambios");
+        }
+        if (patch.getName() != null && patch.getName().isBlank()) {
+            throw new ValidationException("El nombre del evento es obligatorio");
+        }
+
+        if (!patch.changesSchedule()) {
+            applyPatch(id, expectedVersion, patch);
+            suggestIndex.rename(id, patch.getName());
+            publisher.publishEvent(EventChange.updated(id, patch.getName(), null, null, null));
+        } else {
+            EventSummary current = repository.findSummaryById(id)
+                    .orElseThrow(() -> new NotFoundException("Event not found with id: " + id));
+            if (patch.getVenueId() != null && venueRepository.findExistingIds(Set.of(patch.getVenueId())).isEmpty()) {
+                throw new NotFoundException("Venue not found with id: " + patch.getVenueId());
+            }
+            Event patched = patched(current, patch);
+            reserveVenueDay(patched);
+            applyPatch(id, expectedVersion, patch);
+            suggestIndex.index(patched);
+            publisher.publishEvent(EventChange.updated(patched));
+        }
+        stamps.eventsChanged();
+        return expectedVersion + 1;
+    }
+
+    private void applyPatch(Long id, Long expectedVersion, EventPatch patch) {
+        if (!repository.updateIfVersion(id, expectedVersion, patch)) {
+            // Solo cuando falla: distinguir evento inexistente de versión vieja
+            Long current = repository.findVersionById(id)
+                    .orElseThrow(() -> new NotFoundException("Event not found with id: " + id));
+            throw new PreconditionFailedException(
+                    "Event " + id + " is at version " + current + ", not " + expectedVersion);
+        }
+    }
+
+    private static Event patched(EventSummary current, EventPatch patch) {
+        Venue venue = new Venue();
+        venue.setId(patch.getVenueId() != null ? patch.getVenueId() : current.getVenueId());
+        return new Event(current.getId(),
+                patch.getName() != null ? patch.getName() : current.getName(),
+                patch.getDate() != null ? patch.getDate() : current.getDate(),
+                patch.getStatus() != null ? patch.getStatus() : current.getStatus(),
+                venue);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // OCUPACIÓN: un venue no puede tener dos eventos ACTIVE el mismo día
+    // ═══════════════════════════════════════════════════════════════════════
+
+    // Con el índice listo no se consulta la base de datos; mientras se carga
+    // se verifica con una consulta antes de reservar
+    private void reserveVenueDay(Event event) {
+        if (!occupancy.isReady() && occupiesVenueDay(event) && isVenueDayTaken(event)) {
+            throw new ConflictException(conflictMessage(event));
+        }
+        if (!occupancy.book(event)) {
+            throw new ConflictException(conflictMessage(event));
+        }
+    }
+
+    private boolean isVenueDayTaken(Event event) {
+        Long venueId = event.getVenue().getId();
+        return occupancy.isReady()
+                ? occupancy.isBooked(venueId, event.getDate(), event.getId())
+                : repository.existsActiveOn(venueId, event.getDate(), event.getId());
+    }
+
+    private static boolean occupiesVenueDay(Event event) {
+        return event.getStatus() == EventStatus.ACTIVE && event.getDate() != null
+                && event.getVenue() != null && event.getVenue().getId() != null;
+    }
+
+    private static String conflictMessage(Event event) {
+        return "Venue " + event.getVenue().getId() + " already has an active event on " + event.getDate();
+    }
+
+    // Sin transacción propia (SUPPORTS): así la búsqueda puede agruparse con
+    // otras en CoalescingEventRepositoryAdapter sin retener una conexión del
+    // pool mientras espera el lote
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Event findById(Long id) {
         return repository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Event not found with id: " + id));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Long findVersion(Long id) {
+        return repository.findVersionById(id)
+                .orElseThrow(() -> new NotFoundException("Event not found with id: " + id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Event> findAllById(List<Long> ids) {
+        Collection<Long> distinct = new LinkedHashSet<>(ids);
+        if (distinct.isEmpty() || distinct.size() > MAX_IDS || distinct.contains(null)) {
+            throw new ValidationException("ids debe tener entre 1 y " + MAX_IDS + " IDs");
+        }
+        Map<Long, Event> found = repository.findAllById(distinct).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        return distinct.stream()
+                .map(found::get)
+                .filter(event -> event != null)
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Event> findAll() {
@@ -53,16 +313,212 @@ public class EventServiceImpl implements EventUseCase {
     @Override
     @Transactional(readOnly = true)
     public List<Event> findAll(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new ValidationException("page debe ser >= 0 y size entre 1 y " + MAX_SEARCH_PAGE_SIZE);
+        }
         return repository.findAll(page, size);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Event> findAllByCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new ValidationException("size debe estar entre 1 y " + MAX_CURSOR_PAGE_SIZE);
+        }
+        EventCursor position = cursor == null || cursor.isBlank() ? null : EventCursor.decode(cursor);
+
+        // Se pide un elemento extra para saber si existe una página siguiente sin COUNT
+        List<Event> events = position == null
+                ? repository.findAllAfter(null, null, size + 1)
+                : repository.findAllAfter(position.getDate(), position.getId(), size + 1);
+
+        if (events.size() <= size) {
+            return new CursorPage<>(events, null);
+        }
+        List<Event> page = events.subList(0, size);
+        return new CursorPage<>(page, EventCursor.of(page.get(size - 1)).encode());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<Event> consumer) {
+        repository.forEachEvent(consumer);
+    }
+
+    // Un solo DELETE: la existencia se decide por las filas borradas
     @Override
     public void delete(Long id) {
-        // Validar que exista antes de borrar
-        if (repository.findById(id).isEmpty()) {
+        if (!repository.deleteById(id)) {
             throw new NotFoundException("Event not found with id: " + id);
         }
-        repository.deleteById(id);
+        suggestIndex.remove(id);
+        occupancy.release(id);
+        stamps.eventsChanged();
+        publisher.publishEvent(EventChange.deleted(id));
+    }
+
+    /**
+     * Borra varios eventos: una consulta de los IDs que existen y un único
+     * DELETE ... WHERE id IN (...) de esos. Los IDs repetidos cuentan una vez y
+     * los inexistentes no son error: el resultado indica cuántos se borraron.
+     * Solo los borrados se quitan de los índices en memoria y se publican como
+     * DELETED. Si el DELETE borra otra cantidad, otra transacción los borró
+     * entre ambas sentencias: se revierte (409), como en las operaciones por
+     * filtro.
+     */
+    @Override
+    public int deleteAll(List<Long> ids) {
+        Collection<Long> distinct = new LinkedHashSet<>(ids);
+        if (distinct.isEmpty() || distinct.size() > MAX_DELETE_IDS || distinct.contains(null)) {
+            throw new ValidationException("ids debe tener entre 1 y " + MAX_DELETE_IDS + " IDs");
+        }
+        Set<Long> existing = repository.findExistingIds(distinct);
+        if (existing.isEmpty()) {
+            return 0;
+        }
+        int deleted = repository.deleteAllById(existing);
+        if (deleted != existing.size()) {
+            throw new ConflictException("Los eventos cambiaron durante el borrado (" + existing.size()
+                    + " leídos, " + deleted + " borrados); reintente");
+        }
+        existing.forEach(eventId -> {
+            suggestIndex.remove(eventId);
+            occupancy.release(eventId);
+            publisher.publishEvent(EventChange.deleted(eventId));
+        });
+        stamps.eventsChanged();
+        return deleted;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // OPERACIONES EN BLOQUE POR FILTRO
+    // ═══════════════════════════════════════════════════════════════════════
+    //
+    // El cambio es un único UPDATE/DELETE con el filtro de search. Antes se
+    // leen los eventos afectados como proyección (una consulta, sin
+    // entidades): los índices en memoria (ocupación, sugerencias) necesitan
+    // saber cuáles cambian. Si el UPDATE/DELETE afecta otra cantidad de filas,
+    // otra transacción cambió el conjunto entre ambas sentencias: se revierte
+    // todo (409) en lugar de dejar los índices desalineados.
+
+    /**
+     * Cancela los eventos ACTIVE que cumplen el filtro (p. ej. todos los
+     * futuros de un venue que cierra). Libera sus días y los quita de las
+     * sugerencias al commit.
+     */
+    @Override
+    public int cancelMatching(EventSearchCriteria criteria) {
+        requireFilter(criteria);
+        if (criteria.getStatus() == EventStatus.CANCELLED) {
+            return 0;
+        }
+        EventSearchCriteria active = withStatus(criteria, EventStatus.ACTIVE);
+        List<EventSummary> affected = affectedBy(active);
+        if (affected.isEmpty()) {
+            return 0;
+        }
+        expectChanged(affected, repository.updateStatusMatching(active, EventStatus.CANCELLED));
+        affected.forEach(event -> {
+            suggestIndex.remove(event.getId());
+            occupancy.release(event.getId());
+            publisher.publishEvent(EventChange.updated(event.getId(), null, null, EventStatus.CANCELLED, null));
+        });
+        stamps.eventsChanged();
+        return affected.size();
+    }
+
+    /**
+     * Corre days días (negativo: adelanta) la fecha de los eventos que cumplen
+     * el filtro. Los días nuevos se validan contra la ocupación del venue; un
+     * día que deja libre otro evento del mismo bloque no cuenta como conflicto.
+     * Los eventos sin fecha no tienen qué correr: se dejan igual y no cuentan.
+     */
+    @Override
+    public int rescheduleMatching(EventSearchCriteria criteria, int days) {
+        requireFilter(criteria);
+        if (days == 0) {
+            throw new ValidationException("days no puede ser 0");
+        }
+        List<EventSummary> affected = affectedBy(criteria).stream()
+                .filter(event -> event.getDate() != null)
+                .toList();
+        if (affected.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> vacated = affected.stream()
+                .filter(event -> event.getStatus() == EventStatus.ACTIVE && event.getVenueId() != null)
+                .map(event -> event.getVenueId() + "@" + event.getDate())
+                .collect(Collectors.toSet());
+        List<Event> moved = affected.stream()
+                .map(event -> shifted(event, days))
+                .toList();
+        for (Event event : moved) {
+            if (occupiesVenueDay(event) && !vacated.contains(event.getVenue().getId() + "@" + event.getDate())
+                    && isVenueDayTaken(event)) {
+                throw new ConflictException(conflictMessage(event));
+            }
+        }
+        if (!occupancy.bookAll(moved)) {
+            throw new ConflictException("Otro evento ocupó uno de los días mientras se reprogramaba el bloque");
+        }
+
+        expectChanged(affected, repository.shiftDatesMatching(criteria, days));
+        moved.forEach(suggestIndex::index);
+        moved.forEach(event -> publisher.publishEvent(EventChange.updated(event)));
+        stamps.eventsChanged();
+        return affected.size();
+    }
+
+    @Override
+    public int deleteMatching(EventSearchCriteria criteria) {
+        requireFilter(criteria);
+        List<EventSummary> affected = affectedBy(criteria);
+        if (affected.isEmpty()) {
+            return 0;
+        }
+        expectChanged(affected, repository.deleteMatching(criteria));
+        affected.forEach(event -> {
+            suggestIndex.remove(event.getId());
+            occupancy.release(event.getId());
+            publisher.publishEvent(EventChange.deleted(event.getId()));
+        });
+        stamps.eventsChanged();
+        return affected.size();
+    }
+
+    // Un filtro vacío afectaría todo el catálogo: se exige al menos uno
+    private static void requireFilter(EventSearchCriteria criteria) {
+        if (criteria.isUnfiltered()) {
+            throw new ValidationException("Indique al menos un filtro (venueId, status, from, to, name o upcoming)");
+        }
+    }
+
+    private List<EventSummary> affectedBy(EventSearchCriteria criteria) {
+        List<EventSummary> affected = repository.findSummaries(criteria, MAX_BULK_SIZE + 1);
+        if (affected.size() > MAX_BULK_SIZE) {
+            throw new ValidationException("El filtro abarca más de " + MAX_BULK_SIZE + " eventos; acótelo");
+        }
+        return affected;
+    }
+
+    private static void expectChanged(List<EventSummary> affected, int changed) {
+        if (changed != affected.size()) {
+            throw new ConflictException("Los eventos del filtro cambiaron durante la operación (" + affected.size()
+                    + " leídos, " + changed + " modificados); reintente");
+        }
+    }
+
+    private static EventSearchCriteria withStatus(EventSearchCriteria criteria, EventStatus status) {
+        return new EventSearchCriteria(criteria.getVenueId(), status, criteria.getFrom(), criteria.getTo(),
+                criteria.getName(), criteria.isUpcoming());
+    }
+
+    private static Event shifted(EventSummary current, int days) {
+        Venue venue = new Venue();
+        venue.setId(current.getVenueId());
+        return new Event(current.getId(), current.getName(), current.getDate().plusDays(days), current.getStatus(),
+                venue);
     }
 
     @Override
@@ -82,4 +538,34 @@ public class EventServiceImpl implements EventUseCase {
     public List<Event> findByStatus(com.riwi.H4.domain.model.EventStatus status) {
         return repository.findByStatus(status);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResult<Event> search(EventSearchCriteria criteria, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new ValidationException("page debe ser >= 0 y size entre 1 y " + MAX_SEARCH_PAGE_SIZE);
+        }
+        return repository.search(criteria, page, size);
+    }
+
+    /**
+     * Autocompletado por prefijo del nombre sobre eventos activos y futuros,
+     * ordenado por fecha. Se resuelve con el índice en memoria; mientras se
+     * carga, con una consulta LIKE 'prefijo%' con el mismo filtro y orden.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventSummary> suggest(String prefix, int limit) {
+        if (limit < 1 || limit > MAX_SUGGEST_LIMIT) {
+            throw new ValidationException("limit debe estar entre 1 y " + MAX_SUGGEST_LIMIT);
+        }
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        if (suggestIndex.isReady()) {
+            return suggestIndex.suggest(prefix, limit);
+        }
+
+        return repository.findUpcomingByNamePrefix(prefix, limit);
+    }
 }
@@ -0,0 +1,207 @@
+package com.riwi.H4.application.service;
+
+import com.riwi.H4.application.port.in.VenueRemovalUseCase;
+import com.riwi.H4.application.port.out.CatalogStampPort;
+import com.riwi.H4.application.port.out.EventRepositoryPort;
+import com.riwi.H4.application.port.out.EventSuggestIndexPort;
+import com.riwi.H4.application.port.out.VenueOccupancyPort;
+import com.riwi.H4.application.port.out.VenueRepositoryPort;
+import com.riwi.H4.application.port.out.VenueSearchIndexPort;
+import com.riwi.H4.domain.exception.NotFoundException;
+import com.riwi.H4.domain.exception.ValidationException;
+import com.riwi.H4.domain.model.EventChange;
+import com.riwi.H4.domain.model.VenueChange;
+import com.riwi.H4.domain.model.VenueRemoval;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Eliminación de un venue con muchos eventos, por lotes y en segundo plano.
+ *
+ * DELETE /venues/{id} borra los eventos con un solo DELETE: con 100k eventos
+ * es una transacción larga que bloquea todas esas filas hasta el commit.
+ * Aquí:
+ *
+ * 1. Cada lote es una transacción propia (REQUIRES_NEW): lee hasta chunkSize
+ *    IDs del venue, con archive los copia a events_archive (INSERT ...
+ *    SELECT) y los borra con un DELETE ... IN. Ni entidades ni filas
+ *    completas pasan por la memoria de la aplicación.
+ * 2. El lote que encuentra menos de chunkSize eventos borra también el venue,
+ *    en la misma transacción.
+ * 3. El progreso (eventos borrados / total estimado, lotes) se consulta con
+ *    GET /venues/removals/{id}.
+ *
+ * Las eliminaciones corren de a una en un hilo propio, para no competir
+ * entre sí por locks ni por conexiones del pool. Si falla un lote, los
+ * anteriores quedan confirmados: lanzar otra vez la eliminación continúa
+ * donde quedó.
+ */
+@Service
+public class VenueRemovalServiceImpl implements VenueRemovalUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(VenueRemovalServiceImpl.class);
+
+    private static final int MAX_CHUNK_SIZE = 10_000;
+    private static final int MAX_TRACKED_REMOVALS = 100;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final VenueRepositoryPort repository;
+    private final EventRepositoryPort eventRepository;
+    private final VenueSearchIndexPort searchIndex;
+    private final VenueOccupancyPort occupancy;
+    private final EventSuggestIndexPort suggestIndex;
+    private final CatalogStampPort stamps;
+    private final ApplicationEventPublisher publisher;
+    private final TransactionTemplate chunkTransaction;
+    private final ExecutorService worker;
+
+    // Las últimas eliminaciones (en curso y terminadas), para consultar su progreso
+    private final Map<String, VenueRemoval> removals = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, VenueRemoval> eldest) {
+            return size() > MAX_TRACKED_REMOVALS && eldest.getValue().isFinished();
+        }
+    };
+
+    public VenueRemovalServiceImpl(VenueRepositoryPort repository, EventRepositoryPort eventRepository,
+            VenueSearchIndexPort searchIndex, VenueOccupancyPort occupancy, EventSuggestIndexPort suggestIndex,
+            CatalogStampPort stamps, ApplicationEventPublisher publisher, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.eventRepository = eventRepository;
+        this.searchIndex = searchIndex;
+        this.occupancy = occupancy;
+        this.suggestIndex = suggestIndex;
+        this.stamps = stamps;
+        this.publisher = publisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "venue-removal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public VenueRemoval start(Long venueId, boolean archive, int chunkSize) {
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new ValidationException("chunkSize debe estar entre 1 y " + MAX_CHUNK_SIZE);
+        }
+        if (repository.findExistingIds(Set.of(venueId)).isEmpty()) {
+            throw new NotFoundException("Venue not found with id: " + venueId);
+        }
+
+        VenueRemoval removal;
+        synchronized (removals) {
+            VenueRemoval pending = removals.values().stream()
+                    .filter(existing -> existing.getVenueId().equals(venueId) && !existing.isFinished())
+                    .findFirst()
+                    .orElse(null);
+            if (pending != null) {
+                return pending;
+            }
+            removal = new VenueRemoval(UUID.randomUUID().toString(), venueId, archive, chunkSize);
+            removals.put(removal.getId(), removal);
+        }
+        worker.execute(() -> run(removal));
+        return removal;
+    }
+
+    @Override
+    public VenueRemoval findById(String removalId) {
+        synchronized (removals) {
+            VenueRemoval removal = removals.get(removalId);
+            if (removal == null) {
+                throw new NotFoundException("Venue removal not found with id: " + removalId);
+            }
+            return removal;
+        }
+    }
+
+    private void run(VenueRemoval removal) {
+        Long venueId = removal.getVenueId();
+        try {
+            removal.start(eventRepository.countByVenue(venueId));
+            log.info("Eliminando venue {}: ~{} eventos en lotes de {}{}", venueId, removal.getTotalEvents(),
+                    removal.getChunkSize(), removal.isArchive() ? " (con archivo)" : "");
+            int failures = 0;
+            while (true) {
+                Chunk chunk;
+                try {
+                    chunk = chunkTransaction.execute(status -> removeChunk(removal));
+                } catch (DataIntegrityViolationException e) {
+                    // Se creó un evento en el venue durante el último lote: la FK
+                    // rechaza el DELETE del venue y el lote se revierte completo
+                    if (++failures >= MAX_ATTEMPTS) {
+                        throw e;
+                    }
+                    continue;
+                }
+                failures = 0;
+                removal.chunkCommitted(chunk.deleted(), chunk.archived());
+                log.debug("Venue {}: {} / ~{} eventos eliminados", venueId, removal.getDeletedEvents(),
+                        removal.getTotalEvents());
+                if (chunk.last()) {
+                    break;
+                }
+            }
+            removal.complete();
+            log.info("Venue {} eliminado: {} eventos en {} lotes ({} archivados)", venueId,
+                    removal.getDeletedEvents(), removal.getChunks(), removal.getArchivedEvents());
+        } catch (RuntimeException e) {
+            removal.fail(e.getMessage());
+            log.warn("Falló la eliminación del venue {} tras {} eventos", venueId, removal.getDeletedEvents(), e);
+        }
+    }
+
+    // Un lote dentro de su transacción. Los índices en memoria se actualizan al commit.
+    private Chunk removeChunk(VenueRemoval removal) {
+        Long venueId = removal.getVenueId();
+        List<Long> ids = eventRepository.findIdsByVenue(venueId, removal.getChunkSize());
+        int archived = 0;
+        int deleted = 0;
+        if (!ids.isEmpty()) {
+            if (removal.isArchive()) {
+                archived = eventRepository.archiveAllById(ids);
+            }
+            deleted = eventRepository.deleteAllById(ids);
+            ids.forEach(suggestIndex::remove);
+            ids.forEach(occupancy::release);
+            ids.forEach(id -> publisher.publishEvent(EventChange.deleted(id)));
+            stamps.eventsChanged();
+        }
+
+        boolean last = ids.size() < removal.getChunkSize();
+        if (last && repository.deleteById(venueId)) {
+            searchIndex.remove(venueId);
+            occupancy.removeVenue(venueId);
+            suggestIndex.removeVenue(venueId);
+            stamps.venuesChanged();
+            publisher.publishEvent(VenueChange.deleted(venueId));
+        }
+        return new Chunk(deleted, archived, last);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private record Chunk(int deleted, int archived, boolean last) {
+    }
+}
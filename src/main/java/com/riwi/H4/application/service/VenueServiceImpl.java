@@ -1,27 +1,64 @@
 package com.riwi.H4.application.service;
 
 import com.riwi.H4.application.port.in.VenueUseCase;
+import com.riwi.H4.application.port.out.CatalogStampPort;
+import com.riwi.H4.application.port.out.EventRepositoryPort;
+import com.riwi.H4.application.port.out.EventSuggestIndexPort;
+import com.riwi.H4.application.port.out.VenueOccupancyPort;
 import com.riwi.H4.application.port.out.VenueRepositoryPort;
+import com.riwi.H4.application.port.out.VenueSearchIndexPort;
 import com.riwi.H4.domain.exception.NotFoundException;
+import com.riwi.H4.domain.exception.ValidationException;
+import com.riwi.H4.domain.model.EventStatus;
 import com.riwi.H4.domain.model.Venue;
+import com.riwi.H4.domain.model.VenueAvailability;
+import com.riwi.H4.domain.model.VenueChange;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Transactional
 public class VenueServiceImpl implements VenueUseCase {
 
+    private static final int DEFAULT_AVAILABILITY_DAYS = 30;
+    private static final int MAX_AVAILABILITY_DAYS = 366;
+
     private final VenueRepositoryPort repository;
+    private final VenueSearchIndexPort searchIndex;
+    private final VenueOccupancyPort occupancy;
+    private final EventRepositoryPort eventRepository;
+    private final CatalogStampPort stamps;
+    private final EventSuggestIndexPort suggestIndex;
+    // Publica un VenueChange por cada escritura; los oyentes lo reciben al commit
+    private final ApplicationEventPublisher publisher;
 
-    public VenueServiceImpl(VenueRepositoryPort repository) {
+    public VenueServiceImpl(VenueRepositoryPort repository, VenueSearchIndexPort searchIndex,
+            VenueOccupancyPort occupancy, EventRepositoryPort eventRepository, CatalogStampPort stamps,
+            EventSuggestIndexPort suggestIndex, ApplicationEventPublisher publisher) {
         this.repository = repository;
+        this.searchIndex = searchIndex;
+        this.occupancy = occupancy;
+        this.eventRepository = eventRepository;
+        this.stamps = stamps;
+        this.suggestIndex = suggestIndex;
+        this.publisher = publisher;
     }
 
     @Override
     public Venue create(Venue venue) {
-        return repository.save(venue);
+        Venue saved = repository.save(venue);
+        searchIndex.index(saved);
+        stamps.venuesChanged();
+        publisher.publishEvent(VenueChange.created(saved));
+        return saved;
     }
 
     @Override
@@ -33,7 +70,11 @@ public class VenueServiceImpl implements VenueUseCase {
         found.setLocation(venue.getLocation());
         found.setCapacity(venue.getCapacity());
 
-        return repository.save(found);
+        Venue saved = repository.save(found);
+        searchIndex.index(saved);
+        stamps.venuesChanged();
+        publisher.publishEvent(VenueChange.updated(saved));
+        return saved;
     }
 
     @Override
@@ -43,19 +84,39 @@ public class VenueServiceImpl implements VenueUseCase {
                 .orElseThrow(() -> new NotFoundException("Venue not found with id: " + id));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Long findVersion(Long id) {
+        return repository.findVersionById(id)
+                .orElseThrow(() -> new NotFoundException("Venue not found with id: " + id));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Venue> findAll() {
         return repository.findAll();
     }
 
+    /**
+     * Dos sentencias, sin importar cuántos eventos tenga el venue: DELETE de
+     * sus eventos y DELETE del venue. El cascade de JPA cargaba el venue y su
+     * colección y borraba los eventos de a uno. Si el venue no existía, el
+     * primer DELETE no borró nada y el rollback lo deshace igual.
+     */
     @Override
     public void delete(Long id) {
-        // validar antes de borrar
-        if (repository.findById(id).isEmpty()) {
+        int events = eventRepository.deleteByVenueId(id);
+        if (!repository.deleteById(id)) {
             throw new NotFoundException("Venue not found with id: " + id);
         }
-        repository.deleteById(id);
+        searchIndex.remove(id);
+        occupancy.removeVenue(id);
+        suggestIndex.removeVenue(id);
+        stamps.venuesChanged();
+        publisher.publishEvent(VenueChange.deleted(id));
+        if (events > 0) {
+            stamps.eventsChanged();
+        }
     }
 
     @Override
@@ -67,6 +128,53 @@ public class VenueServiceImpl implements VenueUseCase {
     @Override
     @Transactional(readOnly = true)
     public List<Venue> findByLocation(String location) {
+        // Índice de trigramas en memoria; la base de datos solo mientras el índice se carga
+        if (searchIndex.isReady()) {
+            return searchIndex.findByLocation(location);
+        }
         return repository.findByLocation(location);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Venue> findByName(String name) {
+        if (searchIndex.isReady()) {
+            return searchIndex.findByName(name);
+        }
+        return repository.findByName(name);
+    }
+
+    /**
+     * Disponibilidad del venue día por día, leída del bitmap de ocupación
+     * (sin consultar eventos). Por defecto, los próximos 30 días desde hoy.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public VenueAvailability availability(Long id, LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = to != null ? to : start.plusDays(DEFAULT_AVAILABILITY_DAYS - 1);
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= MAX_AVAILABILITY_DAYS) {
+            throw new ValidationException("El rango debe tener entre 1 y " + MAX_AVAILABILITY_DAYS + " días");
+        }
+        findById(id);
+
+        List<LocalDate> booked = occupancy.isReady()
+                ? occupancy.bookedDays(id, start, end)
+                : eventRepository.findByVenue(id).stream()
+                        .filter(event -> event.getStatus() == EventStatus.ACTIVE && event.getDate() != null
+                                && !event.getDate().isBefore(start) && !event.getDate().isAfter(end))
+                        .map(event -> event.getDate())
+                        .distinct()
+                        .sorted()
+                        .toList();
+
+        Set<LocalDate> bookedSet = new HashSet<>(booked);
+        List<LocalDate> available = new ArrayList<>();
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            if (!bookedSet.contains(day)) {
+                available.add(day);
+            }
+        }
+        return new VenueAvailability(id, start, end, booked, available);
+    }
 }
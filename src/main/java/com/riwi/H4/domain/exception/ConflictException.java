@@ -0,0 +1,7 @@
+package com.riwi.H4.domain.exception;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
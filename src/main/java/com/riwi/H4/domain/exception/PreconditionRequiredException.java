@@ -0,0 +1,7 @@
+package com.riwi.H4.domain.exception;
+
+public class PreconditionRequiredException extends RuntimeException {
+    public PreconditionRequiredException(String message) {
+        super(message);
+    }
+}
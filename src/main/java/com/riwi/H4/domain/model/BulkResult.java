@@ -0,0 +1,75 @@
+package com.riwi.H4.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de una operación masiva: un ítem por cada elemento recibido,
+ * en el mismo orden, indicando si fue creado (con su ID) o rechazado (con el motivo).
+ */
+public class BulkResult {
+
+    private final List<Item> items = new ArrayList<>();
+
+    private int created;
+
+    private int rejected;
+
+    public void created(int index, Long id) {
+        items.add(new Item(index, id, null));
+        created++;
+    }
+
+    public void rejected(int index, String error) {
+        items.add(new Item(index, null, error));
+        rejected++;
+    }
+
+    public List<Item> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    public int getReceived() {
+        return items.size();
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public static class Item {
+
+        private final int index;
+
+        private final Long id;
+
+        private final String error;
+
+        public Item(int index, Long id, String error) {
+            this.index = index;
+            this.id = id;
+            this.error = error;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public boolean isCreated() {
+            return error == null;
+        }
+    }
+}
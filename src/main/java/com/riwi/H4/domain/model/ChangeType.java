@@ -0,0 +1,11 @@
+package com.riwi.H4.domain.model;
+
+/**
+ * Tipo de cambio confirmado de un evento o un venue (ver EventChange y
+ * VenueChange).
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
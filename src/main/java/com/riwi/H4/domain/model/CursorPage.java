@@ -0,0 +1,31 @@
+package com.riwi.H4.domain.model;
+
+import java.util.List;
+
+/**
+ * Página de resultados obtenida con paginación keyset.
+ * nextCursor es null cuando no hay más resultados.
+ */
+public class CursorPage<T> {
+
+    private final List<T> items;
+
+    private final String nextCursor;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -14,6 +14,9 @@ public class Event {
 
     private Venue venue;
 
+    // Versión de la fila (bloqueo optimista); null en eventos aún no guardados
+    private Long version;
+
     public Event() {
         this.status = EventStatus.ACTIVE; // Default status
     }
@@ -73,4 +76,12 @@ public class Event {
     public void setStatus(EventStatus status) {
         this.status = status;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
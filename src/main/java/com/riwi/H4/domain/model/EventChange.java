@@ -0,0 +1,88 @@
+package com.riwi.H4.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Cambio de un evento publicado por los services como evento de aplicación.
+ * Los oyentes lo reciben después del commit de la transacción que lo produjo
+ * (@TransactionalEventListener): un rollback no publica nada.
+ *
+ * - CREATED: todos los campos.
+ * - UPDATED: los campos null no cambiaron (p. ej. un PATCH que solo
+ *   renombra o una cancelación en bloque, que solo cambia el estado).
+ * - DELETED: solo el ID.
+ */
+public class EventChange {
+
+    private final ChangeType type;
+
+    private final Long eventId;
+
+    private final String name;
+
+    private final LocalDate date;
+
+    private final EventStatus status;
+
+    private final Long venueId;
+
+    private EventChange(ChangeType type, Long eventId, String name, LocalDate date, EventStatus status,
+            Long venueId) {
+        this.type = type;
+        this.eventId = eventId;
+        this.name = name;
+        this.date = date;
+        this.status = status;
+        this.venueId = venueId;
+    }
+
+    public static EventChange created(Event event) {
+        return of(ChangeType.CREATED, event);
+    }
+
+    public static EventChange updated(Event event) {
+        return of(ChangeType.UPDATED, event);
+    }
+
+    public static EventChange updated(Long eventId, String name, LocalDate date, EventStatus status, Long venueId) {
+        return new EventChange(ChangeType.UPDATED, eventId, name, date, status, venueId);
+    }
+
+    public static EventChange deleted(Long eventId) {
+        return new EventChange(ChangeType.DELETED, eventId, null, null, null, null);
+    }
+
+    private static EventChange of(ChangeType type, Event event) {
+        return new EventChange(type, event.getId(), event.getName(), event.getDate(), event.getStatus(),
+                event.getVenue() == null ? null : event.getVenue().getId());
+    }
+
+    // true si trae todos los datos del evento (no es un UPDATED parcial)
+    public boolean isComplete() {
+        return name != null && date != null && status != null && venueId != null;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public EventStatus getStatus() {
+        return status;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+}
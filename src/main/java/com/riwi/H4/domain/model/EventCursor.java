@@ -0,0 +1,64 @@
+package com.riwi.H4.domain.model;
+
+import com.riwi.H4.domain.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posición de un cursor de paginación keyset sobre eventos.
+ * Identifica el último evento entregado por su clave de orden (date, id);
+ * date es null si ese evento no tiene fecha (van al final del recorrido).
+ *
+ * Para el cliente el cursor es un token opaco (Base64 URL-safe); solo debe
+ * devolverlo tal cual para pedir la siguiente página.
+ */
+public class EventCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final LocalDate date;
+
+    private final Long id;
+
+    public EventCursor(LocalDate date, Long id) {
+        this.date = date;
+        this.id = id;
+    }
+
+    public static EventCursor of(Event event) {
+        return new EventCursor(event.getDate(), event.getId());
+    }
+
+    public String encode() {
+        String raw = (date == null ? "" : date.toString()) + "|" + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventCursor decode(String token) {
+        try {
+            String raw = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new ValidationException("Cursor inválido");
+            }
+            String date = raw.substring(0, separator);
+            return new EventCursor(
+                    date.isEmpty() ? null : LocalDate.parse(date),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Cursor inválido");
+        }
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
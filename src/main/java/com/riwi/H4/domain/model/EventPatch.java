@@ -0,0 +1,69 @@
+package com.riwi.H4.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Cambios parciales de un evento (PATCH).
+ * Cada campo null significa "sin cambios"; solo los presentes se escriben.
+ */
+public class EventPatch {
+
+    private String name;
+
+    private LocalDate date;
+
+    private EventStatus status;
+
+    private Long venueId;
+
+    public EventPatch() {
+    }
+
+    public EventPatch(String name, LocalDate date, EventStatus status, Long venueId) {
+        this.name = name;
+        this.date = date;
+        this.status = status;
+        this.venueId = venueId;
+    }
+
+    public boolean isEmpty() {
+        return name == null && !changesSchedule();
+    }
+
+    // Fecha, estado o venue: los campos que deciden la ocupación del venue
+    public boolean changesSchedule() {
+        return date != null || status != null || venueId != null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public EventStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EventStatus status) {
+        this.status = status;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public void setVenueId(Long venueId) {
+        this.venueId = venueId;
+    }
+}
@@ -0,0 +1,89 @@
+package com.riwi.H4.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Filtros opcionales para la búsqueda de eventos.
+ * Cada campo null significa "sin filtro"; los presentes se combinan con AND.
+ */
+public class EventSearchCriteria {
+
+    private Long venueId;
+
+    private EventStatus status;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private String name;
+
+    private boolean upcoming; // solo eventos con fecha >= hoy
+
+    public EventSearchCriteria() {
+    }
+
+    public EventSearchCriteria(Long venueId, EventStatus status, LocalDate from, LocalDate to, String name,
+            boolean upcoming) {
+        this.venueId = venueId;
+        this.status = status;
+        this.from = from;
+        this.to = to;
+        this.name = name;
+        this.upcoming = upcoming;
+    }
+
+    // Sin ningún filtro: coincide con todos los eventos
+    public boolean isUnfiltered() {
+        return venueId == null && status == null && from == null && to == null
+                && (name == null || name.isBlank()) && !upcoming;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public void setVenueId(Long venueId) {
+        this.venueId = venueId;
+    }
+
+    public EventStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EventStatus status) {
+        this.status = status;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isUpcoming() {
+        return upcoming;
+    }
+
+    public void setUpcoming(boolean upcoming) {
+        this.upcoming = upcoming;
+    }
+}
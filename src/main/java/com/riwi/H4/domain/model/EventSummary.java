@@ -0,0 +1,49 @@
+package com.riwi.H4.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Vista de solo lectura de un evento para listados.
+ * Se construye directamente desde una proyección JPQL (SELECT new ...), sin
+ * hidratar EventEntity ni pasar por los mappers.
+ */
+public class EventSummary {
+
+    private final Long id;
+
+    private final String name;
+
+    private final LocalDate date;
+
+    private final EventStatus status;
+
+    private final Long venueId;
+
+    public EventSummary(Long id, String name, LocalDate date, EventStatus status, Long venueId) {
+        this.id = id;
+        this.name = name;
+        this.date = date;
+        this.status = status;
+        this.venueId = venueId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public EventStatus getStatus() {
+        return status;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+}
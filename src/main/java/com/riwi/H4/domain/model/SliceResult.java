@@ -0,0 +1,41 @@
+package com.riwi.H4.domain.model;
+
+import java.util.List;
+
+/**
+ * Página de resultados sin total de elementos (no requiere COUNT).
+ * hasNext indica si existe al menos un elemento más después de esta página.
+ */
+public class SliceResult<T> {
+
+    private final List<T> items;
+
+    private final int page;
+
+    private final int size;
+
+    private final boolean hasNext;
+
+    public SliceResult(List<T> items, int page, int size, boolean hasNext) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+}
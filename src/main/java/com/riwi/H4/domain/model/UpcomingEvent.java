@@ -0,0 +1,50 @@
+package com.riwi.H4.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Evento activo y futuro con el nombre de su venue ya resuelto (desnormalizado).
+ * Es inmutable: el read model en memoria comparte la misma instancia entre
+ * todas las lecturas, y la base de datos la construye directamente con una
+ * proyección JPQL (SELECT new ...).
+ */
+public class UpcomingEvent {
+
+    private final Long id;
+
+    private final String name;
+
+    private final LocalDate date;
+
+    private final Long venueId;
+
+    private final String venueName;
+
+    public UpcomingEvent(Long id, String name, LocalDate date, Long venueId, String venueName) {
+        this.id = id;
+        this.name = name;
+        this.date = date;
+        this.venueId = venueId;
+        this.venueName = venueName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public String getVenueName() {
+        return venueName;
+    }
+}
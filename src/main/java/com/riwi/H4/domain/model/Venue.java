@@ -10,6 +10,9 @@ public class Venue {
 
     private Integer capacity;
 
+    // Versión de la fila (bloqueo optimista); null en venues aún no guardados
+    private Long version;
+
     public Venue() {
     }
 
@@ -51,4 +54,12 @@ public class Venue {
     public void setLocation(String location) {
         this.location = location;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
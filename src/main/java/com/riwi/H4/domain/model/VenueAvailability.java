@@ -0,0 +1,50 @@
+package com.riwi.H4.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Días ocupados y libres de un venue en un rango de fechas (inclusive).
+ * Un día está ocupado si tiene un evento ACTIVE.
+ */
+public class VenueAvailability {
+
+    private final Long venueId;
+
+    private final LocalDate from;
+
+    private final LocalDate to;
+
+    private final List<LocalDate> bookedDates;
+
+    private final List<LocalDate> availableDates;
+
+    public VenueAvailability(Long venueId, LocalDate from, LocalDate to, List<LocalDate> bookedDates,
+            List<LocalDate> availableDates) {
+        this.venueId = venueId;
+        this.from = from;
+        this.to = to;
+        this.bookedDates = bookedDates;
+        this.availableDates = availableDates;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public List<LocalDate> getBookedDates() {
+        return bookedDates;
+    }
+
+    public List<LocalDate> getAvailableDates() {
+        return availableDates;
+    }
+}
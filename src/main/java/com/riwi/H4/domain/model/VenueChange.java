@@ -0,0 +1,63 @@
+package com.riwi.H4.domain.model;
+
+/**
+ * Cambio de un venue publicado por los services como evento de aplicación,
+ * recibido por los oyentes después del commit.
+ *
+ * DELETED implica que también se borraron todos los eventos del venue; no se
+ * publica un EventChange por cada uno.
+ */
+public class VenueChange {
+
+    private final ChangeType type;
+
+    private final Long venueId;
+
+    private final String name;
+
+    private final String location;
+
+    private final Integer capacity;
+
+    private VenueChange(ChangeType type, Long venueId, String name, String location, Integer capacity) {
+        this.type = type;
+        this.venueId = venueId;
+        this.name = name;
+        this.location = location;
+        this.capacity = capacity;
+    }
+
+    public static VenueChange created(Venue venue) {
+        return new VenueChange(ChangeType.CREATED, venue.getId(), venue.getName(), venue.getLocation(),
+                venue.getCapacity());
+    }
+
+    public static VenueChange updated(Venue venue) {
+        return new VenueChange(ChangeType.UPDATED, venue.getId(), venue.getName(), venue.getLocation(),
+                venue.getCapacity());
+    }
+
+    public static VenueChange deleted(Long venueId) {
+        return new VenueChange(ChangeType.DELETED, venueId, null, null, null);
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,123 @@
+package com.riwi.H4.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Progreso de la eliminación por lotes de un venue y sus eventos.
+ *
+ * La actualiza el hilo que procesa los lotes y la leen las consultas de
+ * estado: los campos son volatile y cada lote suma su resultado una vez
+ * confirmado.
+ */
+public class VenueRemoval {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+
+    private final Long venueId;
+
+    private final boolean archive;
+
+    private final int chunkSize;
+
+    private final Instant requestedAt;
+
+    private volatile Status status = Status.QUEUED;
+
+    private volatile long totalEvents; // estimado al empezar (COUNT)
+
+    private volatile long deletedEvents;
+
+    private volatile long archivedEvents;
+
+    private volatile int chunks;
+
+    private volatile Instant finishedAt;
+
+    private volatile String error;
+
+    public VenueRemoval(String id, Long venueId, boolean archive, int chunkSize) {
+        this.id = id;
+        this.venueId = venueId;
+        this.archive = archive;
+        this.chunkSize = chunkSize;
+        this.requestedAt = Instant.now();
+    }
+
+    public void start(long totalEvents) {
+        this.totalEvents = totalEvents;
+        this.status = Status.RUNNING;
+    }
+
+    public void chunkCommitted(int deleted, int archived) {
+        deletedEvents += deleted;
+        archivedEvents += archived;
+        chunks++;
+    }
+
+    public void complete() {
+        finishedAt = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public boolean isArchive() {
+        return archive;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public Instant getRequestedAt() {
+        return requestedAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public long getTotalEvents() {
+        return totalEvents;
+    }
+
+    public long getDeletedEvents() {
+        return deletedEvents;
+    }
+
+    public long getArchivedEvents() {
+        return archivedEvents;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
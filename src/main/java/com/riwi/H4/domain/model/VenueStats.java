@@ -0,0 +1,64 @@
+package com.riwi.H4.domain.model;
+
+/**
+ * Estadísticas de eventos de un venue para el dashboard.
+ * Se construye directamente desde una consulta agregada (GROUP BY) con
+ * constructor expression: no se hidrata ningún EventEntity.
+ *
+ * upcoming cuenta los eventos ACTIVE con fecha desde hoy (inclusive).
+ */
+public class VenueStats {
+
+    private final Long venueId;
+
+    private final String name;
+
+    private final Integer capacity;
+
+    private final Long totalEvents;
+
+    private final Long activeEvents;
+
+    private final Long cancelledEvents;
+
+    private final Long upcomingEvents;
+
+    public VenueStats(Long venueId, String name, Integer capacity, Long totalEvents, Long activeEvents,
+            Long cancelledEvents, Long upcomingEvents) {
+        this.venueId = venueId;
+        this.name = name;
+        this.capacity = capacity;
+        this.totalEvents = totalEvents;
+        this.activeEvents = activeEvents;
+        this.cancelledEvents = cancelledEvents;
+        this.upcomingEvents = upcomingEvents;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public Long getTotalEvents() {
+        return totalEvents;
+    }
+
+    public Long getActiveEvents() {
+        return activeEvents;
+    }
+
+    public Long getCancelledEvents() {
+        return cancelledEvents;
+    }
+
+    public Long getUpcomingEvents() {
+        return upcomingEvents;
+    }
+}
@@ -0,0 +1,39 @@
+package com.riwi.H4.domain.model;
+
+/**
+ * Vista de solo lectura de un venue para listados.
+ * Se construye directamente desde una proyección JPQL (SELECT new ...).
+ */
+public class VenueSummary {
+
+    private final Long id;
+
+    private final String name;
+
+    private final String location;
+
+    private final Integer capacity;
+
+    public VenueSummary(Long id, String name, String location, Integer capacity) {
+        this.id = id;
+        this.name = name;
+        this.location = location;
+        this.capacity = capacity;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+}
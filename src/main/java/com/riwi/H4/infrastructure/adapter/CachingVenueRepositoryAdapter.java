@@ -0,0 +1,176 @@
+package com.riwi.H4.infrastructure.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.riwi.H4.application.port.out.VenueRepositoryPort;
+import com.riwi.H4.domain.model.Venue;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Decorador de VenueRepositoryPort con caché read-through en memoria.
+ *
+ * Los venues se leen constantemente y casi nunca cambian: findById se
+ * responde desde la caché y solo va a la base de datos en un miss.
+ * La caché está acotada por tamaño (LRU aproximado de Caffeine) y por TTL,
+ * y registra estadísticas de hits, misses y evictions.
+ *
+ * Consistencia: save/deleteById invalidan la entrada en el momento y otra
+ * vez al terminar la transacción. Cada invalidación incrementa antes la
+ * generación del ID; un miss solo guarda lo que leyó si la generación no
+ * cambió durante la lectura. Así una lectura que empezó antes del commit no
+ * vuelve a dejar en caché el valor anterior después de la invalidación (ni
+ * su versión, que usa el GET condicional).
+ *
+ * Se registra en BeanConfig solo si app.cache.venues.enabled=true.
+ */
+public class CachingVenueRepositoryAdapter implements VenueRepositoryPort {
+
+    // Generaciones por franja de IDs (potencia de 2). Dos IDs de la misma
+    // franja comparten generación: a lo sumo se descarta un put de más
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final VenueRepositoryPort delegate;
+    private final Cache<Long, Venue> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public CachingVenueRepositoryAdapter(VenueRepositoryPort delegate, long maxSize, Duration ttl) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Venue save(Venue venue) {
+        Venue saved = delegate.save(venue);
+        evict(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<Venue> findById(Long id) {
+        Venue cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+        long generation = generations.get(stripe(id));
+        Optional<Venue> loaded = delegate.findById(id);
+        loaded.ifPresent(venue -> putIfUnchanged(id, copy(venue), generation));
+        return loaded;
+    }
+
+    /**
+     * Guarda el venue leído salvo que una invalidación haya ocurrido desde
+     * que empezó la lectura. La comprobación corre dentro de compute, con el
+     * lock de la entrada: una invalidación posterior espera a que termine y
+     * la quita, y una anterior ya incrementó la generación.
+     */
+    private void putIfUnchanged(Long id, Venue venue, long generation) {
+        cache.asMap().compute(id, (key, current) ->
+                generations.get(stripe(key)) == generation ? venue : current);
+    }
+
+    // Un venue en caché ya trae su versión: el GET condicional no va a la base de datos
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        Venue cached = cache.getIfPresent(id);
+        if (cached != null && cached.getVersion() != null) {
+            return Optional.of(cached.getVersion());
+        }
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public List<Venue> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        boolean deleted = delegate.deleteById(id);
+        evict(id);
+        return deleted;
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        // Los IDs en caché existen; solo se consultan los restantes
+        Set<Long> existing = new HashSet<>();
+        Set<Long> unknown = new HashSet<>();
+        for (Long id : ids) {
+            if (cache.getIfPresent(id) != null) {
+                existing.add(id);
+            } else {
+                unknown.add(id);
+            }
+        }
+        existing.addAll(delegate.findExistingIds(unknown));
+        return existing;
+    }
+
+    @Override
+    public List<Venue> findByMinimumCapacity(Integer capacity) {
+        return delegate.findByMinimumCapacity(capacity);
+    }
+
+    @Override
+    public List<Venue> findByLocation(String location) {
+        return delegate.findByLocation(location);
+    }
+
+    @Override
+    public List<Venue> findByName(String name) {
+        return delegate.findByName(name);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private void evict(Long id) {
+        invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(id);
+                }
+            });
+        }
+    }
+
+    // La generación sube antes de quitar la entrada (ver putIfUnchanged)
+    private void invalidate(Long id) {
+        generations.incrementAndGet(stripe(id));
+        cache.invalidate(id);
+    }
+
+    private static int stripe(Long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & (GENERATION_STRIPES - 1);
+    }
+
+    // Venue es mutable (los services modifican el objeto encontrado antes de
+    // guardarlo): se guardan y se entregan copias para no alterar la caché.
+    private static Venue copy(Venue venue) {
+        Venue copy = new Venue(venue.getId(), venue.getName(), venue.getLocation(), venue.getCapacity());
+        copy.setVersion(venue.getVersion());
+        return copy;
+    }
+}
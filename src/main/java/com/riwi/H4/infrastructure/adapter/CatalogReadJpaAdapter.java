@@ -0,0 +1,53 @@
+package com.riwi.H4.infrastructure.adapter;
+
+import com.riwi.H4.application.port.out.CatalogReadPort;
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.EventSummary;
+import com.riwi.H4.domain.model.UpcomingEvent;
+import com.riwi.H4.domain.model.VenueStats;
+import com.riwi.H4.domain.model.VenueSummary;
+import com.riwi.H4.infrastructure.repository.jpa.EventJpaRepository;
+import com.riwi.H4.infrastructure.repository.jpa.VenueJpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public class CatalogReadJpaAdapter implements CatalogReadPort {
+
+    private final EventJpaRepository eventRepository;
+    private final VenueJpaRepository venueRepository;
+
+    public CatalogReadJpaAdapter(EventJpaRepository eventRepository, VenueJpaRepository venueRepository) {
+        this.eventRepository = eventRepository;
+        this.venueRepository = venueRepository;
+    }
+
+    @Override
+    public List<EventSummary> findAllEvents() {
+        return eventRepository.findAllSummaries();
+    }
+
+    @Override
+    public List<EventSummary> findEvents(int page, int size) {
+        return eventRepository.findSummaries(PageRequest.of(page, size));
+    }
+
+    @Override
+    public List<VenueSummary> findAllVenues() {
+        return venueRepository.findAllSummaries();
+    }
+
+    @Override
+    public List<VenueStats> findVenueStats(LocalDate from, LocalDate to, LocalDate today) {
+        return eventRepository.findVenueStats(from, to, today, EventStatus.ACTIVE, EventStatus.CANCELLED);
+    }
+
+    @Override
+    public List<UpcomingEvent> findUpcomingEvents(LocalDate from, int limit) {
+        return eventRepository.findUpcoming(EventStatus.ACTIVE, from, Limit.of(limit));
+    }
+}
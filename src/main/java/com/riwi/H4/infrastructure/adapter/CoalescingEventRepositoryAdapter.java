@@ -0,0 +1,427 @@
+package com.riwi.H4.infrastructure.adapter;
+
+import com.riwi.H4.application.port.out.EventRepositoryPort;
+import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventPatch;
+import com.riwi.H4.domain.model.EventSearchCriteria;
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.EventSummary;
+import com.riwi.H4.domain.model.SliceResult;
+import com.riwi.H4.domain.model.Venue;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Decorador de EventRepositoryPort que agrupa (coalesce) las búsquedas
+ * findById concurrentes en una sola consulta IN.
+ *
+ * 1. Sin otra carga en curso, findById consulta de inmediato en el hilo del
+ *    llamador (un IN de un ID): una petición aislada no espera ninguna
+ *    ventana.
+ * 2. Si el mismo ID ya se está cargando, el llamador espera esa carga,
+ *    salvo que el evento haya cambiado después de que empezó: al commit de
+ *    una escritura sobre ese ID (save, PATCH, borrado; las operaciones por
+ *    filtro, sobre todos) la carga deja de aceptar llamadores, y quien llega
+ *    después lee de nuevo. Así nadie recibe una fila anterior a una
+ *    escritura que ya vio confirmarse.
+ * 3. Si hay otra carga en curso, se abre una ventana corta
+ *    (app.events.coalescing.window); las búsquedas que llegan durante la
+ *    ventana se suman al mismo lote. Al cerrarla (o al llegar a
+ *    max-batch-size) un hilo del loader ejecuta findAllById con todos los
+ *    IDs, en su propia transacción de solo lectura, y entrega a cada llamador
+ *    su evento.
+ *
+ * Así el lote solo se forma cuando la base de datos ya está ocupada: 50
+ * peticiones GET /events/{id} simultáneas cuestan unas pocas consultas y
+ * conexiones del pool en lugar de 50.
+ *
+ * Ningún llamador espera más de app.events.coalescing.timeout. Si el loader
+ * rechaza un lote (apagado), el llamador lo carga en su propio hilo: ningún
+ * lote queda abierto sin quien lo cierre.
+ *
+ * Solo se agrupan las búsquedas hechas fuera de una transacción: dentro de
+ * una transacción de escritura (update, delete) findById debe ver los cambios
+ * no confirmados de esa transacción y va directo al adapter JPA.
+ *
+ * Se registra en BeanConfig solo si app.events.coalescing.enabled=true.
+ */
+public class CoalescingEventRepositoryAdapter implements EventRepositoryPort {
+
+    private final EventRepositoryPort delegate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long timeoutNanos;
+    private final ScheduledExecutorService loader;
+
+    // Todo el estado de los lotes se usa con este lock
+    private final Object lock = new Object();
+    // Lote abierto: IDs pedidos durante la ventana actual y sus resultados pendientes
+    private Map<Long, CompletableFuture<Optional<Event>>> pending;
+    // IDs de las cargas en curso (directas o lotes despachados)
+    private final Map<Long, CompletableFuture<Optional<Event>>> loading = new HashMap<>();
+    private int running;
+
+    public CoalescingEventRepositoryAdapter(EventRepositoryPort delegate, PlatformTransactionManager transactionManager,
+            Duration window, int maxBatchSize, int loaderThreads, Duration timeout) {
+        this.delegate = delegate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutNanos = timeout.toNanos();
+        AtomicInteger threads = new AtomicInteger();
+        this.loader = new ScheduledThreadPoolExecutor(loaderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "event-loader-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Optional<Event> findById(Long id) {
+        if (id == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return delegate.findById(id);
+        }
+
+        CompletableFuture<Optional<Event>> result;
+        Map<Long, CompletableFuture<Optional<Event>>> direct = null;
+        Map<Long, CompletableFuture<Optional<Event>>> full = null;
+        synchronized (lock) {
+            result = loading.get(id);
+            if (result == null && pending != null) {
+                result = pending.get(id);
+            }
+            if (result == null) {
+                result = new CompletableFuture<>();
+                if (running == 0 && pending == null || !openWindow()) {
+                    direct = new HashMap<>(Map.of(id, result));
+                    started(direct);
+                } else {
+                    pending.put(id, result);
+                    if (pending.size() >= maxBatchSize) {
+                        full = pending;
+                        pending = null;
+                        started(full);
+                    }
+                }
+            }
+        }
+
+        if (full != null) {
+            Map<Long, CompletableFuture<Optional<Event>>> batch = full;
+            try {
+                loader.execute(() -> load(batch));
+            } catch (RejectedExecutionException e) {
+                direct = batch;
+            }
+        }
+        if (direct != null) {
+            load(direct);
+        }
+        // Cada llamador recibe su propia copia: el mismo ID puede haberse pedido varias veces
+        return await(result).map(CoalescingEventRepositoryAdapter::copy);
+    }
+
+    /**
+     * Abre la ventana si no hay una abierta (con el lock tomado). false si el
+     * loader la rechaza (apagado): el llamador carga en su hilo en lugar de
+     * dejar un lote que nadie cerraría.
+     */
+    private boolean openWindow() {
+        if (pending != null) {
+            return true;
+        }
+        Map<Long, CompletableFuture<Optional<Event>>> batch = new HashMap<>();
+        try {
+            loader.schedule(() -> closeWindow(batch), windowNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+        pending = batch;
+        return true;
+    }
+
+    private Optional<Event> await(CompletableFuture<Optional<Event>> result) {
+        try {
+            return result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("findById agrupado sin respuesta en "
+                    + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryTimeoutException("findById agrupado interrumpido", e);
+        }
+    }
+
+    // Marca el lote como carga en curso (con el lock tomado)
+    private void started(Map<Long, CompletableFuture<Optional<Event>>> batch) {
+        running++;
+        loading.putAll(batch);
+    }
+
+    // Fin de la ventana: carga el lote salvo que ya se haya despachado por tamaño
+    private void closeWindow(Map<Long, CompletableFuture<Optional<Event>>> batch) {
+        synchronized (lock) {
+            if (pending != batch) {
+                return;
+            }
+            pending = null;
+            started(batch);
+        }
+        load(batch);
+    }
+
+    private void load(Map<Long, CompletableFuture<Optional<Event>>> batch) {
+        try {
+            List<Event> events = readOnlyTransaction.execute(status -> delegate.findAllById(batch.keySet()));
+            Map<Long, Event> byId = events.stream().collect(Collectors.toMap(Event::getId, Function.identity()));
+            batch.forEach((id, future) -> future.complete(Optional.ofNullable(byId.get(id))));
+        } catch (RuntimeException | Error e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        } finally {
+            synchronized (lock) {
+                finished(batch);
+            }
+        }
+    }
+
+    private void finished(Map<Long, CompletableFuture<Optional<Event>>> batch) {
+        running--;
+        batch.forEach(loading::remove);
+    }
+
+    public void shutdown() {
+        loader.shutdown();
+    }
+
+    // Al commit de una escritura, las cargas en curso de esos IDs (null: de
+    // todos) dejan de aceptar llamadores; las que ya esperan reciben su resultado
+    private void written(Collection<Long> ids) {
+        Runnable detach = () -> {
+            synchronized (lock) {
+                if (ids == null) {
+                    loading.clear();
+                } else {
+                    ids.forEach(loading::remove);
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    detach.run();
+                }
+            });
+        } else {
+            detach.run();
+        }
+    }
+
+    private static Event copy(Event event) {
+        Venue venue = event.getVenue() == null ? null
+                : new Venue(event.getVenue().getId(), event.getVenue().getName(), event.getVenue().getLocation(),
+                        event.getVenue().getCapacity());
+        if (venue != null) {
+            venue.setVersion(event.getVenue().getVersion());
+        }
+        Event copy = new Event(event.getId(), event.getName(), event.getDate(), event.getStatus(), venue);
+        copy.setVersion(event.getVersion());
+        return copy;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // ESCRITURAS (delegan y desenganchan las cargas en curso al commit)
+    // ═══════════════════════════════════════════════════════════════════════
+
+    @Override
+    public Event save(Event event) {
+        Event saved = delegate.save(event);
+        written(List.of(saved.getId()));
+        return saved;
+    }
+
+    @Override
+    public List<Event> saveAll(List<Event> events) {
+        List<Event> saved = delegate.saveAll(events);
+        written(saved.stream().map(Event::getId).toList());
+        return saved;
+    }
+
+    @Override
+    public boolean updateIfVersion(Long id, Long expectedVersion, EventPatch patch) {
+        boolean updated = delegate.updateIfVersion(id, expectedVersion, patch);
+        if (updated) {
+            written(List.of(id));
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        boolean deleted = delegate.deleteById(id);
+        written(List.of(id));
+        return deleted;
+    }
+
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        int deleted = delegate.deleteAllById(ids);
+        written(List.copyOf(ids));
+        return deleted;
+    }
+
+    @Override
+    public int deleteByVenueId(Long venueId) {
+        int deleted = delegate.deleteByVenueId(venueId);
+        written(null);
+        return deleted;
+    }
+
+    @Override
+    public int updateStatusMatching(EventSearchCriteria criteria, EventStatus status) {
+        int updated = delegate.updateStatusMatching(criteria, status);
+        written(null);
+        return updated;
+    }
+
+    @Override
+    public int shiftDatesMatching(EventSearchCriteria criteria, int days) {
+        int updated = delegate.shiftDatesMatching(criteria, days);
+        written(null);
+        return updated;
+    }
+
+    @Override
+    public int deleteMatching(EventSearchCriteria criteria) {
+        int deleted = delegate.deleteMatching(criteria);
+        written(null);
+        return deleted;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // DELEGACIÓN DIRECTA
+    // ═══════════════════════════════════════════════════════════════════════
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public Optional<EventSummary> findSummaryById(Long id) {
+        return delegate.findSummaryById(id);
+    }
+
+    @Override
+    public List<Event> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Event> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        return delegate.findExistingIds(ids);
+    }
+
+    @Override
+    public List<Long> findIdsByVenue(Long venueId, int limit) {
+        return delegate.findIdsByVenue(venueId, limit);
+    }
+
+    @Override
+    public long countByVenue(Long venueId) {
+        return delegate.countByVenue(venueId);
+    }
+
+    @Override
+    public int archiveAllById(Collection<Long> ids) {
+        return delegate.archiveAllById(ids);
+    }
+
+    @Override
+    public List<EventSummary> findSummaries(EventSearchCriteria criteria, int limit) {
+        return delegate.findSummaries(criteria, limit);
+    }
+
+    @Override
+    public List<EventSummary> findUpcomingByNamePrefix(String prefix, int limit) {
+        return delegate.findUpcomingByNamePrefix(prefix, limit);
+    }
+
+    @Override
+    public List<Event> findByVenue(Long venueId) {
+        return delegate.findByVenue(venueId);
+    }
+
+    @Override
+    public List<Event> findByDateRange(LocalDate startDate, LocalDate endDate) {
+        return delegate.findByDateRange(startDate, endDate);
+    }
+
+    @Override
+    public List<Event> findByStatus(EventStatus status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public boolean existsActiveOn(Long venueId, LocalDate date, Long excludeEventId) {
+        return delegate.existsActiveOn(venueId, date, excludeEventId);
+    }
+
+    @Override
+    public SliceResult<Event> search(EventSearchCriteria criteria, int page, int size) {
+        return delegate.search(criteria, page, size);
+    }
+
+    @Override
+    public List<Event> findAllAfter(LocalDate date, Long id, int limit) {
+        return delegate.findAllAfter(date, id, limit);
+    }
+
+    @Override
+    public void forEachEvent(Consumer<Event> consumer) {
+        delegate.forEachEvent(consumer);
+    }
+}
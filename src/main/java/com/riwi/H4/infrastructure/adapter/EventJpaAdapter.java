@@ -1,38 +1,239 @@
 package com.riwi.H4.infrastructure.adapter;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import com.riwi.H4.application.port.out.EventRepositoryPort;
 import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventPatch;
+import com.riwi.H4.domain.model.EventSearchCriteria;
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.EventSummary;
+import com.riwi.H4.domain.model.SliceResult;
+import com.riwi.H4.domain.model.Venue;
 import com.riwi.H4.infrastructure.entity.EventEntity;
+import com.riwi.H4.infrastructure.entity.VenueEntity;
 import com.riwi.H4.infrastructure.mapper.EventMapper;
 import com.riwi.H4.infrastructure.repository.jpa.EventJpaRepository;
+import com.riwi.H4.infrastructure.repository.specification.EventSpecification;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.sqm.TemporalUnit;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Repository
 public class EventJpaAdapter implements EventRepositoryPort {
 
+    // Igual a hibernate.jdbc.batch_size y al allocationSize de events_seq
+    private static final int BATCH_SIZE = 50;
+
     private final EventJpaRepository jpaRepository;
     private final EventMapper mapper;
+    private final EntityManager entityManager;
 
-    public EventJpaAdapter(EventJpaRepository jpaRepository, EventMapper mapper) {
+    public EventJpaAdapter(EventJpaRepository jpaRepository, EventMapper mapper, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
+    // El venue llega solo con su ID: se asigna con getReference() (como en
+    // saveAll), porque un VenueEntity armado a mano no trae su @Version
     @Override
     public Event save(Event event) {
         EventEntity entity = mapper.toEntity(event);
+        if (event.getVenue() != null && event.getVenue().getId() != null) {
+            entity.setVenue(entityManager.getReference(VenueEntity.class, event.getVenue().getId()));
+        }
         EventEntity saved = jpaRepository.save(entity);
-        return mapper.toModel(saved);
+        return toModel(saved);
+    }
+
+    // Mapear un venue sin inicializar lo cargaría con una consulta extra: se
+    // devuelve solo su ID, que es lo que trajo el llamador
+    private Event toModel(EventEntity entity) {
+        if (entity.getVenue() == null || Hibernate.isInitialized(entity.getVenue())) {
+            return mapper.toModel(entity);
+        }
+        Event model = mapper.toModelWithoutVenue(entity);
+        Venue venue = new Venue();
+        venue.setId(entity.getVenue().getId());
+        model.setVenue(venue);
+        return model;
+    }
+
+    /**
+     * Inserción masiva con batching JDBC real.
+     *
+     * - El venue se asigna con getReference(): solo se necesita su ID para la FK,
+     *   así no se consulta el venue de cada evento.
+     * - Cada BATCH_SIZE eventos se hace flush (un batch de INSERT) y clear, para
+     *   que el contexto de persistencia no crezca con el tamaño de la carga.
+     */
+    @Override
+    public List<Event> saveAll(List<Event> events) {
+        List<Event> saved = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            EventEntity entity = mapper.toEntity(event);
+            entity.setVenue(entityManager.getReference(VenueEntity.class, event.getVenue().getId()));
+            entityManager.persist(entity);
+
+            event.setId(entity.getId());
+            saved.add(event);
+
+            if ((i + 1) % BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return saved;
     }
 
+    // Un evento servido desde la caché de segundo nivel no aplica el
+    // @EntityGraph: el venue llega como proxy y, sin transacción, ya no puede
+    // cargarse. toModel lo devuelve con su ID
     @Override
     public Optional<Event> findById(Long id) {
         return jpaRepository.findById(id)
-                .map(mapper::toModel);
+                .map(this::toModel);
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return jpaRepository.findVersionById(id);
+    }
+
+    @Override
+    public Optional<EventSummary> findSummaryById(Long id) {
+        return jpaRepository.findSummaryById(id);
+    }
+
+    /**
+     * UPDATE ... SET (solo los campos presentes), version = version + 1
+     * WHERE id = ? AND version = ?
+     *
+     * Una sentencia, sin SELECT previo ni entidad en el contexto de
+     * persistencia. El venue se asigna con getReference(): solo hace falta su
+     * ID para la FK.
+     */
+    @Override
+    public boolean updateIfVersion(Long id, Long expectedVersion, EventPatch patch) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<EventEntity> update = cb.createCriteriaUpdate(EventEntity.class);
+        Root<EventEntity> event = update.from(EventEntity.class);
+        if (patch.getName() != null) {
+            update.set(event.<String>get("name"), patch.getName());
+        }
+        if (patch.getDate() != null) {
+            update.set(event.<LocalDate>get("date"), patch.getDate());
+        }
+        if (patch.getStatus() != null) {
+            update.set(event.<EventStatus>get("status"), patch.getStatus());
+        }
+        if (patch.getVenueId() != null) {
+            update.set(event.<VenueEntity>get("venue"), entityManager.getReference(VenueEntity.class, patch.getVenueId()));
+        }
+        update.set(event.<Long>get("version"), cb.sum(event.<Long>get("version"), 1L));
+        update.where(cb.equal(event.get("id"), id), cb.equal(event.get("version"), expectedVersion));
+        return entityManager.createQuery(update).executeUpdate() == 1;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // OPERACIONES POR FILTRO
+    // ═══════════════════════════════════════════════════════════════════════
+
+    /**
+     * SELECT id, name, date, status, venue_id ... WHERE <filtro> LIMIT limit
+     *
+     * Proyección por constructor: ni entidades en el contexto de persistencia
+     * ni JOIN al venue (venue.id es la FK).
+     */
+    @Override
+    public List<EventSummary> findSummaries(EventSearchCriteria criteria, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventSummary> query = cb.createQuery(EventSummary.class);
+        Root<EventEntity> event = query.from(EventEntity.class);
+        query.select(cb.construct(EventSummary.class, event.get("id"), event.get("name"), event.get("date"),
+                event.get("status"), event.get("venue").get("id")))
+                .where(EventSpecification.matching(criteria).toPredicate(event, query, cb))
+                .orderBy(cb.asc(event.get("date")), cb.asc(event.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    // Prefijo con los comodines de LIKE escapados: "100%" no coincide con "100 años"
+    @Override
+    public List<EventSummary> findUpcomingByNamePrefix(String prefix, int limit) {
+        String pattern = prefix.strip().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return jpaRepository.findUpcomingSummariesByName(EventStatus.ACTIVE, LocalDate.now(), pattern,
+                Limit.of(limit));
+    }
+
+    // Los filtros de EventSpecification se aplican tal cual al WHERE del
+    // UPDATE: ninguno usa la query (sin fetch ni orden)
+    @Override
+    public int updateStatusMatching(EventSearchCriteria criteria, EventStatus status) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<EventEntity> update = cb.createCriteriaUpdate(EventEntity.class);
+        Root<EventEntity> event = update.from(EventEntity.class);
+        update.set(event.<EventStatus>get("status"), status);
+        update.set(event.<Long>get("version"), cb.sum(event.<Long>get("version"), 1L));
+        update.where(EventSpecification.matching(criteria).toPredicate(event, null, cb));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    // La suma de días la traduce Hibernate a la función de fechas del dialecto.
+    // Los eventos sin fecha no se tocan (NULL + days seguiría siendo NULL)
+    @Override
+    public int shiftDatesMatching(EventSearchCriteria criteria, int days) {
+        HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        CriteriaUpdate<EventEntity> update = cb.createCriteriaUpdate(EventEntity.class);
+        Root<EventEntity> event = update.from(EventEntity.class);
+        update.set(event.<LocalDate>get("date"),
+                cb.addDuration(event.<LocalDate>get("date"), cb.duration(days, TemporalUnit.DAY)));
+        update.set(event.<Long>get("version"), cb.sum(event.<Long>get("version"), 1L));
+        update.where(EventSpecification.matching(criteria).toPredicate(event, null, cb),
+                cb.isNotNull(event.get("date")));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    // JpaSpecificationExecutor.delete arma un CriteriaDelete con el filtro
+    @Override
+    public int deleteMatching(EventSearchCriteria criteria) {
+        return (int) jpaRepository.delete(EventSpecification.matching(criteria));
+    }
+
+    @Override
+    public List<Event> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByIdWithVenue(ids)
+                .stream()
+                .map(mapper::toModel)
+                .toList();
     }
 
     @Override
@@ -45,15 +246,54 @@ public class EventJpaAdapter implements EventRepositoryPort {
 
     @Override
     public List<Event> findAll(int page, int size) {
-        return jpaRepository.findAll(org.springframework.data.domain.PageRequest.of(page, size))
+        return jpaRepository.findPageWithVenue(PageRequest.of(page, size))
                 .stream()
                 .map(mapper::toModel)
                 .toList();
     }
 
     @Override
-    public void deleteById(Long id) {
-        jpaRepository.deleteById(id);
+    public boolean deleteById(Long id) {
+        return jpaRepository.deleteRowById(id) == 1;
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return jpaRepository.findExistingIds(ids);
+    }
+
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.deleteRowsByIds(ids);
+    }
+
+    @Override
+    public int deleteByVenueId(Long venueId) {
+        return jpaRepository.deleteRowsByVenueId(venueId);
+    }
+
+    @Override
+    public List<Long> findIdsByVenue(Long venueId, int limit) {
+        return jpaRepository.findIdsByVenueId(venueId, Limit.of(limit));
+    }
+
+    @Override
+    public long countByVenue(Long venueId) {
+        return jpaRepository.countByVenueId(venueId);
+    }
+
+    @Override
+    public int archiveAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.archiveRowsByIds(ids);
     }
 
     @Override
@@ -82,4 +322,57 @@ public class EventJpaAdapter implements EventRepositoryPort {
                 .map(mapper::toModel)
                 .toList();
     }
+
+    @Override
+    public boolean existsActiveOn(Long venueId, java.time.LocalDate date, Long excludeEventId) {
+        return jpaRepository.existsOnDate(venueId, date, com.riwi.H4.domain.model.EventStatus.ACTIVE, excludeEventId);
+    }
+
+    @Override
+    public List<Event> findAllAfter(java.time.LocalDate date, Long id, int limit) {
+        if (id != null && date == null) {
+            return jpaRepository.findKeysetUndatedAfter(id, Limit.of(limit)).stream()
+                    .map(mapper::toModel)
+                    .toList();
+        }
+        List<EventEntity> entities = new ArrayList<>(id == null
+                ? jpaRepository.findKeysetFirstPage(Limit.of(limit))
+                : jpaRepository.findKeysetPageAfter(date, id, Limit.of(limit)));
+        // Terminados los eventos con fecha, la página sigue con los que no tienen
+        if (entities.size() < limit) {
+            entities.addAll(jpaRepository.findKeysetUndatedAfter(Long.MIN_VALUE, Limit.of(limit - entities.size())));
+        }
+        return entities.stream()
+                .map(mapper::toModel)
+                .toList();
+    }
+
+    @Override
+    public void forEachEvent(Consumer<Event> consumer) {
+        try (Stream<EventEntity> entities = jpaRepository.streamAllWithVenue()) {
+            entities.forEach(entity -> {
+                consumer.accept(mapper.toModel(entity));
+                // Se saca del contexto de persistencia para que la memoria no crezca
+                // con el número de filas (los venues sí se quedan: son pocos y se reutilizan)
+                entityManager.detach(entity);
+            });
+        }
+    }
+
+    /**
+     * Una sola query: filtros combinados + JOIN FETCH del venue + LIMIT size+1.
+     * slice() no ejecuta COUNT; Spring Data pide un elemento extra para
+     * calcular hasNext.
+     */
+    @Override
+    public SliceResult<Event> search(EventSearchCriteria criteria, int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size, Sort.by("date", "id"));
+        Slice<EventEntity> slice = jpaRepository.findBy(
+                EventSpecification.matching(criteria).and(EventSpecification.fetchVenue()),
+                query -> query.slice(pageable));
+        List<Event> events = slice.getContent().stream()
+                .map(mapper::toModel)
+                .toList();
+        return new SliceResult<>(events, page, size, slice.hasNext());
+    }
 }
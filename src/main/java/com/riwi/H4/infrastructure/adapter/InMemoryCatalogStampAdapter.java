@@ -0,0 +1,64 @@
+package com.riwi.H4.infrastructure.adapter;
+
+import com.riwi.H4.application.port.out.CatalogStampPort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sellos de colección en memoria: un contador por colección más un
+ * identificador de arranque.
+ *
+ * - El contador avanza después del commit. Si avanzara antes, un lector
+ *   concurrente podría leer el sello nuevo junto con los datos anteriores al
+ *   commit y quedarse con ese par en caché; así, en el peor caso, recibe una
+ *   vez más un 200 con datos que ya tenía.
+ * - El identificador de arranque evita que un sello de una ejecución
+ *   anterior (con otros datos) coincida tras reiniciar la aplicación.
+ *
+ * Válido para una sola instancia y para escrituras que pasan por los
+ * services; las cargas JDBC directas (SyntheticDataGenerator) ocurren al
+ * arrancar, antes de servir peticiones.
+ */
+@Component
+public class InMemoryCatalogStampAdapter implements CatalogStampPort {
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong events = new AtomicLong();
+    private final AtomicLong venues = new AtomicLong();
+
+    @Override
+    public String eventsStamp() {
+        return bootId + "-" + events.get();
+    }
+
+    @Override
+    public String venuesStamp() {
+        return bootId + "-" + venues.get();
+    }
+
+    @Override
+    public void eventsChanged() {
+        afterCommit(events::incrementAndGet);
+    }
+
+    @Override
+    public void venuesChanged() {
+        afterCommit(venues::incrementAndGet);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
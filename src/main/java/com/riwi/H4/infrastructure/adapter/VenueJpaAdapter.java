@@ -5,10 +5,13 @@ import com.riwi.H4.domain.model.Venue;
 import com.riwi.H4.infrastructure.entity.VenueEntity;
 import com.riwi.H4.infrastructure.mapper.VenueMapper;
 import com.riwi.H4.infrastructure.repository.jpa.VenueJpaRepository;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public class VenueJpaAdapter implements VenueRepositoryPort {
@@ -21,10 +24,28 @@ public class VenueJpaAdapter implements VenueRepositoryPort {
         this.mapper = mapper;
     }
 
+    /**
+     * Un venue existente no se guarda con merge: el VenueEntity del mapper trae
+     * la lista events vacía y, con orphanRemoval, el merge borraría todos los
+     * eventos del venue. Se copian los campos sobre la entidad gestionada (ya
+     * está en el contexto de persistencia si el service la leyó en la misma
+     * transacción) y @DynamicUpdate escribe solo las columnas que cambiaron.
+     */
     @Override
     public Venue save(Venue venue) {
-        VenueEntity entity = mapper.toEntity(venue);
-        return mapper.toModel(jpaRepository.save(entity));
+        if (venue.getId() == null) {
+            return mapper.toModel(jpaRepository.save(mapper.toEntity(venue)));
+        }
+        VenueEntity managed = jpaRepository.findById(venue.getId())
+                .orElseThrow(() -> new ObjectOptimisticLockingFailureException(VenueEntity.class, venue.getId()));
+        // Misma verificación que haría merge con una versión vieja
+        if (venue.getVersion() != null && !venue.getVersion().equals(managed.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(VenueEntity.class, venue.getId());
+        }
+        managed.setName(venue.getName());
+        managed.setLocation(venue.getLocation());
+        managed.setCapacity(venue.getCapacity());
+        return mapper.toModel(managed);
     }
 
     @Override
@@ -33,6 +54,11 @@ public class VenueJpaAdapter implements VenueRepositoryPort {
                 .map(mapper::toModel);
     }
 
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return jpaRepository.findVersionById(id);
+    }
+
     @Override
     public List<Venue> findAll() {
         return jpaRepository.findAll().stream()
@@ -41,8 +67,16 @@ public class VenueJpaAdapter implements VenueRepositoryPort {
     }
 
     @Override
-    public void deleteById(Long id) {
-        jpaRepository.deleteById(id);
+    public boolean deleteById(Long id) {
+        return jpaRepository.deleteRowById(id) == 1;
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return jpaRepository.findExistingIds(ids);
     }
 
     @Override
@@ -60,4 +94,12 @@ public class VenueJpaAdapter implements VenueRepositoryPort {
                 .map(mapper::toModel)
                 .toList();
     }
+
+    @Override
+    public List<Venue> findByName(String name) {
+        return jpaRepository.findByNameContaining(name)
+                .stream()
+                .map(mapper::toModel)
+                .toList();
+    }
 }
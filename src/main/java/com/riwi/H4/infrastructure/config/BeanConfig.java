@@ -1,8 +1,54 @@
 package com.riwi.H4.infrastructure.config;
 
+import com.riwi.H4.infrastructure.adapter.CachingVenueRepositoryAdapter;
+import com.riwi.H4.infrastructure.adapter.CoalescingEventRepositoryAdapter;
+import com.riwi.H4.infrastructure.adapter.EventJpaAdapter;
+import com.riwi.H4.infrastructure.adapter.VenueJpaAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
 
 @Configuration
 public class BeanConfig {
-    // Por ahora vacío, porque los adapters se registran con @Component
+    // Los adapters JPA se registran con @Component; aquí solo se declaran los decoradores opcionales
+
+    /**
+     * Caché de venues delante de VenueJpaAdapter.
+     * Con app.cache.venues.enabled=false los services reciben directamente el
+     * adapter JPA (útil para comparar latencias con y sin caché).
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "app.cache.venues.enabled", havingValue = "true", matchIfMissing = true)
+    public CachingVenueRepositoryAdapter cachingVenueRepository(
+            VenueJpaAdapter venueJpaAdapter,
+            @Value("${app.cache.venues.max-size:10000}") long maxSize,
+            @Value("${app.cache.venues.ttl:10m}") Duration ttl) {
+        return new CachingVenueRepositoryAdapter(venueJpaAdapter, maxSize, ttl);
+    }
+
+    /**
+     * Agrupa los findById concurrentes de eventos en consultas IN.
+     * Desactivado por defecto: sin él cada findById es una consulta. Activarlo
+     * (app.events.coalescing.enabled=true) solo conviene con muchas lecturas
+     * concurrentes del mismo evento o un pool de conexiones saturado.
+     */
+    @Bean(destroyMethod = "shutdown")
+    @Primary
+    @ConditionalOnProperty(name = "app.events.coalescing.enabled", havingValue = "true")
+    public CoalescingEventRepositoryAdapter coalescingEventRepository(
+            EventJpaAdapter eventJpaAdapter,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.events.coalescing.window:2ms}") Duration window,
+            @Value("${app.events.coalescing.max-batch-size:100}") int maxBatchSize,
+            @Value("${app.events.coalescing.loader-threads:4}") int loaderThreads,
+            @Value("${app.events.coalescing.timeout:5s}") Duration timeout) {
+        return new CoalescingEventRepositoryAdapter(eventJpaAdapter, transactionManager, window, maxBatchSize,
+                loaderThreads, timeout);
+    }
 }
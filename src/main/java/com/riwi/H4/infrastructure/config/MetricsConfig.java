@@ -0,0 +1,33 @@
+package com.riwi.H4.infrastructure.config;
+
+import com.riwi.H4.infrastructure.metrics.HibernateActivityCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registro del contador por hilo de Hibernate (sentencias y entidades
+ * cargadas) que usan las métricas por método de repositorio.
+ *
+ * Las métricas globales de Hibernate (hibernate.statements,
+ * hibernate.entities.loads, hibernate.second.level.cache.requests, ...) las
+ * publica Spring Boot vía hibernate-micrometer al activar
+ * hibernate.generate_statistics.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernateActivityCounter hibernateActivityCounter() {
+        return new HibernateActivityCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateActivityCounterCustomizer(HibernateActivityCounter counter) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+            properties.put(AvailableSettings.INTERCEPTOR, counter);
+        };
+    }
+}
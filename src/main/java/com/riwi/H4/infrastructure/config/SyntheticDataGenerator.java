@@ -0,0 +1,374 @@
+package com.riwi.H4.infrastructure.config;
+
+import com.riwi.H4.domain.model.EventStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Generador de datos sintéticos de alto volumen (venues + events).
+ *
+ * A diferencia de un seeder que hace repository.save() fila por fila, las
+ * filas se generan dentro de la base de datos: INSERT ... SELECT sobre
+ * SYSTEM_RANGE, por tramos de CHUNK_SIZE filas con commit por tramo, sin
+ * viajes por fila entre la JVM y H2 y sin pasar por Hibernate (sin
+ * persistence context, sin dirty checking).
+ *
+ * 1. Los IDs se reservan antes de insertar, avanzando venues_seq / events_seq
+ *    más allá del rango generado: los INSERT de JPA (en curso o futuros) no
+ *    colisionan con él.
+ * 2. En una carga grande (DEFER_INDEXES_MIN_ROWS filas, y más de las que ya
+ *    hay) los índices secundarios de events se eliminan y se recrean al
+ *    final: construirlos una vez cuesta menos que mantenerlos fila a fila.
+ *    Mientras tanto las consultas sobre events no tienen esos índices; por
+ *    eso generate() solo corre antes de que el servidor atienda peticiones.
+ * 3. Si algo falla se borra el rango reservado (no quedan filas a medias) y
+ *    los índices se recrean igual. La secuencia ya quedó adelante: solo queda
+ *    un hueco. Una sola transacción de 1M de filas sería atómica sin limpieza,
+ *    pero en H2 tarda el doble.
+ *
+ * Distribuciones (reproducibles con la misma semilla, que inicializa RAND()
+ * de la sesión):
+ * - Capacidad de venues log-normal: muchos salones pequeños, pocos estadios.
+ * - Eventos repartidos de forma sesgada: los venues "populares" concentran más.
+ * - Fechas en una ventana centrada en hoy, con más eventos viernes y sábados.
+ * - Una fracción configurable de eventos CANCELLED.
+ *
+ * Medido con 1M de eventos (1.000 venues, H2 en memoria, 1 CPU, JVM ya
+ * caliente; entre corridas varía hasta ±20%):
+ * - Este generador: ~61-66 s manteniendo los índices, ~39-58 s
+ *   eliminándolos y recreándolos (recrearlos: ~21-26 s).
+ * - Un INSERT ... SELECT de valores fijos con la misma FK y por los mismos
+ *   tramos: ~59-65 s y ~33-38 s. Casi todo el tiempo es mantener o
+ *   construir los índices.
+ * - Las expresiones aleatorias cuestan ~5 s por millón (sin índices ni FK:
+ *   ~3 s con valores fijos, ~8-9 s con las de aquí). Reducir las llamadas a
+ *   RAND() y cambiar las funciones de fecha por aritmética entera no lo
+ *   mejoró de forma medible, y tampoco desactivar la comprobación de la FK
+ *   (los venue_id son válidos por construcción).
+ *
+ * Solo para H2 (SYSTEM_RANGE, RAND(semilla), ALTER SEQUENCE) de desarrollo /
+ * pruebas de carga. Las cachés e índices en memoria se cargan en
+ * ApplicationReadyEvent: en un contexto sin servidor web (benchmarks), si se
+ * genera después del arranque no verán estos datos hasta reiniciar. La
+ * caché de segundo nivel de Hibernate sí se vacía al terminar: estos INSERT
+ * no pasan por Hibernate.
+ */
+public class SyntheticDataGenerator implements ApplicationListener<WebServerInitializedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final int CHUNK_SIZE = 50_000;
+    private static final int DEFER_INDEXES_MIN_ROWS = 100_000;
+    // Igual que allocationSize de @SequenceGenerator (optimizador pooled, ver V5)
+    private static final int SEQUENCE_INCREMENT = 50;
+
+    private static final String[] CATEGORIES = {
+            "Concierto", "Festival", "Obra", "Seminario", "Conferencia", "Feria", "Torneo", "Taller" };
+    private static final String[] THEMES = {
+            "Rock", "Jazz", "Salsa", "Tecnología", "Gastronomía", "Ciencia", "Arte", "Literatura",
+            "Emprendimiento", "Cine", "Danza", "Fútbol", "Ajedrez", "Fotografía", "Vallenato", "Música Clásica" };
+    private static final String[] VENUE_TYPES = {
+            "Teatro", "Auditorio", "Coliseo", "Centro de Convenciones", "Salón", "Estadio", "Plaza", "Club" };
+    private static final String[] CITIES = {
+            "Medellín", "Bogotá", "Cali", "Barranquilla", "Cartagena", "Bucaramanga", "Pereira", "Manizales" };
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private volatile boolean serving;
+
+    public SyntheticDataGenerator(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Parámetros de generación.
+     *
+     * @param venues         número de venues a crear
+     * @param eventsPerVenue promedio de eventos por venue (total = venues × eventsPerVenue)
+     * @param dateSpreadDays ancho de la ventana de fechas, centrada en hoy
+     * @param cancelledRatio fracción de eventos CANCELLED (0.0 - 1.0)
+     * @param seed           semilla del generador aleatorio
+     */
+    public record Settings(int venues, int eventsPerVenue, int dateSpreadDays, double cancelledRatio, long seed) {
+
+        public Settings {
+            if (venues < 1 || eventsPerVenue < 0 || dateSpreadDays < 1
+                    || cancelledRatio < 0 || cancelledRatio > 1) {
+                throw new IllegalArgumentException("Parámetros de generación inválidos");
+            }
+        }
+
+        public long totalEvents() {
+            return (long) venues * eventsPerVenue;
+        }
+    }
+
+    /**
+     * Resultado de una generación: IDs asignados y duración.
+     */
+    public record Result(long firstVenueId, long venues, long firstEventId, long events, long millis) {
+    }
+
+    /**
+     * El servidor web arrancó: desde aquí generate() se rechaza.
+     */
+    @Override
+    public void onApplicationEvent(WebServerInitializedEvent event) {
+        serving = true;
+    }
+
+    /**
+     * Genera los datos. Solo antes de que el servidor atienda peticiones (ver
+     * SyntheticDataSeeder) o en un contexto sin servidor web (benchmarks con
+     * MockMvc): con tráfico, las consultas verían events sin sus índices
+     * secundarios y tramos a medias.
+     *
+     * @throws IllegalStateException si el servidor web ya arrancó
+     */
+    public Result generate(Settings settings) {
+        if (serving) {
+            throw new IllegalStateException(
+                    "El servidor ya atiende peticiones: los datos sintéticos se generan al arrancar "
+                            + "(app.seed.synthetic.enabled=true)");
+        }
+        long start = System.nanoTime();
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            long firstVenueId = reserveIds(connection, "venues", "venues_seq", settings.venues());
+            long firstEventId = reserveIds(connection, "events", "events_seq", settings.totalEvents());
+            connection.commit();
+
+            List<String> deferredIndexes = List.of();
+            try {
+                deferredIndexes = dropSecondaryIndexes(connection, settings.totalEvents());
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("CALL RAND(" + Long.hashCode(settings.seed()) + ")");
+                }
+                insertVenues(connection, settings, firstVenueId);
+                insertEvents(connection, settings, firstVenueId, firstEventId);
+            } catch (SQLException | RuntimeException e) {
+                try {
+                    deleteGenerated(connection, settings, firstVenueId, firstEventId);
+                } catch (SQLException cleanup) {
+                    e.addSuppressed(cleanup);
+                }
+                throw e;
+            } finally {
+                try {
+                    createIndexes(connection, deferredIndexes);
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+            }
+            entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            log.info("Datos sintéticos generados: {} venues, {} eventos en {} ms",
+                    settings.venues(), settings.totalEvents(), millis);
+            return new Result(firstVenueId, settings.venues(), firstEventId, settings.totalEvents(), millis);
+        } catch (SQLException e) {
+            throw new IllegalStateException("No se pudieron generar los datos sintéticos", e);
+        }
+    }
+
+    // Capacidad log-normal (mediana ~ 650, Box-Muller): la mayoría son salones de cientos, pocos superan 10.000
+    private void insertVenues(Connection connection, Settings settings, long firstId) throws SQLException {
+        String sql = "INSERT INTO venues (id, name, location, capacity) "
+                + "SELECT ? + X - 1, "
+                + sqlArray(VENUE_TYPES) + "[VENUE_TYPE] || ' ' || " + sqlArray(CITIES) + "[CITY] || ' ' || X, "
+                + "'Calle ' || STREET || ' #' || HOUSE_NUMBER || '-' || SUFFIX || ', ' || "
+                + sqlArray(CITIES) + "[CITY], "
+                + "CAST(GREATEST(30, LEAST(80000, ROUND(EXP(6.5 + 1.1 * GAUSSIAN)))) AS INT) "
+                + "FROM (SELECT X, "
+                + randomIndex(CITIES.length) + " CITY, "
+                + randomIndex(VENUE_TYPES.length) + " VENUE_TYPE, "
+                + randomIndex(120) + " STREET, "
+                + randomIndex(99) + " HOUSE_NUMBER, "
+                + randomIndex(99) + " SUFFIX, "
+                + "SQRT(-2 * LN(1 - RAND())) * COS(2 * PI() * RAND()) GAUSSIAN "
+                + "FROM SYSTEM_RANGE(?, ?)) R";
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            insert.setLong(1, firstId);
+            insertChunks(connection, insert, 2, settings.venues());
+        }
+    }
+
+    // Venue con sesgo cuadrático: el primer 10% de los venues recibe ~32% de los eventos.
+    // Fecha uniforme en la ventana, pero 40% de los días entre semana se corren al viernes/sábado
+    private void insertEvents(Connection connection, Settings settings, long firstVenueId, long firstId)
+            throws SQLException {
+        String sql = "INSERT INTO events (id, name, date, venue_id, status) "
+                + "SELECT ? + X - 1, "
+                + sqlArray(CATEGORIES) + "[CATEGORY] || ' de ' || " + sqlArray(THEMES) + "[THEME] || ' ' || EDITION, "
+                + "CASE WHEN ISO_DAY_OF_WEEK(EVENT_DAY) <= 4 AND SHIFT < 0.4 "
+                + "THEN DATEADD(DAY, 5 - ISO_DAY_OF_WEEK(EVENT_DAY) + WEEKEND_DAY, EVENT_DAY) ELSE EVENT_DAY END, "
+                + "CAST(? AS BIGINT) + LEAST(CAST(? AS INT) - 1, CAST(FLOOR(? * POPULARITY * POPULARITY) AS INT)), "
+                + "CASE WHEN CANCELLED < CAST(? AS DOUBLE PRECISION) THEN '" + EventStatus.CANCELLED.name() + "' "
+                + "ELSE '" + EventStatus.ACTIVE.name() + "' END "
+                + "FROM (SELECT X, "
+                + randomIndex(CATEGORIES.length) + " CATEGORY, "
+                + randomIndex(THEMES.length) + " THEME, "
+                + randomIndex(500) + " EDITION, "
+                + "DATEADD(DAY, CAST(FLOOR(RAND() * ?) AS INT), CAST(? AS DATE)) EVENT_DAY, "
+                + "RAND() SHIFT, "
+                + "CAST(FLOOR(RAND() * 2) AS INT) WEEKEND_DAY, "
+                + "RAND() POPULARITY, "
+                + "RAND() CANCELLED "
+                + "FROM SYSTEM_RANGE(?, ?)) R";
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            insert.setLong(1, firstId);
+            insert.setLong(2, firstVenueId);
+            insert.setInt(3, settings.venues());
+            insert.setInt(4, settings.venues());
+            insert.setDouble(5, settings.cancelledRatio());
+            insert.setInt(6, settings.dateSpreadDays());
+            insert.setDate(7, Date.valueOf(LocalDate.now().minusDays(settings.dateSpreadDays() / 2)));
+            insertChunks(connection, insert, 8, settings.totalEvents());
+        }
+    }
+
+    // Ejecuta insert por tramos de CHUNK_SIZE filas de SYSTEM_RANGE (parámetros rangeParameter y el siguiente)
+    private static void insertChunks(Connection connection, PreparedStatement insert, int rangeParameter, long total)
+            throws SQLException {
+        for (long from = 1; from <= total; from += CHUNK_SIZE) {
+            insert.setLong(rangeParameter, from);
+            insert.setLong(rangeParameter + 1, Math.min(total, from + CHUNK_SIZE - 1));
+            insert.executeUpdate();
+            connection.commit();
+        }
+    }
+
+    // Índice 1..size para los arreglos SQL, uniforme
+    private static String randomIndex(int size) {
+        return "CAST(1 + FLOOR(RAND() * " + size + ") AS INT)";
+    }
+
+    // Solo con las constantes de esta clase (sin comillas)
+    private static String sqlArray(String[] values) {
+        return Arrays.stream(values).collect(Collectors.joining("', '", "ARRAY['", "']"));
+    }
+
+    // Los tramos ya confirmados de una generación que falló; primero los eventos (FK a venues)
+    private static void deleteGenerated(Connection connection, Settings settings, long firstVenueId,
+            long firstEventId) throws SQLException {
+        connection.rollback();
+        try (PreparedStatement events = connection.prepareStatement("DELETE FROM events WHERE id BETWEEN ? AND ?");
+                PreparedStatement venues = connection.prepareStatement("DELETE FROM venues WHERE id BETWEEN ? AND ?")) {
+            events.setLong(1, firstEventId);
+            events.setLong(2, firstEventId + settings.totalEvents() - 1);
+            events.executeUpdate();
+            venues.setLong(1, firstVenueId);
+            venues.setLong(2, firstVenueId + settings.venues() - 1);
+            venues.executeUpdate();
+        }
+        connection.commit();
+    }
+
+    /**
+     * Elimina los índices secundarios de events (los que no respaldan una
+     * restricción, como la FK a venues) si la carga lo justifica, y retorna
+     * los CREATE INDEX para recrearlos.
+     */
+    private static List<String> dropSecondaryIndexes(Connection connection, long rows) throws SQLException {
+        long existing;
+        try (Statement statement = connection.createStatement();
+                var result = statement.executeQuery("SELECT COUNT(*) FROM events")) {
+            result.next();
+            existing = result.getLong(1);
+        }
+        if (rows < DEFER_INDEXES_MIN_ROWS || rows < existing) {
+            return List.of();
+        }
+
+        Map<String, List<String>> columns = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement();
+                var result = statement.executeQuery("SELECT i.INDEX_NAME, c.COLUMN_NAME, c.ORDERING_SPECIFICATION "
+                        + "FROM INFORMATION_SCHEMA.INDEXES i JOIN INFORMATION_SCHEMA.INDEX_COLUMNS c "
+                        + "ON c.INDEX_SCHEMA = i.INDEX_SCHEMA AND c.INDEX_NAME = i.INDEX_NAME "
+                        + "WHERE i.TABLE_SCHEMA = SCHEMA() AND i.TABLE_NAME = 'EVENTS' "
+                        + "AND i.INDEX_TYPE_NAME = 'INDEX' AND i.INDEX_NAME NOT IN ("
+                        + "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS "
+                        + "WHERE TABLE_SCHEMA = SCHEMA() AND INDEX_NAME IS NOT NULL) "
+                        + "ORDER BY i.INDEX_NAME, c.ORDINAL_POSITION")) {
+            while (result.next()) {
+                columns.computeIfAbsent(result.getString(1), name -> new ArrayList<>())
+                        .add('"' + result.getString(2) + "\" " + result.getString(3));
+            }
+        }
+
+        List<String> creates = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            for (Map.Entry<String, List<String>> index : columns.entrySet()) {
+                statement.execute("DROP INDEX \"" + index.getKey() + '"');
+                creates.add("CREATE INDEX \"" + index.getKey() + "\" ON events("
+                        + String.join(", ", index.getValue()) + ")");
+            }
+        }
+        return creates;
+    }
+
+    private static void createIndexes(Connection connection, List<String> creates) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String create : creates) {
+                statement.execute(create);
+            }
+        }
+    }
+
+    /**
+     * Reserva count IDs consecutivos y retorna el primero. Empieza después
+     * del MAX(id) de la tabla y del último bloque que la secuencia entregó
+     * (el optimizador pooled de Hibernate puede estar usándolo), y reinicia
+     * la secuencia después del rango antes de insertar. ALTER SEQUENCE no se
+     * revierte con la transacción: si la generación falla queda un hueco.
+     */
+    private static long reserveIds(Connection connection, String table, String sequence, long count)
+            throws SQLException {
+        long maxId;
+        long lastBlock;
+        try (Statement statement = connection.createStatement()) {
+            try (var result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+                result.next();
+                maxId = result.getLong(1);
+            }
+            // Este valor queda para el generador: Hibernate solo usó bloques anteriores
+            try (var result = statement.executeQuery("SELECT NEXT VALUE FOR " + sequence)) {
+                result.next();
+                lastBlock = result.getLong(1) - SEQUENCE_INCREMENT;
+            }
+        }
+        long firstId = Math.max(maxId, lastBlock) + 1;
+        restartSequence(connection, sequence, firstId + count - 1);
+        return firstId;
+    }
+
+    // Mismo criterio que V5: RESTART WITH MAX(id) + incremento
+    private static void restartSequence(Connection connection, String sequence, long maxId)
+            throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + SEQUENCE_INCREMENT));
+        }
+    }
+}
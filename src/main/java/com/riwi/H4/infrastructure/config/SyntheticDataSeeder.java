@@ -0,0 +1,48 @@
+package com.riwi.H4.infrastructure.config;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import javax.sql.DataSource;
+
+/**
+ * Carga de datos sintéticos al arrancar (desactivada por defecto).
+ *
+ * Ejemplo: 1.000 venues × 1.000 eventos = 1M de eventos
+ *   mvn spring-boot:run -Dspring-boot.run.arguments="--app.seed.synthetic.enabled=true
+ *       --app.seed.synthetic.venues=1000 --app.seed.synthetic.events-per-venue=1000"
+ *
+ * Corre al terminar de crear los singletons (después de Flyway y del
+ * EntityManagerFactory) y antes de que Tomcat abra el puerto, que se abre al
+ * final del refresh: ninguna petición ve events sin sus índices secundarios
+ * ni tramos a medias. También es antes de ApplicationReadyEvent, así que las
+ * cachés e índices en memoria se cargan ya con estos datos. Un
+ * CommandLineRunner correría con el servidor ya atendiendo peticiones.
+ */
+@Configuration
+public class SyntheticDataSeeder {
+
+    @Bean
+    public SyntheticDataGenerator syntheticDataGenerator(DataSource dataSource,
+            EntityManagerFactory entityManagerFactory) {
+        return new SyntheticDataGenerator(dataSource, entityManagerFactory);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.seed.synthetic.enabled", havingValue = "true")
+    SmartInitializingSingleton syntheticData(
+            SyntheticDataGenerator generator,
+            @Value("${app.seed.synthetic.venues:1000}") int venues,
+            @Value("${app.seed.synthetic.events-per-venue:100}") int eventsPerVenue,
+            @Value("${app.seed.synthetic.date-spread-days:730}") int dateSpreadDays,
+            @Value("${app.seed.synthetic.cancelled-ratio:0.1}") double cancelledRatio,
+            @Value("${app.seed.synthetic.seed:42}") long seed) {
+        return () -> generator.generate(new SyntheticDataGenerator.Settings(
+                venues, eventsPerVenue, dateSpreadDays, cancelledRatio, seed));
+    }
+}
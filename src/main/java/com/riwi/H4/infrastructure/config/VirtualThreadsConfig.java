@@ -0,0 +1,28 @@
+package com.riwi.H4.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Comprobación del modo virtual threads (perfil virtual-threads).
+ *
+ * El proyecto compila con release 17 y en Java 17 Spring Boot ignora
+ * spring.threads.virtual.enabled sin avisar: la aplicación arrancaría con
+ * hilos de plataforma y el pool de conexiones del perfil. Se detiene el
+ * arranque para que el modo no se active solo en apariencia.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    static final int MIN_JAVA_VERSION = 21;
+
+    public VirtualThreadsConfig() {
+        int version = Runtime.version().feature();
+        if (version < MIN_JAVA_VERSION) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true requiere Java "
+                    + MIN_JAVA_VERSION + "+ (JVM actual: Java " + version + "); ejecutar con un JDK "
+                    + MIN_JAVA_VERSION + " o quitar el perfil virtual-threads");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.riwi.H4.infrastructure.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.riwi.H4.infrastructure.adapter.CachingVenueRepositoryAdapter;
+import com.riwi.H4.infrastructure.dto.CacheStatsDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/cache")
+@Tag(name = "Cache", description = "Estadísticas de las cachés en memoria")
+public class CacheController {
+
+        private final ObjectProvider<CachingVenueRepositoryAdapter> venueCache;
+
+        public CacheController(ObjectProvider<CachingVenueRepositoryAdapter> venueCache) {
+                this.venueCache = venueCache;
+        }
+
+        @Operation(summary = "Estadísticas de la caché de venues", description = "Hits, misses, hit rate y evictions de la caché de venues (enabled=false si está desactivada).")
+        @GetMapping("/venues/stats")
+        public ResponseEntity<CacheStatsDTO> venueStats() {
+                CachingVenueRepositoryAdapter cache = venueCache.getIfAvailable();
+                if (cache == null) {
+                        return ResponseEntity.ok(new CacheStatsDTO(false, 0, 0, 0, 0, 0));
+                }
+                CacheStats stats = cache.stats();
+                return ResponseEntity.ok(new CacheStatsDTO(true, cache.size(), stats.hitCount(),
+                                stats.missCount(), stats.hitRate(), stats.evictionCount()));
+        }
+}
@@ -0,0 +1,34 @@
+package com.riwi.H4.infrastructure.controller;
+
+import com.riwi.H4.infrastructure.feed.CatalogChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/changes")
+@Tag(name = "Changes", description = "Feed de cambios de eventos y venues (Server-Sent Events)")
+public class ChangeFeedController {
+
+        private final CatalogChangeFeed feed;
+
+        public ChangeFeedController(CatalogChangeFeed feed) {
+                this.feed = feed;
+        }
+
+        // El navegador (EventSource) reenvía Last-Event-ID al reconectar; el
+        // parámetro lastEventId sirve a los clientes que no pueden fijar cabeceras
+        @Operation(summary = "Suscribirse a los cambios", description = "Envía un evento SSE por cada evento o venue creado, actualizado o borrado, después del commit. Con Last-Event-ID reenvía los cambios que faltaron desde un buffer en memoria; si ya no están, envía un evento \"reset\" y el cliente debe recargar el estado.")
+        @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        public SseEmitter subscribe(
+                        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                        @RequestParam(required = false) String lastEventId) {
+                return feed.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+        }
+}
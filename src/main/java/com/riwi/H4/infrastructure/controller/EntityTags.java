@@ -0,0 +1,64 @@
+package com.riwi.H4.infrastructure.controller;
+
+import com.riwi.H4.domain.exception.PreconditionFailedException;
+import com.riwi.H4.domain.exception.PreconditionRequiredException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * ETags fuertes de eventos y venues.
+ *
+ * - Un recurso: tipo, ID y versión (@Version), p. ej. "event-7-v3".
+ * - Un listado completo: el sello de cambios de la colección, p. ej. "events-m1x2k-15".
+ *
+ * La versión solo cambia con un UPDATE confirmado y el sello con cualquier
+ * escritura confirmada sobre la colección, así que el mismo ETag implica la
+ * misma representación byte a byte.
+ */
+final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    static String event(Long id, Long version) {
+        return "\"event-" + id + "-v" + version + "\"";
+    }
+
+    static String venue(Long id, Long version) {
+        return "\"venue-" + id + "-v" + version + "\"";
+    }
+
+    static String events(String stamp) {
+        return "\"events-" + stamp + "\"";
+    }
+
+    static String venues(String stamp) {
+        return "\"venues-" + stamp + "\"";
+    }
+
+    /**
+     * Versión esperada a partir de If-Match, que debe ser el ETag fuerte del
+     * mismo evento. Sin If-Match → 428; con otro valor (ETag débil, de otro
+     * recurso o "*") → 412, porque nunca coincide con la versión actual.
+     */
+    static Long eventVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new PreconditionRequiredException("If-Match con el ETag del evento es obligatorio");
+        }
+        String prefix = "\"event-" + id + "-v";
+        String tag = ifMatch.strip();
+        if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+            try {
+                return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // cae al 412
+            }
+        }
+        throw new PreconditionFailedException("If-Match no corresponde al evento " + id + ": " + tag);
+    }
+
+    // Solo vale la pena consultar la versión si el cliente envió un ETag
+    static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
+}
@@ -1,18 +1,42 @@
 package com.riwi.H4.infrastructure.controller;
 
+import com.riwi.H4.application.port.in.CatalogReadUseCase;
 import com.riwi.H4.application.port.in.EventUseCase;
+import com.riwi.H4.domain.model.BulkResult;
+import com.riwi.H4.domain.model.CursorPage;
 import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventSearchCriteria;
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.SliceResult;
+import com.riwi.H4.infrastructure.dto.BulkDeleteResultDTO;
+import com.riwi.H4.infrastructure.dto.BulkFilterResultDTO;
+import com.riwi.H4.infrastructure.dto.BulkItemResultDTO;
+import com.riwi.H4.infrastructure.dto.BulkResultDTO;
+import com.riwi.H4.infrastructure.dto.EventCursorPageDTO;
 import com.riwi.H4.infrastructure.dto.EventDTO;
+import com.riwi.H4.infrastructure.dto.EventSliceDTO;
+import com.riwi.H4.infrastructure.dto.EventSummaryDTO;
+import com.riwi.H4.infrastructure.dto.UpcomingEventDTO;
 import com.riwi.H4.infrastructure.mapper.EventDTOMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -21,12 +45,21 @@ import java.util.stream.Collectors;
 @Tag(name = "Events", description = "Gestión de eventos: CRUD completo")
 public class EventController {
 
+        private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+        private static final String APPLICATION_MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+        private static final int EXPORT_FLUSH_EVERY = 500;
+
         private final EventUseCase eventUseCase;
+        private final CatalogReadUseCase catalogReadUseCase;
         private final EventDTOMapper eventDTOMapper;
+        private final ObjectMapper objectMapper;
 
-        public EventController(EventUseCase eventUseCase, EventDTOMapper eventDTOMapper) {
+        public EventController(EventUseCase eventUseCase, CatalogReadUseCase catalogReadUseCase,
+                        EventDTOMapper eventDTOMapper, ObjectMapper objectMapper) {
                 this.eventUseCase = eventUseCase;
+                this.catalogReadUseCase = catalogReadUseCase;
                 this.eventDTOMapper = eventDTOMapper;
+                this.objectMapper = objectMapper;
         }
 
         // -----------------------------
@@ -34,7 +67,8 @@ public class EventController {
         // -----------------------------
         @Operation(summary = "Crear un evento", description = "Crea un nuevo evento dentro del catálogo.", responses = {
                         @ApiResponse(responseCode = "201", description = "Evento creado correctamente", content = @Content(schema = @Schema(implementation = EventDTO.class))),
-                        @ApiResponse(responseCode = "400", description = "Datos inválidos")
+                        @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+                        @ApiResponse(responseCode = "409", description = "El venue ya tiene un evento activo ese día")
         })
         @PostMapping
         public ResponseEntity<EventDTO> create(@RequestBody EventDTO eventDTO) {
@@ -43,30 +77,217 @@ public class EventController {
                 return ResponseEntity.status(HttpStatus.CREATED).body(eventDTOMapper.toDTO(createdEvent));
         }
 
+        // -----------------------------
+        // BULK CREATE
+        // -----------------------------
+        @Operation(summary = "Crear eventos en lote", description = "Crea hasta 10.000 eventos en una sola petición con inserción por batches JDBC. Retorna el resultado de cada elemento (CREATED con su id o REJECTED con el motivo).", responses = {
+                        @ApiResponse(responseCode = "200", description = "Resultado por elemento", content = @Content(schema = @Schema(implementation = BulkResultDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Lote demasiado grande")
+        })
+        @PostMapping("/bulk")
+        public ResponseEntity<BulkResultDTO> createAll(@RequestBody List<EventDTO> eventDTOs) {
+                List<Event> events = eventDTOs.stream()
+                                .map(eventDTOMapper::toDomain)
+                                .collect(Collectors.toList());
+                BulkResult result = eventUseCase.createAll(events);
+                List<BulkItemResultDTO> items = result.getItems().stream()
+                                .map(item -> new BulkItemResultDTO(item.getIndex(),
+                                                item.isCreated() ? "CREATED" : "REJECTED",
+                                                item.getId(), item.getError()))
+                                .collect(Collectors.toList());
+                return ResponseEntity.ok(new BulkResultDTO(result.getReceived(), result.getCreated(),
+                                result.getRejected(), items));
+        }
+
         // -----------------------------
         // GET BY ID
         // -----------------------------
-        @Operation(summary = "Buscar evento por ID", description = "Retorna un evento usando su ID.", responses = {
+        // Con If-None-Match se compara contra la versión (una consulta de una
+        // columna) y, si coincide, se responde 304 sin cargar el evento
+        @Operation(summary = "Buscar evento por ID", description = "Retorna un evento usando su ID, con ETag. Si If-None-Match coincide con la versión actual responde 304 sin cargar el evento.", responses = {
                         @ApiResponse(responseCode = "200", description = "Evento encontrado", content = @Content(schema = @Schema(implementation = EventDTO.class))),
+                        @ApiResponse(responseCode = "304", description = "El evento no cambió"),
                         @ApiResponse(responseCode = "404", description = "Evento no encontrado")
         })
         @GetMapping("/{id}")
-        public ResponseEntity<EventDTO> findById(@PathVariable Long id) {
+        public ResponseEntity<EventDTO> findById(@PathVariable Long id, WebRequest request) {
+                if (EntityTags.isConditional(request)
+                                && request.checkNotModified(EntityTags.event(id, eventUseCase.findVersion(id)))) {
+                        return null;
+                }
                 Event event = eventUseCase.findById(id);
-                return ResponseEntity.ok(eventDTOMapper.toDTO(event));
+                return ResponseEntity.ok()
+                                .eTag(EntityTags.event(id, event.getVersion()))
+                                .body(eventDTOMapper.toDTO(event));
+        }
+
+        // -----------------------------
+        // GET BY IDS
+        // -----------------------------
+        // Mismo path que GET ALL; se elige este método cuando viene el parámetro ids
+        @Operation(summary = "Buscar varios eventos por ID", description = "Retorna los eventos de la lista ids (hasta 100, separados por comas) con una sola consulta IN, en el orden pedido. Los IDs inexistentes se omiten.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Eventos encontrados"),
+                        @ApiResponse(responseCode = "400", description = "Lista vacía o con más de 100 IDs")
+        })
+        @GetMapping(params = "ids")
+        public ResponseEntity<List<EventDTO>> findByIds(@RequestParam List<Long> ids) {
+                return ResponseEntity.ok(eventUseCase.findAllById(ids).stream()
+                                .map(eventDTOMapper::toDTO)
+                                .toList());
         }
 
         // -----------------------------
         // GET ALL
         // -----------------------------
-        @Operation(summary = "Listar todos los eventos", description = "Obtiene la lista completa de eventos registrados.")
+        // Lectura por proyección: no hidrata entidades ni mapea Entity → Domain → DTO
+        // (solo proyección → DTO). El sello se lee ANTES de consultar: si una escritura se confirma en
+        // medio, el ETag queda viejo y el próximo GET descarga de nuevo
+        @Operation(summary = "Listar todos los eventos", description = "Obtiene la lista completa de eventos registrados, con ETag. Si If-None-Match coincide con el sello de la colección responde 304 sin consultar la base de datos.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Lista de eventos"),
+                        @ApiResponse(responseCode = "304", description = "Ningún evento cambió")
+        })
         @GetMapping
-        public ResponseEntity<List<EventDTO>> findAll() {
-                List<Event> events = eventUseCase.findAll();
-                List<EventDTO> eventDTOs = events.stream()
+        public ResponseEntity<List<EventSummaryDTO>> findAll(WebRequest request) {
+                String etag = EntityTags.events(catalogReadUseCase.eventsStamp());
+                if (request.checkNotModified(etag)) {
+                        return null;
+                }
+                return ResponseEntity.ok().eTag(etag)
+                                .body(eventDTOMapper.toSummaryDTOs(catalogReadUseCase.findAllEvents()));
+        }
+
+        // -----------------------------
+        // GET PAGED
+        // -----------------------------
+        @Operation(summary = "Listar eventos paginados", description = "Listado paginado por id usando proyecciones (sin COUNT). page desde 0; size entre 1 y 100.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Página de eventos"),
+                        @ApiResponse(responseCode = "400", description = "page negativo o size fuera de 1..100")
+        })
+        @GetMapping("/paged")
+        public ResponseEntity<List<EventSummaryDTO>> findPaged(
+                        @RequestParam(defaultValue = "0") int page,
+                        @RequestParam(defaultValue = "10") int size) {
+                return ResponseEntity.ok(eventDTOMapper.toSummaryDTOs(catalogReadUseCase.findEvents(page, size)));
+        }
+
+        // -----------------------------
+        // GET KEYSET (cursor)
+        // -----------------------------
+        @Operation(summary = "Listar eventos por cursor", description = "Paginación keyset ordenada por fecha e id. Enviar el nextCursor recibido para obtener la página siguiente; la latencia no depende de la profundidad.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Página de eventos", content = @Content(schema = @Schema(implementation = EventCursorPageDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Cursor o tamaño inválido")
+        })
+        @GetMapping("/keyset")
+        public ResponseEntity<EventCursorPageDTO> findAllByCursor(
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "20") int size) {
+                CursorPage<Event> page = eventUseCase.findAllByCursor(cursor, size);
+                List<EventDTO> items = page.getItems().stream()
                                 .map(eventDTOMapper::toDTO)
                                 .collect(Collectors.toList());
-                return ResponseEntity.ok(eventDTOs);
+                return ResponseEntity.ok(new EventCursorPageDTO(items, page.getNextCursor()));
+        }
+
+        // -----------------------------
+        // SEARCH (filtros combinados)
+        // -----------------------------
+        @Operation(summary = "Buscar eventos con filtros", description = "Combina cualquier subconjunto de filtros (venue, estado, rango de fechas, nombre, solo futuros) en una sola consulta. Incluye el venue sin N+1 y no calcula el total (hasNext indica si hay más).", responses = {
+                        @ApiResponse(responseCode = "200", description = "Página de resultados", content = @Content(schema = @Schema(implementation = EventSliceDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Parámetros de paginación inválidos")
+        })
+        @GetMapping("/search")
+        public ResponseEntity<EventSliceDTO> search(
+                        @RequestParam(required = false) Long venueId,
+                        @RequestParam(required = false) EventStatus status,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                        @RequestParam(required = false) String name,
+                        @RequestParam(defaultValue = "false") boolean upcoming,
+                        @RequestParam(defaultValue = "0") int page,
+                        @RequestParam(defaultValue = "20") int size) {
+                EventSearchCriteria criteria = new EventSearchCriteria(venueId, status, from, to, name, upcoming);
+                SliceResult<Event> slice = eventUseCase.search(criteria, page, size);
+                List<EventDTO> items = slice.getItems().stream()
+                                .map(eventDTOMapper::toDTO)
+                                .collect(Collectors.toList());
+                return ResponseEntity.ok(new EventSliceDTO(items, slice.getPage(), slice.getSize(), slice.hasNext()));
+        }
+
+        // -----------------------------
+        // SUGGEST (autocompletado)
+        // -----------------------------
+        @Operation(summary = "Sugerir eventos por prefijo", description = "Type-ahead sobre el nombre de los eventos activos y futuros, ordenados por fecha. Se resuelve con un trie en memoria que guarda los más próximos de cada prefijo.")
+        @GetMapping("/suggest")
+        public ResponseEntity<List<EventSummaryDTO>> suggest(
+                        @RequestParam String prefix,
+                        @RequestParam(defaultValue = "10") int limit) {
+                return ResponseEntity.ok(eventDTOMapper.toSummaryDTOs(eventUseCase.suggest(prefix, limit)));
+        }
+
+        // -----------------------------
+        // UPCOMING (read model en memoria)
+        // -----------------------------
+        @Operation(summary = "Próximos eventos", description = "Eventos activos desde from (por defecto hoy), ordenados por fecha e id, con el nombre del venue. Se sirven desde un read model en memoria que se actualiza después de cada commit, sin consultar la base de datos.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Próximos eventos"),
+                        @ApiResponse(responseCode = "400", description = "limit fuera de rango (1 a 1000)")
+        })
+        @GetMapping("/upcoming")
+        public ResponseEntity<List<UpcomingEventDTO>> findUpcoming(
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @RequestParam(defaultValue = "50") int limit) {
+                return ResponseEntity.ok(eventDTOMapper.toUpcomingDTOs(catalogReadUseCase.findUpcoming(from, limit)));
+        }
+
+        // -----------------------------
+        // EXPORT (streaming)
+        // -----------------------------
+        @Operation(summary = "Exportar catálogo en NDJSON", description = "Escribe un evento por línea a medida que se leen de la base de datos. La memoria usada no depende del número de eventos.")
+        @GetMapping(value = "/export", produces = APPLICATION_NDJSON_VALUE)
+        public ResponseEntity<StreamingResponseBody> exportNdjson() {
+                return ResponseEntity.ok()
+                                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                                .body(exportBody(false));
+        }
+
+        @Operation(summary = "Exportar catálogo como arreglo JSON", description = "Igual que la exportación NDJSON, pero como un único arreglo JSON enviado por chunks.")
+        @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+        public ResponseEntity<StreamingResponseBody> exportJsonArray() {
+                return ResponseEntity.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(exportBody(true));
+        }
+
+        /**
+         * Cada evento se mapea a DTO y se escribe directamente en la respuesta;
+         * no se construye ninguna lista intermedia. Se hace flush cada
+         * EXPORT_FLUSH_EVERY filas para que el cliente reciba chunks continuos.
+         */
+        private StreamingResponseBody exportBody(boolean jsonArray) {
+                return out -> {
+                        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                                generator.setRootValueSeparator(null);
+                                if (jsonArray) {
+                                        generator.writeStartArray();
+                                }
+                                int[] written = { 0 };
+                                eventUseCase.exportAll(event -> {
+                                        try {
+                                                generator.writeObject(eventDTOMapper.toDTO(event));
+                                                if (!jsonArray) {
+                                                        generator.writeRaw('\n');
+                                                }
+                                                if (++written[0] % EXPORT_FLUSH_EVERY == 0) {
+                                                        generator.flush();
+                                                }
+                                        } catch (IOException e) {
+                                                throw new UncheckedIOException(e);
+                                        }
+                                });
+                                if (jsonArray) {
+                                        generator.writeEndArray();
+                                }
+                        }
+                };
         }
 
         // -----------------------------
@@ -75,7 +296,8 @@ public class EventController {
         @Operation(summary = "Actualizar un evento", description = "Actualiza los datos de un evento existente.", responses = {
                         @ApiResponse(responseCode = "200", description = "Evento actualizado correctamente", content = @Content(schema = @Schema(implementation = EventDTO.class))),
                         @ApiResponse(responseCode = "404", description = "Evento no encontrado"),
-                        @ApiResponse(responseCode = "400", description = "Datos inválidos")
+                        @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+                        @ApiResponse(responseCode = "409", description = "El venue ya tiene un evento activo ese día")
         })
         @PutMapping("/{id}")
         public ResponseEntity<EventDTO> update(@PathVariable Long id, @RequestBody EventDTO eventDTO) {
@@ -84,10 +306,32 @@ public class EventController {
                 return ResponseEntity.ok(eventDTOMapper.toDTO(updatedEvent));
         }
 
+        // -----------------------------
+        // PATCH
+        // -----------------------------
+        // Un solo UPDATE con "WHERE version = ?"; sin cuerpo en la respuesta (el
+        // cliente ya tiene los datos) y con el ETag de la nueva versión
+        @Operation(summary = "Actualizar parcialmente un evento", description = "Cambia solo los campos presentes en el body (name, date, status, venueId) con una sentencia UPDATE. Requiere If-Match con el ETag actual del evento; responde 204 con el nuevo ETag.", responses = {
+                        @ApiResponse(responseCode = "204", description = "Evento actualizado"),
+                        @ApiResponse(responseCode = "400", description = "Body sin cambios o nombre vacío"),
+                        @ApiResponse(responseCode = "404", description = "Evento o venue no encontrado"),
+                        @ApiResponse(responseCode = "409", description = "El venue ya tiene un evento activo ese día"),
+                        @ApiResponse(responseCode = "412", description = "El evento cambió desde que se leyó (If-Match no coincide)"),
+                        @ApiResponse(responseCode = "428", description = "Falta If-Match")
+        })
+        @PatchMapping(value = "/{id}", consumes = { MediaType.APPLICATION_JSON_VALUE, APPLICATION_MERGE_PATCH_JSON_VALUE })
+        public ResponseEntity<Void> patch(@PathVariable Long id,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                        @RequestBody EventDTO changes) {
+                Long version = eventUseCase.patch(id, EntityTags.eventVersion(id, ifMatch),
+                                eventDTOMapper.toPatch(changes));
+                return ResponseEntity.noContent().eTag(EntityTags.event(id, version)).build();
+        }
+
         // -----------------------------
         // DELETE
         // -----------------------------
-        @Operation(summary = "Eliminar un evento", description = "Elimina un evento por su ID.", responses = {
+        @Operation(summary = "Eliminar un evento", description = "Elimina un evento por su ID con una sola sentencia DELETE.", responses = {
                         @ApiResponse(responseCode = "204", description = "Evento eliminado correctamente"),
                         @ApiResponse(responseCode = "404", description = "Evento no encontrado")
         })
@@ -96,4 +340,73 @@ public class EventController {
                 eventUseCase.delete(id);
                 return ResponseEntity.noContent().build();
         }
+
+        // -----------------------------
+        // DELETE BY IDS
+        // -----------------------------
+        @Operation(summary = "Eliminar varios eventos", description = "Elimina los eventos de la lista ids (hasta 1.000, separados por comas) con una sola sentencia DELETE ... IN. Los IDs repetidos cuentan una vez y los inexistentes se ignoran; la respuesta indica cuántos IDs distintos se pidieron y cuántos se borraron.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Cantidad de eventos borrados", content = @Content(schema = @Schema(implementation = BulkDeleteResultDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Lista vacía o con más de 1.000 IDs"),
+                        @ApiResponse(responseCode = "409", description = "Otra transacción borró alguno de los eventos durante la operación")
+        })
+        @DeleteMapping(params = "ids")
+        public ResponseEntity<BulkDeleteResultDTO> deleteByIds(@RequestParam List<Long> ids) {
+                int deleted = eventUseCase.deleteAll(ids);
+                return ResponseEntity.ok(new BulkDeleteResultDTO((int) ids.stream().distinct().count(), deleted));
+        }
+
+        // -----------------------------
+        // OPERACIONES EN BLOQUE POR FILTRO
+        // -----------------------------
+        @Operation(summary = "Cancelar eventos por filtro", description = "Cancela con un solo UPDATE los eventos ACTIVE que cumplen el filtro (los mismos de /events/search; al menos uno). Caso típico: venueId + upcoming=true cuando un venue cierra.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Cantidad de eventos cancelados", content = @Content(schema = @Schema(implementation = BulkFilterResultDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Sin filtros o más de 10.000 eventos"),
+                        @ApiResponse(responseCode = "409", description = "Los eventos del filtro cambiaron durante la operación")
+        })
+        @PostMapping("/bulk-cancel")
+        public ResponseEntity<BulkFilterResultDTO> cancelMatching(
+                        @RequestParam(required = false) Long venueId,
+                        @RequestParam(required = false) EventStatus status,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                        @RequestParam(required = false) String name,
+                        @RequestParam(defaultValue = "false") boolean upcoming) {
+                EventSearchCriteria criteria = new EventSearchCriteria(venueId, status, from, to, name, upcoming);
+                return ResponseEntity.ok(new BulkFilterResultDTO(eventUseCase.cancelMatching(criteria)));
+        }
+
+        @Operation(summary = "Reprogramar eventos por filtro", description = "Corre days días (negativo: adelanta) la fecha de los eventos que cumplen el filtro, con un solo UPDATE. Falla completo si algún día nuevo choca con otro evento ACTIVE del venue.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Cantidad de eventos reprogramados", content = @Content(schema = @Schema(implementation = BulkFilterResultDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Sin filtros, days = 0 o más de 10.000 eventos"),
+                        @ApiResponse(responseCode = "409", description = "Choque de ocupación o eventos cambiados durante la operación")
+        })
+        @PostMapping("/bulk-reschedule")
+        public ResponseEntity<BulkFilterResultDTO> rescheduleMatching(
+                        @RequestParam int days,
+                        @RequestParam(required = false) Long venueId,
+                        @RequestParam(required = false) EventStatus status,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                        @RequestParam(required = false) String name,
+                        @RequestParam(defaultValue = "false") boolean upcoming) {
+                EventSearchCriteria criteria = new EventSearchCriteria(venueId, status, from, to, name, upcoming);
+                return ResponseEntity.ok(new BulkFilterResultDTO(eventUseCase.rescheduleMatching(criteria, days)));
+        }
+
+        @Operation(summary = "Eliminar eventos por filtro", description = "Elimina con un solo DELETE los eventos que cumplen el filtro (al menos uno).", responses = {
+                        @ApiResponse(responseCode = "200", description = "Cantidad de eventos borrados", content = @Content(schema = @Schema(implementation = BulkFilterResultDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Sin filtros o más de 10.000 eventos"),
+                        @ApiResponse(responseCode = "409", description = "Los eventos del filtro cambiaron durante la operación")
+        })
+        @DeleteMapping("/bulk-delete")
+        public ResponseEntity<BulkFilterResultDTO> deleteMatching(
+                        @RequestParam(required = false) Long venueId,
+                        @RequestParam(required = false) EventStatus status,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                        @RequestParam(required = false) String name,
+                        @RequestParam(defaultValue = "false") boolean upcoming) {
+                EventSearchCriteria criteria = new EventSearchCriteria(venueId, status, from, to, name, upcoming);
+                return ResponseEntity.ok(new BulkFilterResultDTO(eventUseCase.deleteMatching(criteria)));
+        }
 }
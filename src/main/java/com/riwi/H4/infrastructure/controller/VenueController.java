@@ -1,20 +1,30 @@
 package com.riwi.H4.infrastructure.controller;
 
+import com.riwi.H4.application.port.in.CatalogReadUseCase;
+import com.riwi.H4.application.port.in.VenueRemovalUseCase;
 import com.riwi.H4.application.port.in.VenueUseCase;
 import com.riwi.H4.domain.model.Venue;
+import com.riwi.H4.domain.model.VenueRemoval;
+import com.riwi.H4.infrastructure.dto.VenueAvailabilityDTO;
 import com.riwi.H4.infrastructure.dto.VenueDTO;
+import com.riwi.H4.infrastructure.dto.VenueRemovalDTO;
+import com.riwi.H4.infrastructure.dto.VenueStatsDTO;
+import com.riwi.H4.infrastructure.dto.VenueSummaryDTO;
 import com.riwi.H4.infrastructure.mapper.VenueDTOMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/venues")
@@ -22,10 +32,15 @@ import java.util.stream.Collectors;
 public class VenueController {
 
         private final VenueUseCase venueUseCase;
+        private final CatalogReadUseCase catalogReadUseCase;
+        private final VenueRemovalUseCase venueRemovalUseCase;
         private final VenueDTOMapper venueDTOMapper;
 
-        public VenueController(VenueUseCase venueUseCase, VenueDTOMapper venueDTOMapper) {
+        public VenueController(VenueUseCase venueUseCase, CatalogReadUseCase catalogReadUseCase,
+                        VenueRemovalUseCase venueRemovalUseCase, VenueDTOMapper venueDTOMapper) {
                 this.venueUseCase = venueUseCase;
+                this.catalogReadUseCase = catalogReadUseCase;
+                this.venueRemovalUseCase = venueRemovalUseCase;
                 this.venueDTOMapper = venueDTOMapper;
         }
 
@@ -46,27 +61,93 @@ public class VenueController {
         // -----------------------------
         // GET BY ID
         // -----------------------------
-        @Operation(summary = "Buscar venue por ID", description = "Retorna un venue según su identificador.", responses = {
+        // Con If-None-Match se compara contra la versión y, si coincide, se
+        // responde 304 sin cargar el venue
+        @Operation(summary = "Buscar venue por ID", description = "Retorna un venue según su identificador, con ETag. Si If-None-Match coincide con la versión actual responde 304 sin cargar el venue.", responses = {
                         @ApiResponse(responseCode = "200", description = "Venue encontrado", content = @Content(schema = @Schema(implementation = VenueDTO.class))),
+                        @ApiResponse(responseCode = "304", description = "El venue no cambió"),
                         @ApiResponse(responseCode = "404", description = "Venue no encontrado")
         })
         @GetMapping("/{id}")
-        public ResponseEntity<VenueDTO> findById(@PathVariable Long id) {
+        public ResponseEntity<VenueDTO> findById(@PathVariable Long id, WebRequest request) {
+                if (EntityTags.isConditional(request)
+                                && request.checkNotModified(EntityTags.venue(id, venueUseCase.findVersion(id)))) {
+                        return null;
+                }
                 Venue venue = venueUseCase.findById(id);
-                return ResponseEntity.ok(venueDTOMapper.toDTO(venue));
+                return ResponseEntity.ok()
+                                .eTag(EntityTags.venue(id, venue.getVersion()))
+                                .body(venueDTOMapper.toDTO(venue));
+        }
+
+        // -----------------------------
+        // AVAILABILITY
+        // -----------------------------
+        @Operation(summary = "Disponibilidad de un venue", description = "Días ocupados (con un evento ACTIVE) y libres entre from y to, inclusive. Se responde desde el índice de ocupación en memoria. Por defecto, los próximos 30 días; máximo 366.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Disponibilidad del venue", content = @Content(schema = @Schema(implementation = VenueAvailabilityDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Rango de fechas inválido"),
+                        @ApiResponse(responseCode = "404", description = "Venue no encontrado")
+        })
+        @GetMapping("/{id}/availability")
+        public ResponseEntity<VenueAvailabilityDTO> availability(@PathVariable Long id,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+                return ResponseEntity.ok(venueDTOMapper.toDTO(venueUseCase.availability(id, from, to)));
         }
 
         // -----------------------------
         // GET ALL
         // -----------------------------
-        @Operation(summary = "Listar todos los venues", description = "Obtiene la lista completa de venues disponibles.")
+        // Lectura por proyección: no hidrata entidades ni mapea Entity → Domain → DTO
+        // (solo proyección → DTO). El sello se lee antes de consultar (ver EventController.findAll)
+        @Operation(summary = "Listar todos los venues", description = "Obtiene la lista completa de venues disponibles, con ETag. Si If-None-Match coincide con el sello de la colección responde 304 sin consultar la base de datos.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Lista de venues"),
+                        @ApiResponse(responseCode = "304", description = "Ningún venue cambió")
+        })
         @GetMapping
-        public ResponseEntity<List<VenueDTO>> findAll() {
-                List<Venue> venues = venueUseCase.findAll();
-                List<VenueDTO> venueDTOs = venues.stream()
+        public ResponseEntity<List<VenueSummaryDTO>> findAll(WebRequest request) {
+                String etag = EntityTags.venues(catalogReadUseCase.venuesStamp());
+                if (request.checkNotModified(etag)) {
+                        return null;
+                }
+                return ResponseEntity.ok().eTag(etag)
+                                .body(venueDTOMapper.toSummaryDTOs(catalogReadUseCase.findAllVenues()));
+        }
+
+        // -----------------------------
+        // STATS
+        // -----------------------------
+        // Una consulta GROUP BY: no se leen ni se cuentan eventos en el cliente
+        @Operation(summary = "Estadísticas por venue", description = "Total de eventos, activos, cancelados y próximos (ACTIVE desde hoy) de cada venue, con su capacidad. from/to (opcionales) filtran los eventos contados por fecha.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Estadísticas de todos los venues"),
+                        @ApiResponse(responseCode = "400", description = "from posterior a to")
+        })
+        @GetMapping("/stats")
+        public ResponseEntity<List<VenueStatsDTO>> stats(
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+                return ResponseEntity.ok(venueDTOMapper.toStatsDTOs(catalogReadUseCase.findVenueStats(from, to)));
+        }
+
+        // -----------------------------
+        // SEARCH (nombre / ubicación)
+        // -----------------------------
+        @Operation(summary = "Buscar venues por ubicación", description = "Búsqueda parcial sin distinguir mayúsculas, resuelta con el índice de trigramas en memoria.")
+        @GetMapping("/by-location")
+        public ResponseEntity<List<VenueDTO>> findByLocation(@RequestParam String location) {
+                return ResponseEntity.ok(toDTOs(venueUseCase.findByLocation(location)));
+        }
+
+        @Operation(summary = "Buscar venues por nombre", description = "Búsqueda parcial sin distinguir mayúsculas, pensada para el autocompletado del selector de venues.")
+        @GetMapping("/by-name")
+        public ResponseEntity<List<VenueDTO>> findByName(@RequestParam String name) {
+                return ResponseEntity.ok(toDTOs(venueUseCase.findByName(name)));
+        }
+
+        private List<VenueDTO> toDTOs(List<Venue> venues) {
+                return venues.stream()
                                 .map(venueDTOMapper::toDTO)
-                                .collect(Collectors.toList());
-                return ResponseEntity.ok(venueDTOs);
+                                .toList();
         }
 
         // -----------------------------
@@ -87,7 +168,7 @@ public class VenueController {
         // -----------------------------
         // DELETE
         // -----------------------------
-        @Operation(summary = "Eliminar un venue", description = "Elimina un venue por su identificador.", responses = {
+        @Operation(summary = "Eliminar un venue", description = "Elimina un venue y todos sus eventos con dos sentencias DELETE, sin cargarlos, en una sola transacción. Para venues con muchos eventos, ver POST /venues/{id}/removal.", responses = {
                         @ApiResponse(responseCode = "204", description = "Venue eliminado correctamente"),
                         @ApiResponse(responseCode = "404", description = "Venue no encontrado")
         })
@@ -96,4 +177,31 @@ public class VenueController {
                 venueUseCase.delete(id);
                 return ResponseEntity.noContent().build();
         }
+
+        // -----------------------------
+        // DELETE POR LOTES
+        // -----------------------------
+        @Operation(summary = "Eliminar un venue por lotes", description = "Encola la eliminación del venue y sus eventos en lotes de chunkSize (una transacción por lote, sin cargar eventos). Con archive=true cada lote se copia antes a events_archive. Responde 202 con la URL del progreso; si ya hay una eliminación en curso para el venue, responde esa.", responses = {
+                        @ApiResponse(responseCode = "202", description = "Eliminación encolada", content = @Content(schema = @Schema(implementation = VenueRemovalDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "chunkSize fuera de 1..10.000"),
+                        @ApiResponse(responseCode = "404", description = "Venue no encontrado")
+        })
+        @PostMapping("/{id}/removal")
+        public ResponseEntity<VenueRemovalDTO> startRemoval(@PathVariable Long id,
+                        @RequestParam(defaultValue = "false") boolean archive,
+                        @RequestParam(defaultValue = "1000") int chunkSize) {
+                VenueRemoval removal = venueRemovalUseCase.start(id, archive, chunkSize);
+                return ResponseEntity.accepted()
+                                .location(URI.create("/venues/removals/" + removal.getId()))
+                                .body(venueDTOMapper.toDTO(removal));
+        }
+
+        @Operation(summary = "Progreso de una eliminación por lotes", description = "Estado, eventos borrados y archivados, total estimado y lotes confirmados.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Progreso de la eliminación", content = @Content(schema = @Schema(implementation = VenueRemovalDTO.class))),
+                        @ApiResponse(responseCode = "404", description = "Eliminación desconocida (o ya descartada del historial)")
+        })
+        @GetMapping("/removals/{removalId}")
+        public ResponseEntity<VenueRemovalDTO> removal(@PathVariable String removalId) {
+                return ResponseEntity.ok(venueDTOMapper.toDTO(venueRemovalUseCase.findById(removalId)));
+        }
 }
@@ -0,0 +1,32 @@
+package com.riwi.H4.infrastructure.dto;
+
+public class BulkDeleteResultDTO {
+
+    private int requested;
+
+    private int deleted;
+
+    public BulkDeleteResultDTO() {
+    }
+
+    public BulkDeleteResultDTO(int requested, int deleted) {
+        this.requested = requested;
+        this.deleted = deleted;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(int deleted) {
+        this.deleted = deleted;
+    }
+}
@@ -0,0 +1,21 @@
+package com.riwi.H4.infrastructure.dto;
+
+public class BulkFilterResultDTO {
+
+    private int affected;
+
+    public BulkFilterResultDTO() {
+    }
+
+    public BulkFilterResultDTO(int affected) {
+        this.affected = affected;
+    }
+
+    public int getAffected() {
+        return affected;
+    }
+
+    public void setAffected(int affected) {
+        this.affected = affected;
+    }
+}
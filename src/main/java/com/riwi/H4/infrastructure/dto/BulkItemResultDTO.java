@@ -0,0 +1,54 @@
+package com.riwi.H4.infrastructure.dto;
+
+public class BulkItemResultDTO {
+
+    private int index; // posición del elemento en el request
+
+    private String status; // CREATED o REJECTED
+
+    private Long id;
+
+    private String error;
+
+    public BulkItemResultDTO() {
+    }
+
+    public BulkItemResultDTO(int index, String status, Long id, String error) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.error = error;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
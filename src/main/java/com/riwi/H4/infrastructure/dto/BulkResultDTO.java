@@ -0,0 +1,56 @@
+package com.riwi.H4.infrastructure.dto;
+
+import java.util.List;
+
+public class BulkResultDTO {
+
+    private int received;
+
+    private int created;
+
+    private int rejected;
+
+    private List<BulkItemResultDTO> items;
+
+    public BulkResultDTO() {
+    }
+
+    public BulkResultDTO(int received, int created, int rejected, List<BulkItemResultDTO> items) {
+        this.received = received;
+        this.created = created;
+        this.rejected = rejected;
+        this.items = items;
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<BulkItemResultDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BulkItemResultDTO> items) {
+        this.items = items;
+    }
+}
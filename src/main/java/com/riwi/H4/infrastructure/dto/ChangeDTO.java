@@ -0,0 +1,105 @@
+package com.riwi.H4.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+
+/**
+ * Un cambio del feed GET /changes. entity es EVENT o VENUE y type es CREATED,
+ * UPDATED o DELETED. Solo se envían los campos que trae el cambio: en un
+ * UPDATED parcial los que faltan no cambiaron, y un DELETED trae solo el id.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeDTO {
+
+    private String entity;
+    private String type;
+    private Long id;
+    private String name;
+    private LocalDate date;
+    private String status;
+    private Long venueId;
+    private String location;
+    private Integer capacity;
+
+    public ChangeDTO() {
+    }
+
+    public ChangeDTO(String entity, String type, Long id) {
+        this.entity = entity;
+        this.type = type;
+        this.id = id;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    public void setEntity(String entity) {
+        this.entity = entity;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public void setVenueId(Long venueId) {
+        this.venueId = venueId;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+}
@@ -0,0 +1,34 @@
+package com.riwi.H4.infrastructure.dto;
+
+import java.util.List;
+
+public class EventCursorPageDTO {
+
+    private List<EventDTO> items;
+
+    private String nextCursor; // null cuando es la última página
+
+    public EventCursorPageDTO() {
+    }
+
+    public EventCursorPageDTO(List<EventDTO> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<EventDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<EventDTO> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,56 @@
+package com.riwi.H4.infrastructure.dto;
+
+import java.util.List;
+
+public class EventSliceDTO {
+
+    private List<EventDTO> items;
+
+    private int page;
+
+    private int size;
+
+    private boolean hasNext; // true si existe una página siguiente
+
+    public EventSliceDTO() {
+    }
+
+    public EventSliceDTO(List<EventDTO> items, int page, int size, boolean hasNext) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+
+    public List<EventDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<EventDTO> items) {
+        this.items = items;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,69 @@
+package com.riwi.H4.infrastructure.dto;
+
+import java.time.LocalDate;
+
+import com.riwi.H4.domain.model.EventStatus;
+
+public class EventSummaryDTO {
+
+    private Long id;
+
+    private String name;
+
+    private LocalDate date;
+
+    private EventStatus status;
+
+    private Long venueId;
+
+    public EventSummaryDTO() {
+    }
+
+    public EventSummaryDTO(Long id, String name, LocalDate date, EventStatus status, Long venueId) {
+        this.id = id;
+        this.name = name;
+        this.date = date;
+        this.status = status;
+        this.venueId = venueId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public EventStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EventStatus status) {
+        this.status = status;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public void setVenueId(Long venueId) {
+        this.venueId = venueId;
+    }
+}
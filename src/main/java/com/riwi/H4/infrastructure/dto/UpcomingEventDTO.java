@@ -0,0 +1,67 @@
+package com.riwi.H4.infrastructure.dto;
+
+import java.time.LocalDate;
+
+public class UpcomingEventDTO {
+
+    private Long id;
+
+    private String name;
+
+    private LocalDate date;
+
+    private Long venueId;
+
+    private String venueName;
+
+    public UpcomingEventDTO() {
+    }
+
+    public UpcomingEventDTO(Long id, String name, LocalDate date, Long venueId, String venueName) {
+        this.id = id;
+        this.name = name;
+        this.date = date;
+        this.venueId = venueId;
+        this.venueName = venueName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public void setVenueId(Long venueId) {
+        this.venueId = venueId;
+    }
+
+    public String getVenueName() {
+        return venueName;
+    }
+
+    public void setVenueName(String venueName) {
+        this.venueName = venueName;
+    }
+}
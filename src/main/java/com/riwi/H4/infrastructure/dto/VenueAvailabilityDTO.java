@@ -0,0 +1,69 @@
+package com.riwi.H4.infrastructure.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class VenueAvailabilityDTO {
+
+    private Long venueId;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private List<LocalDate> bookedDates;
+
+    private List<LocalDate> availableDates;
+
+    public VenueAvailabilityDTO() {
+    }
+
+    public VenueAvailabilityDTO(Long venueId, LocalDate from, LocalDate to, List<LocalDate> bookedDates,
+            List<LocalDate> availableDates) {
+        this.venueId = venueId;
+        this.from = from;
+        this.to = to;
+        this.bookedDates = bookedDates;
+        this.availableDates = availableDates;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public void setVenueId(Long venueId) {
+        this.venueId = venueId;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public List<LocalDate> getBookedDates() {
+        return bookedDates;
+    }
+
+    public void setBookedDates(List<LocalDate> bookedDates) {
+        this.bookedDates = bookedDates;
+    }
+
+    public List<LocalDate> getAvailableDates() {
+        return availableDates;
+    }
+
+    public void setAvailableDates(List<LocalDate> availableDates) {
+        this.availableDates = availableDates;
+    }
+}
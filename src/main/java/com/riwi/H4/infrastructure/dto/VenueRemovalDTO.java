@@ -0,0 +1,157 @@
+package com.riwi.H4.infrastructure.dto;
+
+import java.time.Instant;
+
+public class VenueRemovalDTO {
+
+    private String id;
+
+    private Long venueId;
+
+    private boolean archive;
+
+    private int chunkSize;
+
+    private Instant requestedAt;
+
+    private String status; // QUEUED, RUNNING, COMPLETED o FAILED
+
+    private long totalEvents; // estimado al empezar
+
+    private long deletedEvents;
+
+    private long archivedEvents;
+
+    private int chunks;
+
+    private Instant finishedAt;
+
+    private String error;
+
+    private boolean finished;
+
+    public VenueRemovalDTO() {
+    }
+
+    public VenueRemovalDTO(String id, Long venueId, boolean archive, int chunkSize, Instant requestedAt,
+            String status, long totalEvents, long deletedEvents, long archivedEvents, int chunks,
+            Instant finishedAt, String error, boolean finished) {
+        this.id = id;
+        this.venueId = venueId;
+        this.archive = archive;
+        this.chunkSize = chunkSize;
+        this.requestedAt = requestedAt;
+        this.status = status;
+        this.totalEvents = totalEvents;
+        this.deletedEvents = deletedEvents;
+        this.archivedEvents = archivedEvents;
+        this.chunks = chunks;
+        this.finishedAt = finishedAt;
+        this.error = error;
+        this.finished = finished;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public void setVenueId(Long venueId) {
+        this.venueId = venueId;
+    }
+
+    public boolean isArchive() {
+        return archive;
+    }
+
+    public void setArchive(boolean archive) {
+        this.archive = archive;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public Instant getRequestedAt() {
+        return requestedAt;
+    }
+
+    public void setRequestedAt(Instant requestedAt) {
+        this.requestedAt = requestedAt;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getTotalEvents() {
+        return totalEvents;
+    }
+
+    public void setTotalEvents(long totalEvents) {
+        this.totalEvents = totalEvents;
+    }
+
+    public long getDeletedEvents() {
+        return deletedEvents;
+    }
+
+    public void setDeletedEvents(long deletedEvents) {
+        this.deletedEvents = deletedEvents;
+    }
+
+    public long getArchivedEvents() {
+        return archivedEvents;
+    }
+
+    public void setArchivedEvents(long archivedEvents) {
+        this.archivedEvents = archivedEvents;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(int chunks) {
+        this.chunks = chunks;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public void setFinished(boolean finished) {
+        this.finished = finished;
+    }
+}
@@ -0,0 +1,88 @@
+package com.riwi.H4.infrastructure.dto;
+
+public class VenueStatsDTO {
+
+    private Long venueId;
+
+    private String name;
+
+    private Integer capacity;
+
+    private Long totalEvents;
+
+    private Long activeEvents;
+
+    private Long cancelledEvents;
+
+    private Long upcomingEvents; // ACTIVE con fecha desde hoy
+
+    public VenueStatsDTO() {
+    }
+
+    public VenueStatsDTO(Long venueId, String name, Integer capacity, Long totalEvents, Long activeEvents,
+            Long cancelledEvents, Long upcomingEvents) {
+        this.venueId = venueId;
+        this.name = name;
+        this.capacity = capacity;
+        this.totalEvents = totalEvents;
+        this.activeEvents = activeEvents;
+        this.cancelledEvents = cancelledEvents;
+        this.upcomingEvents = upcomingEvents;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public void setVenueId(Long venueId) {
+        this.venueId = venueId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public Long getTotalEvents() {
+        return totalEvents;
+    }
+
+    public void setTotalEvents(Long totalEvents) {
+        this.totalEvents = totalEvents;
+    }
+
+    public Long getActiveEvents() {
+        return activeEvents;
+    }
+
+    public void setActiveEvents(Long activeEvents) {
+        this.activeEvents = activeEvents;
+    }
+
+    public Long getCancelledEvents() {
+        return cancelledEvents;
+    }
+
+    public void setCancelledEvents(Long cancelledEvents) {
+        this.cancelledEvents = cancelledEvents;
+    }
+
+    public Long getUpcomingEvents() {
+        return upcomingEvents;
+    }
+
+    public void setUpcomingEvents(Long upcomingEvents) {
+        this.upcomingEvents = upcomingEvents;
+    }
+}
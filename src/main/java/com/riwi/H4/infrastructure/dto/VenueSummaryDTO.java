@@ -1,6 +1,6 @@
-package com.riwi.H3.domain.model;
+package com.riwi.H4.infrastructure.dto;
 
-public class Venue {
+public class VenueSummaryDTO {
 
     private Long id;
 
@@ -10,10 +10,10 @@ public class Venue {
 
     private Integer capacity;
 
-    public Venue() {
+    public VenueSummaryDTO() {
     }
 
-    public Venue(Long id, String name, String location, Integer capacity) {
+    public VenueSummaryDTO(Long id, String name, String location, Integer capacity) {
         this.id = id;
         this.name = name;
         this.location = location;
@@ -36,14 +36,6 @@ public class Venue {
         this.name = name;
     }
 
-    public Integer getCapacity() {
-        return capacity;
-    }
-
-    public void setCapacity(Integer capacity) {
-        this.capacity = capacity;
-    }
-
     public String getLocation() {
         return location;
     }
@@ -51,4 +43,12 @@ public class Venue {
     public void setLocation(String location) {
         this.location = location;
     }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
 }
@@ -2,12 +2,26 @@ package com.riwi.H4.infrastructure.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDate;
 
 import com.riwi.H4.domain.model.EventStatus;
 
+/**
+ * @DynamicUpdate: el UPDATE de un PUT solo incluye las columnas que cambiaron
+ * (más la versión), no todas las columnas del evento.
+ *
+ * @Cache: caché de segundo nivel (región "events" en ehcache.xml). Los
+ * UPDATE/DELETE masivos (PATCH, operaciones por filtro) vacían la región
+ * completa.
+ */
 @Entity
 @Table(name = "events")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,8 +29,13 @@ import com.riwi.H4.domain.model.EventStatus;
 @Builder
 public class EventEntity {
 
+    /**
+     * SEQUENCE con allocationSize = 50 (optimizador pooled, ver V5): a diferencia
+     * de IDENTITY permite que Hibernate agrupe los INSERT en batches JDBC.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -40,4 +59,12 @@ public class EventEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "venue_id", nullable = false)
     private VenueEntity venue;
+
+    /**
+     * Versión para bloqueo optimista (V7): cada UPDATE la incrementa y falla
+     * si otra transacción la cambió antes. También es la base del ETag.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
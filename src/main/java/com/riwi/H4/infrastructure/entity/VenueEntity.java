@@ -2,12 +2,22 @@ package com.riwi.H4.infrastructure.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * @DynamicUpdate: el UPDATE de un PUT solo incluye las columnas que cambiaron
+ * (más la versión), no todas las columnas del venue.
+ *
+ * Sin caché de segundo nivel: los venues ya se cachean en
+ * CachingVenueRepositoryAdapter (Caffeine). Una sola capa, con una sola
+ * invalidación y un solo TTL, no puede responder dos versiones distintas.
+ */
 @Entity
 @Table(name = "venues")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,8 +25,13 @@ import java.util.List;
 @Builder
 public class VenueEntity {
 
+    /**
+     * SEQUENCE con allocationSize = 50 (optimizador pooled, ver V5): a diferencia
+     * de IDENTITY permite que Hibernate agrupe los INSERT en batches JDBC.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "venues_seq")
+    @SequenceGenerator(name = "venues_seq", sequenceName = "venues_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -25,14 +40,25 @@ public class VenueEntity {
 
     private Integer capacity;
 
+    /**
+     * Versión para bloqueo optimista (V7): cada UPDATE la incrementa y falla
+     * si otra transacción la cambió antes. También es la base del ETag.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * Eventos asociados a este venue
      * LAZY: Evita sobrecarga al cargar venues (TASK 1 requirement)
-     * cascade = ALL: Propaga operaciones persist/merge/remove
-     * orphanRemoval = true: Elimina eventos huérfanos si se remueven de la lista
      * mappedBy = "venue": Indica que EventEntity es dueño de la relación
+     *
+     * Sin cascade ni orphanRemoval: borrar o hacer merge de un venue no carga
+     * su colección de eventos ni los borra uno a uno. Los eventos de un venue
+     * se eliminan con DELETE directos (VenueServiceImpl.delete) o por lotes
+     * (VenueRemovalServiceImpl).
      */
-    @OneToMany(mappedBy = "venue", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "venue", fetch = FetchType.LAZY)
     @Builder.Default
     private List<EventEntity> events = new ArrayList<>();
 
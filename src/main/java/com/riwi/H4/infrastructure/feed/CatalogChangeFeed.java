@@ -0,0 +1,402 @@
+package com.riwi.H4.infrastructure.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.H4.domain.model.EventChange;
+import com.riwi.H4.domain.model.VenueChange;
+import com.riwi.H4.infrastructure.dto.ChangeDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Feed de cambios del catálogo por Server-Sent Events (GET /changes), para
+ * que los servicios que hoy sondean GET /events reciban solo lo que cambió.
+ *
+ * 1. Los EventChange / VenueChange que publican los services llegan después
+ *    del commit (@TransactionalEventListener) y se agregan al
+ *    ChangeRingBuffer. El escritor solo agrega y despierta al despachador:
+ *    nunca espera a un suscriptor.
+ * 2. Cada suscriptor tiene una cola acotada (subscriber-queue). El
+ *    despachador, un hilo propio, la llena desde el buffer hasta donde quepa
+ *    y encarga a los hilos de envío vaciarla: a lo sumo un envío en curso
+ *    por suscriptor, de hasta max-batch cambios por turno. Lo que no cabe
+ *    espera en el buffer: una ráfaga de cambios no desconecta a nadie.
+ * 3. El id SSE de cada cambio es "época-secuencia". Un cliente que reconecta
+ *    con Last-Event-ID recibe del buffer lo que le faltó, sin consultar la
+ *    base de datos.
+ * 4. Si lo pedido ya salió del buffer, o el Last-Event-ID es de otra
+ *    ejecución del servidor, el cliente recibe un evento "reset" y sigue
+ *    desde el cambio actual: debe recargar el estado (GET /events,
+ *    GET /venues).
+ *
+ * Un cliente lento no retiene a nadie. Si se atrasa más que el buffer (su
+ * cola no alcanza a llenarse con lo que le falta), o un envío suyo tarda más
+ * que send-timeout, se lo desconecta (el emitter se completa) y al volver con
+ * Last-Event-ID recibe "reset". Un envío bloqueado ocupa su hilo hasta que el
+ * contenedor corta la escritura; mientras tanto el pool de envío crece hasta
+ * sender-threads + sender-extra-threads hilos para no hacer esperar a los
+ * demás. Con todos ocupados no se crea otro (clientes trabados no agotan los
+ * hilos de la JVM): el suscriptor que no consigue hilo espera a la próxima
+ * vuelta del despachador, y si su cola ya está llena se lo desconecta.
+ */
+@Component
+public class CatalogChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogChangeFeed.class);
+
+    private final ChangeRingBuffer<Entry> buffer;
+    private final ObjectMapper objectMapper;
+    private final int queueCapacity;
+    private final int maxBatch;
+    private final long heartbeatNanos;
+    private final long sendTimeoutNanos;
+    private final long timeoutMillis;
+    // Las secuencias vuelven a 0 al reiniciar: la época distingue un Last-Event-ID de otra ejecución
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor senders;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    public CatalogChangeFeed(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${app.feed.buffer-size:4096}") int bufferSize,
+            @Value("${app.feed.subscriber-queue:256}") int queueCapacity,
+            @Value("${app.feed.sender-threads:4}") int senderThreads,
+            @Value("${app.feed.sender-extra-threads:4}") int senderExtraThreads,
+            @Value("${app.feed.max-batch:256}") int maxBatch,
+            @Value("${app.feed.heartbeat:15s}") Duration heartbeat,
+            @Value("${app.feed.send-timeout:10s}") Duration sendTimeout,
+            @Value("${app.feed.timeout:30m}") Duration timeout) {
+        this.buffer = new ChangeRingBuffer<>(bufferSize);
+        this.objectMapper = objectMapper;
+        this.queueCapacity = queueCapacity;
+        this.maxBatch = maxBatch;
+        this.heartbeatNanos = heartbeat.toNanos();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.timeoutMillis = timeout.toMillis();
+        AtomicInteger threads = new AtomicInteger();
+        // Sin cola de espera: si todos los hilos están ocupados (envíos lentos) se crea
+        // otro, hasta senderExtraThreads; más allá, execute lanza RejectedExecutionException
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads + senderExtraThreads, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "change-feed-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.dispatcher = new Thread(this::dispatch, "change-feed-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+
+        Gauge.builder("catalog.changes.subscribers", this, CatalogChangeFeed::subscriberCount)
+                .description("Suscriptores conectados a GET /changes")
+                .register(meterRegistry);
+        Gauge.builder("catalog.changes.max.lag", this, CatalogChangeFeed::maxLag)
+                .description("Cambios pendientes de envío del suscriptor más atrasado")
+                .register(meterRegistry);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // CAMBIOS CONFIRMADOS (después del commit)
+    // ═══════════════════════════════════════════════════════════════════════
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        ChangeDTO dto = new ChangeDTO("EVENT", change.getType().name(), change.getEventId());
+        dto.setName(change.getName());
+        dto.setDate(change.getDate());
+        dto.setStatus(change.getStatus() == null ? null : change.getStatus().name());
+        dto.setVenueId(change.getVenueId());
+        append(dto);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVenueChange(VenueChange change) {
+        ChangeDTO dto = new ChangeDTO("VENUE", change.getType().name(), change.getVenueId());
+        dto.setName(change.getName());
+        dto.setLocation(change.getLocation());
+        dto.setCapacity(change.getCapacity());
+        append(dto);
+    }
+
+    private void append(ChangeDTO change) {
+        buffer.append(new Entry(change));
+        LockSupport.unpark(dispatcher);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // SUSCRIPTORES
+    // ═══════════════════════════════════════════════════════════════════════
+
+    /**
+     * Abre una suscripción. Sin lastEventId recibe los cambios que ocurran
+     * desde ahora; con el id del último cambio recibido, primero los que le
+     * faltan.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        long next = buffer.nextSequence();
+        Subscriber subscriber;
+        if (lastEventId == null || lastEventId.isBlank()) {
+            subscriber = new Subscriber(emitter, next, false);
+        } else {
+            long resume = resumeFrom(lastEventId);
+            boolean lost = resume < 0 || resume > next || buffer.isOverwritten(resume);
+            subscriber = new Subscriber(emitter, lost ? next : resume, lost);
+        }
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        subscriber.schedule();
+        // El despachador pasa a la cola lo que le falta (Last-Event-ID)
+        LockSupport.unpark(dispatcher);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // Cambios que le faltan al suscriptor más atrasado
+    public long maxLag() {
+        long next = buffer.nextSequence();
+        return subscribers.stream()
+                .mapToLong(subscriber -> subscriber.pending.size() + (next - subscriber.cursor))
+                .max()
+                .orElse(0);
+    }
+
+    // Secuencia siguiente a "época-secuencia"; -1 si el id no es de esta ejecución
+    private long resumeFrom(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1)) + 1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // Despierta con cada cambio (unpark), al vencer el heartbeat o cada
+    // send-timeout, para revisar los envíos trabados
+    private void dispatch() {
+        long nextHeartbeat = System.nanoTime() + heartbeatNanos;
+        while (running) {
+            LockSupport.parkNanos(this, Math.min(nextHeartbeat - System.nanoTime(), sendTimeoutNanos));
+            long now = System.nanoTime();
+            boolean heartbeat = now - nextHeartbeat >= 0;
+            if (heartbeat) {
+                nextHeartbeat = now + heartbeatNanos;
+            }
+            long next = buffer.nextSequence();
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.isStuck(now)) {
+                    drop(subscriber, "un envío lleva más de send-timeout");
+                } else if (!subscriber.enqueue(next, heartbeat)) {
+                    drop(subscriber, "se atrasó más que el buffer");
+                } else if (!subscriber.pending.isEmpty()) {
+                    subscriber.schedule();
+                }
+            }
+        }
+    }
+
+    // Desconecta a un suscriptor lento; al reconectar con Last-Event-ID sigue donde quedó o recibe "reset"
+    private void drop(Subscriber subscriber, String reason) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        log.debug("Suscriptor de /changes desconectado: {}", reason);
+        subscriber.dropped = true;
+        subscriber.pending.clear();
+        // complete espera a que termine el envío en curso: si hay uno, lo
+        // completa su hilo de envío al terminarlo (ni el despachador ni otro
+        // hilo esperan a un cliente trabado)
+        subscriber.completeIfIdle();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(dispatcher);
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> pending = new ArrayBlockingQueue<>(queueCapacity);
+        // Hay un drain encargado o en curso; también marca al emitter como completado
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean dropped;
+        // Próxima secuencia a encolar; solo la avanza el despachador
+        private volatile long cursor;
+        // Inicio del envío en curso (System.nanoTime), 0 si no hay ninguno
+        private volatile long sendStarted;
+
+        private Subscriber(SseEmitter emitter, long cursor, boolean resetDue) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+            // El primer envío confirma la respuesta: sin él, el cliente no
+            // recibe las cabeceras hasta el primer cambio o heartbeat. El id
+            // del reset permite reconectar sin recibir otro reset
+            pending.add(resetDue ? new Frame(cursor - 1, null, "El Last-Event-ID no está en el buffer") : Frame.PING);
+        }
+
+        // Solo desde el despachador. false si lo que le falta ya salió del buffer
+        private boolean enqueue(long next, boolean heartbeat) {
+            while (cursor < next && pending.remainingCapacity() > 0) {
+                Entry entry = buffer.get(cursor);
+                if (entry == null) {
+                    if (buffer.isOverwritten(cursor)) {
+                        return false;
+                    }
+                    // El escritor reservó la secuencia pero aún no la guardó
+                    break;
+                }
+                pending.add(new Frame(cursor, entry, null));
+                cursor++;
+            }
+            if (heartbeat && pending.isEmpty()) {
+                pending.add(Frame.PING);
+            }
+            return true;
+        }
+
+        private boolean isStuck(long now) {
+            long started = sendStarted;
+            return started != 0 && now - started > sendTimeoutNanos;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Todos los hilos de envío ocupados (o apagando): el despachador
+                    // lo reintenta en su próxima vuelta, salvo que ya esté atrasado
+                    scheduled.set(false);
+                    if (pending.remainingCapacity() == 0) {
+                        drop(this, "no hay hilos de envío libres y su cola está llena");
+                    }
+                }
+            }
+        }
+
+        // Completa el emitter si no hay un envío encargado ni en curso; si lo
+        // hay, drain lo completa al terminar
+        private void completeIfIdle() {
+            if (scheduled.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            boolean connected;
+            try {
+                connected = sendBatch();
+            } finally {
+                scheduled.set(false);
+            }
+            if (dropped) {
+                completeIfIdle();
+            } else if (!connected) {
+                subscribers.remove(this);
+            } else if (!pending.isEmpty()) {
+                // Lote lleno, o llegaron cambios mientras se enviaba: otro turno
+                schedule();
+            } else if (cursor < buffer.nextSequence()) {
+                // La cola se vació y quedan cambios en el buffer: que el despachador la llene
+                LockSupport.unpark(dispatcher);
+            }
+        }
+
+        // Hasta max-batch envíos; false si el cliente se desconectó o el emitter ya estaba completado
+        private boolean sendBatch() {
+            try {
+                for (int sent = 0; sent < maxBatch && !dropped; sent++) {
+                    Frame frame = pending.poll();
+                    if (frame == null) {
+                        break;
+                    }
+                    sendStarted = System.nanoTime() | 1;
+                    emitter.send(frame.event(epoch, objectMapper));
+                    sendStarted = 0;
+                }
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                return false;
+            } finally {
+                sendStarted = 0;
+            }
+        }
+    }
+
+    // Lo que espera en la cola de un suscriptor: un cambio, un reset (con su motivo) o un heartbeat
+    private record Frame(long sequence, Entry entry, String resetReason) {
+
+        private static final Frame PING = new Frame(-1, null, null);
+
+        private SseEmitter.SseEventBuilder event(String epoch, ObjectMapper objectMapper)
+                throws JsonProcessingException {
+            if (entry != null) {
+                return SseEmitter.event().id(epoch + "-" + sequence).data(entry.json(objectMapper));
+            }
+            if (resetReason == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name("reset").data(Map.of("reason", resetReason));
+            if (sequence >= 0) {
+                event.id(epoch + "-" + sequence);
+            }
+            return event;
+        }
+    }
+
+    // Un cambio del buffer; su JSON se genera una sola vez, con el primer envío
+    private static final class Entry {
+
+        private final ChangeDTO change;
+        private volatile String json;
+
+        private Entry(ChangeDTO change) {
+            this.change = change;
+        }
+
+        private String json(ObjectMapper objectMapper) throws JsonProcessingException {
+            String value = json;
+            if (value == null) {
+                value = objectMapper.writeValueAsString(change);
+                json = value;
+            }
+            return value;
+        }
+    }
+}
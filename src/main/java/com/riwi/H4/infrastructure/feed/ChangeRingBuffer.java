@@ -0,0 +1,70 @@
+package com.riwi.H4.infrastructure.feed;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Buffer circular de tamaño fijo, sin locks, para el feed de cambios.
+ *
+ * Cada entrada recibe un número de secuencia creciente. append reserva la
+ * secuencia con un getAndIncrement y escribe la ranura (secuencia & mask): varios
+ * escritores pueden agregar a la vez sin esperarse entre sí. Cuando el buffer
+ * se llena, la entrada nueva sobrescribe la más vieja.
+ *
+ * Los lectores no consumen: cada uno lleva su propia posición (secuencia) y
+ * lee con get. Cada ranura guarda su secuencia, así que un lector distingue
+ * una entrada todavía no escrita (el escritor reservó la secuencia pero aún no
+ * la guardó) de una que ya fue sobrescrita.
+ */
+public class ChangeRingBuffer<T> {
+
+    private final AtomicReferenceArray<Slot<T>> slots;
+    private final int mask;
+    private final AtomicLong next = new AtomicLong();
+
+    // capacity se redondea hacia arriba a la siguiente potencia de 2
+    public ChangeRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity debe estar entre 1 y 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    // Agrega value y retorna su secuencia
+    public long append(T value) {
+        long sequence = next.getAndIncrement();
+        slots.set((int) (sequence & mask), new Slot<>(sequence, value));
+        return sequence;
+    }
+
+    /**
+     * La entrada de esa secuencia, o null si todavía no se escribió o ya se
+     * sobrescribió (ver isOverwritten).
+     */
+    public T get(long sequence) {
+        Slot<T> slot = slots.get((int) (sequence & mask));
+        return slot != null && slot.sequence() == sequence ? slot.value() : null;
+    }
+
+    // true si la secuencia ya salió del buffer: el lector perdió entradas
+    public boolean isOverwritten(long sequence) {
+        return sequence < next.get() - slots.length();
+    }
+
+    // Secuencia que recibirá la próxima entrada
+    public long nextSequence() {
+        return next.get();
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    private record Slot<T>(long sequence, T value) {
+    }
+}
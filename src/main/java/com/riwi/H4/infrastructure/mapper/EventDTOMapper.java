@@ -1,13 +1,20 @@
 package com.riwi.H4.infrastructure.mapper;
 
 import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventPatch;
+import com.riwi.H4.domain.model.EventSummary;
+import com.riwi.H4.domain.model.UpcomingEvent;
 import com.riwi.H4.domain.model.Venue;
 import com.riwi.H4.infrastructure.dto.EventDTO;
+import com.riwi.H4.infrastructure.dto.EventSummaryDTO;
+import com.riwi.H4.infrastructure.dto.UpcomingEventDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 import org.mapstruct.factory.Mappers;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface EventDTOMapper {
 
@@ -17,8 +24,21 @@ public interface EventDTOMapper {
     EventDTO toDTO(Event domain);
 
     @Mapping(source = "venueId", target = "venue", qualifiedByName = "idToVenue")
+    @Mapping(target = "version", ignore = true)
     Event toDomain(EventDTO dto);
 
+    // Campos null del body = sin cambios
+    EventPatch toPatch(EventDTO dto);
+
+    // Proyecciones de lectura (listados): una copia campo a campo, sin pasar por Event
+    EventSummaryDTO toDTO(EventSummary summary);
+
+    List<EventSummaryDTO> toSummaryDTOs(List<EventSummary> summaries);
+
+    UpcomingEventDTO toDTO(UpcomingEvent event);
+
+    List<UpcomingEventDTO> toUpcomingDTOs(List<UpcomingEvent> events);
+
     @Named("idToVenue")
     default Venue idToVenue(Long venueId) {
         if (venueId == null)
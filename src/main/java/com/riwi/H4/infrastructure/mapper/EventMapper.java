@@ -3,9 +3,16 @@ package com.riwi.H4.infrastructure.mapper;
 import com.riwi.H4.domain.model.Event;
 import com.riwi.H4.infrastructure.entity.EventEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 @Mapper(componentModel = "spring", uses = { VenueMapper.class })
 public interface EventMapper {
     EventEntity toEntity(Event model);
     Event toModel(EventEntity entity);
+
+    // Para eventos cuyo venue es un proxy sin inicializar (getReference)
+    @Named("withoutVenue")
+    @Mapping(target = "venue", ignore = true)
+    Event toModelWithoutVenue(EventEntity entity);
 }
@@ -1,7 +1,15 @@
 package com.riwi.H4.infrastructure.mapper;
 
 import com.riwi.H4.domain.model.Venue;
+import com.riwi.H4.domain.model.VenueAvailability;
+import com.riwi.H4.domain.model.VenueRemoval;
+import com.riwi.H4.domain.model.VenueStats;
+import com.riwi.H4.domain.model.VenueSummary;
+import com.riwi.H4.infrastructure.dto.VenueAvailabilityDTO;
 import com.riwi.H4.infrastructure.dto.VenueDTO;
+import com.riwi.H4.infrastructure.dto.VenueRemovalDTO;
+import com.riwi.H4.infrastructure.dto.VenueStatsDTO;
+import com.riwi.H4.infrastructure.dto.VenueSummaryDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
@@ -17,8 +25,22 @@ public interface VenueDTOMapper {
     @Mapping(target = "eventIds", source = "domain", qualifiedByName = "extractEventIds")
     VenueDTO toDTO(Venue domain);
 
+    @Mapping(target = "version", ignore = true)
     Venue toDomain(VenueDTO dto);
 
+    // Proyecciones de lectura y resultados de operaciones: copia campo a campo
+    VenueSummaryDTO toDTO(VenueSummary summary);
+
+    List<VenueSummaryDTO> toSummaryDTOs(List<VenueSummary> summaries);
+
+    VenueStatsDTO toDTO(VenueStats stats);
+
+    List<VenueStatsDTO> toStatsDTOs(List<VenueStats> stats);
+
+    VenueAvailabilityDTO toDTO(VenueAvailability availability);
+
+    VenueRemovalDTO toDTO(VenueRemoval removal);
+
     /**
      * Método custom para extraer los IDs de los eventos asociados a un Venue.
      * Como el Domain Model Venue NO tiene lista de eventos (diseño DDD puro),
@@ -0,0 +1,50 @@
+package com.riwi.H4.infrastructure.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Cuenta, por hilo, las sentencias SQL que prepara Hibernate y las entidades
+ * que hidrata.
+ *
+ * Las Statistics de Hibernate son globales (suman todos los hilos); este
+ * contador permite atribuir el trabajo a una llamada concreta: se toma el
+ * valor antes y después y se resta (ver RepositoryMetricsAspect).
+ *
+ * Se registra una única instancia para todo el SessionFactory
+ * (MetricsConfig), como StatementInspector e Interceptor.
+ */
+public class HibernateActivityCounter implements StatementInspector, Interceptor {
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[2]);
+
+    private static final int STATEMENTS = 0;
+    private static final int ENTITIES_LOADED = 1;
+
+    @Override
+    public String inspect(String sql) {
+        COUNTS.get()[STATEMENTS]++;
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        COUNTS.get()[ENTITIES_LOADED]++;
+        return false;
+    }
+
+    /**
+     * Sentencias SQL preparadas por Hibernate en el hilo actual (acumulado).
+     */
+    public static long statements() {
+        return COUNTS.get()[STATEMENTS];
+    }
+
+    /**
+     * Entidades hidratadas en el hilo actual (acumulado).
+     */
+    public static long entitiesLoaded() {
+        return COUNTS.get()[ENTITIES_LOADED];
+    }
+}
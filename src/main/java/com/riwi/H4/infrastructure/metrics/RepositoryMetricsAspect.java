@@ -0,0 +1,83 @@
+package com.riwi.H4.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Timers y contadores por método de los puertos de persistencia
+ * (EventRepositoryPort, VenueRepositoryPort, CatalogReadPort).
+ *
+ * Por cada llamada registra, con tags port / method / adapter:
+ * - repository.calls: latencia (histograma para percentiles) y outcome
+ * - repository.statements: sentencias SQL emitidas durante la llamada
+ * - repository.entities.loaded: entidades hidratadas durante la llamada
+ *
+ * El tag adapter distingue las capas: con la caché de venues activa, una
+ * llamada a CachingVenueRepositoryAdapter que no llega a la base de datos
+ * aparece con 0 sentencias, y la que sí llega se ve también en VenueJpaAdapter.
+ *
+ * Complementa a spring.data.repository.invocations (Spring Boot), que mide
+ * cada método de los JpaRepository pero sin contar sentencias ni entidades.
+ */
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    private final MeterRegistry registry;
+
+    public RepositoryMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(* com.riwi.H4.application.port.out.EventRepositoryPort.*(..))")
+    public Object measureEventRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure("EventRepositoryPort", joinPoint);
+    }
+
+    @Around("execution(* com.riwi.H4.application.port.out.VenueRepositoryPort.*(..))")
+    public Object measureVenueRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure("VenueRepositoryPort", joinPoint);
+    }
+
+    @Around("execution(* com.riwi.H4.application.port.out.CatalogReadPort.*(..))")
+    public Object measureCatalogRead(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure("CatalogReadPort", joinPoint);
+    }
+
+    private Object measure(String port, ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        String adapter = joinPoint.getTarget().getClass().getSimpleName();
+
+        long statementsBefore = HibernateActivityCounter.statements();
+        long entitiesBefore = HibernateActivityCounter.entitiesLoaded();
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("repository.calls")
+                    .description("Latencia de los métodos de los puertos de persistencia")
+                    .tags("port", port, "method", method, "adapter", adapter, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry));
+            DistributionSummary.builder("repository.statements")
+                    .description("Sentencias SQL emitidas por llamada")
+                    .tags("port", port, "method", method, "adapter", adapter)
+                    .register(registry)
+                    .record(HibernateActivityCounter.statements() - statementsBefore);
+            DistributionSummary.builder("repository.entities.loaded")
+                    .description("Entidades hidratadas por llamada")
+                    .tags("port", port, "method", method, "adapter", adapter)
+                    .register(registry)
+                    .record(HibernateActivityCounter.entitiesLoaded() - entitiesBefore);
+        }
+    }
+}
@@ -1,15 +1,31 @@
 package com.riwi.H4.infrastructure.repository.jpa;
 
 import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.EventSummary;
+import com.riwi.H4.domain.model.UpcomingEvent;
+import com.riwi.H4.domain.model.VenueStats;
 import com.riwi.H4.infrastructure.entity.EventEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repositorio JPA para EventEntity con consultas JPQL optimizadas.
@@ -78,6 +94,9 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, Long>,
     /**
      * Busca eventos por estado CARGANDO SUS VENUES.
      * Combina filtro + optimización N+1.
+     *
+     * Sin caché de consultas: cada entrada sería el catálogo completo de un
+     * estado, y un límite por número de entradas no acotaría la memoria.
      */
     @Query("SELECT e FROM EventEntity e JOIN FETCH e.venue WHERE e.status = :status")
     List<EventEntity> findByStatusWithVenue(@Param("status") EventStatus status);
@@ -91,6 +110,179 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, Long>,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
+    // ═══════════════════════════════════════════════════════════════════════
+    // PAGINACIÓN KEYSET (seek) - Alternativa a OFFSET/LIMIT
+    // ═══════════════════════════════════════════════════════════════════════
+
+    /**
+     * Primera página del recorrido keyset ordenado por (date, id).
+     * Usa el índice idx_events_date_id (V4) para leer solo las filas pedidas.
+     * Los eventos sin fecha van al final del recorrido (findKeysetUndatedAfter).
+     */
+    @Query("SELECT e FROM EventEntity e JOIN FETCH e.venue WHERE e.date IS NOT NULL ORDER BY e.date ASC, e.id ASC")
+    List<EventEntity> findKeysetFirstPage(Limit limit);
+
+    /**
+     * Página siguiente a la posición (date, id) del cursor.
+     *
+     * A diferencia de OFFSET, no recorre ni descarta las filas anteriores:
+     * "e.date >= :date" es un range scan sobre idx_events_date_id y el OR
+     * desempata los eventos del mismo día por id. La latencia se mantiene
+     * constante sin importar qué tan profunda sea la página.
+     */
+    @Query("SELECT e FROM EventEntity e JOIN FETCH e.venue " +
+            "WHERE e.date >= :date AND (e.date > :date OR e.id > :id) " +
+            "ORDER BY e.date ASC, e.id ASC")
+    List<EventEntity> findKeysetPageAfter(
+            @Param("date") LocalDate date,
+            @Param("id") Long id,
+            Limit limit);
+
+    /**
+     * Eventos sin fecha, después del id del cursor: el último tramo del
+     * recorrido (equivale a ORDER BY date NULLS LAST, id).
+     */
+    @Query("SELECT e FROM EventEntity e JOIN FETCH e.venue " +
+            "WHERE e.date IS NULL AND e.id > :id ORDER BY e.id ASC")
+    List<EventEntity> findKeysetUndatedAfter(@Param("id") Long id, Limit limit);
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // PROYECCIONES - Lectura sin hidratar entidades
+    // ═══════════════════════════════════════════════════════════════════════
+
+    /**
+     * Lista todos los eventos como EventSummary (constructor expression).
+     *
+     * Solo se seleccionan las columnas que necesita el listado; e.venue.id se
+     * resuelve con la FK venue_id, sin JOIN. Al no ser entidades no hay
+     * snapshot para dirty checking ni mapeo Entity → Domain → DTO.
+     */
+    @Query("SELECT new com.riwi.H4.domain.model.EventSummary(e.id, e.name, e.date, e.status, e.venue.id) " +
+            "FROM EventEntity e")
+    List<EventSummary> findAllSummaries();
+
+    /**
+     * Versión paginada de findAllSummaries (retorna List: no ejecuta COUNT).
+     */
+    @Query("SELECT new com.riwi.H4.domain.model.EventSummary(e.id, e.name, e.date, e.status, e.venue.id) " +
+            "FROM EventEntity e ORDER BY e.id")
+    List<EventSummary> findSummaries(Pageable pageable);
+
+    /**
+     * Eventos con el estado indicado desde una fecha (inclusive), como
+     * EventSummary. Alimenta el índice de sugerencias por nombre.
+     */
+    @Query("SELECT new com.riwi.H4.domain.model.EventSummary(e.id, e.name, e.date, e.status, e.venue.id) " +
+            "FROM EventEntity e WHERE e.status = :status AND e.date >= :from")
+    List<EventSummary> findUpcomingSummaries(
+            @Param("status") EventStatus status,
+            @Param("from") LocalDate from);
+
+    /**
+     * Eventos con el estado indicado desde una fecha (inclusive) cuyo nombre
+     * (sin espacios alrededor, en minúsculas) cumple el patrón LIKE, ordenados
+     * por fecha e id. Respaldo del índice de sugerencias mientras se carga: el
+     * patrón es un prefijo ("term%", con \ como escape).
+     */
+    @Query("SELECT new com.riwi.H4.domain.model.EventSummary(e.id, e.name, e.date, e.status, e.venue.id) " +
+            "FROM EventEntity e WHERE e.status = :status AND e.date >= :from " +
+            "AND LOWER(TRIM(e.name)) LIKE :pattern ESCAPE '\\' ORDER BY e.date, e.id")
+    List<EventSummary> findUpcomingSummariesByName(
+            @Param("status") EventStatus status,
+            @Param("from") LocalDate from,
+            @Param("pattern") String pattern,
+            Limit limit);
+
+    /**
+     * Eventos con el estado indicado desde una fecha (inclusive), ordenados por
+     * fecha e id, con el nombre del venue resuelto en la misma consulta (JOIN).
+     * Carga el read model de próximos eventos y lo reemplaza mientras se carga.
+     */
+    @Query("SELECT new com.riwi.H4.domain.model.UpcomingEvent(e.id, e.name, e.date, v.id, v.name) " +
+            "FROM EventEntity e JOIN e.venue v WHERE e.status = :status AND e.date >= :from " +
+            "ORDER BY e.date, e.id")
+    List<UpcomingEvent> findUpcoming(
+            @Param("status") EventStatus status,
+            @Param("from") LocalDate from,
+            Limit limit);
+
+    /**
+     * Todos los eventos con el estado indicado, como EventSummary. Alimenta el
+     * índice de ocupación de venues.
+     */
+    @Query("SELECT new com.riwi.H4.domain.model.EventSummary(e.id, e.name, e.date, e.status, e.venue.id) " +
+            "FROM EventEntity e WHERE e.status = :status")
+    List<EventSummary> findSummariesByStatus(@Param("status") EventStatus status);
+
+    /**
+     * Un evento como EventSummary (sin entidad ni venue): el estado actual que
+     * necesita un PATCH para validar la ocupación del venue.
+     */
+    @Query("SELECT new com.riwi.H4.domain.model.EventSummary(e.id, e.name, e.date, e.status, e.venue.id) " +
+            "FROM EventEntity e WHERE e.id = :id")
+    java.util.Optional<EventSummary> findSummaryById(@Param("id") Long id);
+
+    /**
+     * ¿Existe otro evento con el estado indicado en ese venue y día?
+     * Resuelto con idx_events_venue_date (V6). excludeId nulo = sin excluir.
+     */
+    @Query("SELECT COUNT(e) > 0 FROM EventEntity e WHERE e.venue.id = :venueId AND e.date = :date " +
+            "AND e.status = :status AND (:excludeId IS NULL OR e.id <> :excludeId)")
+    boolean existsOnDate(
+            @Param("venueId") Long venueId,
+            @Param("date") LocalDate date,
+            @Param("status") EventStatus status,
+            @Param("excludeId") Long excludeId);
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // AGREGADOS - Conteos calculados en la base de datos
+    // ═══════════════════════════════════════════════════════════════════════
+
+    /**
+     * Conteos de eventos por venue (total, activos, cancelados, próximos) en
+     * una sola consulta GROUP BY; solo viajan las filas agregadas, una por venue.
+     *
+     * - Parte de VenueEntity con LEFT JOIN: los venues sin eventos salen en 0.
+     * - El rango de fechas va en el ON, no en el WHERE, para no convertir el
+     *   LEFT JOIN en INNER JOIN. from/to nulos = sin límite.
+     * - COALESCE porque SUM sobre cero filas retorna NULL.
+     */
+    @Query("SELECT new com.riwi.H4.domain.model.VenueStats(v.id, v.name, v.capacity, " +
+            "COUNT(e.id), " +
+            "COALESCE(SUM(CASE WHEN e.status = :active THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN e.status = :cancelled THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN e.status = :active AND e.date >= :today THEN 1 ELSE 0 END), 0)) " +
+            "FROM VenueEntity v LEFT JOIN EventEntity e ON e.venue = v " +
+            "AND (:from IS NULL OR e.date >= :from) AND (:to IS NULL OR e.date <= :to) " +
+            "GROUP BY v.id, v.name, v.capacity ORDER BY v.id")
+    List<VenueStats> findVenueStats(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("today") LocalDate today,
+            @Param("active") EventStatus active,
+            @Param("cancelled") EventStatus cancelled);
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // STREAMING - Exportación completa sin materializar la lista
+    // ═══════════════════════════════════════════════════════════════════════
+
+    /**
+     * Recorre todos los eventos con su venue como un Stream respaldado por un
+     * cursor JDBC (scroll), en lugar de cargar la tabla completa en una List.
+     *
+     * - fetchSize: el driver trae las filas en bloques de 500.
+     * - readOnly: Hibernate no guarda snapshots para dirty checking.
+     *
+     * Debe consumirse dentro de una transacción y cerrarse al terminar
+     * (try-with-resources).
+     */
+    @Query("SELECT e FROM EventEntity e JOIN FETCH e.venue ORDER BY e.id")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<EventEntity> streamAllWithVenue();
+
     // ═══════════════════════════════════════════════════════════════════════
     // @ENTITYGRAPH - Solución alternativa a JOIN FETCH (TASK 2)
     // ═══════════════════════════════════════════════════════════════════════
@@ -107,6 +299,7 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, Long>,
      *              VENTAJA: Más simple que JOIN FETCH en queries derivadas.
      *              DESVENTAJA: Menos control que JPQL manual.
      */
+    // Sin caché de consultas: el resultado crece con el catálogo completo
     @Override
     @EntityGraph(attributePaths = { "venue" })
     List<EventEntity> findAll();
@@ -114,8 +307,79 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, Long>,
     /**
      * findById con @EntityGraph para cargar venue automáticamente.
      * Evita LazyInitializationException si se accede a venue fuera de transacción.
+     * Si el evento sale de la caché de segundo nivel el grafo no se aplica y el
+     * venue queda como proxy (ver EventJpaAdapter.findById).
      */
     @EntityGraph(attributePaths = { "venue" })
     @Override
     java.util.Optional<EventEntity> findById(Long id);
+
+    /**
+     * Solo la columna version del evento: responde un GET condicional
+     * (If-None-Match) sin hidratar la entidad ni su venue.
+     */
+    @Query("SELECT e.version FROM EventEntity e WHERE e.id = :id")
+    java.util.Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Varios eventos por ID con su venue, en una sola consulta IN.
+     *
+     * Con hibernate.query.in_clause_parameter_padding=true la lista de
+     * parámetros se rellena hasta la siguiente potencia de 2: pedir 5, 6, 7 u
+     * 8 IDs genera el mismo SQL, que reutiliza el plan y el PreparedStatement
+     * en lugar de crear uno por cada tamaño de lista.
+     */
+    @EntityGraph(attributePaths = { "venue" })
+    @Query("SELECT e FROM EventEntity e WHERE e.id IN :ids")
+    List<EventEntity> findAllByIdWithVenue(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Página de eventos con su venue (LEFT JOIN por @EntityGraph).
+     * Retorna List: a diferencia de findAll(Pageable) no ejecuta el COUNT ni
+     * deja el venue como proxy LAZY (que se cargaría por lotes al mapear).
+     */
+    @EntityGraph(attributePaths = { "venue" })
+    @Query("SELECT e FROM EventEntity e ORDER BY e.id")
+    List<EventEntity> findPageWithVenue(Pageable pageable);
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // BORRADO DIRECTO: un DELETE sin cargar entidades; retornan las filas borradas
+    // ═══════════════════════════════════════════════════════════════════════
+
+    @Modifying
+    @Query("DELETE FROM EventEntity e WHERE e.id = :id")
+    int deleteRowById(@Param("id") Long id);
+
+    // Solo los IDs que existen: DELETE /events?ids= publica y quita de los índices solo esos
+    @Query("SELECT e.id FROM EventEntity e WHERE e.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM EventEntity e WHERE e.id IN :ids")
+    int deleteRowsByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM EventEntity e WHERE e.venue.id = :venueId")
+    int deleteRowsByVenueId(@Param("venueId") Long venueId);
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // ELIMINACIÓN DE UN VENUE POR LOTES
+    // ═══════════════════════════════════════════════════════════════════════
+
+    // Solo IDs, en orden de PK: cada lote recorre el índice idx_events_venue
+    @Query("SELECT e.id FROM EventEntity e WHERE e.venue.id = :venueId ORDER BY e.id")
+    List<Long> findIdsByVenueId(@Param("venueId") Long venueId, Limit limit);
+
+    @Query("SELECT COUNT(e) FROM EventEntity e WHERE e.venue.id = :venueId")
+    long countByVenueId(@Param("venueId") Long venueId);
+
+    // INSERT ... SELECT en la base de datos: las filas no pasan por la aplicación.
+    // Declara la única tabla que escribe: sin eso Hibernate vaciaría todas las
+    // regiones de la caché de segundo nivel
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "events_archive"))
+    @Query(value = "INSERT INTO events_archive (id, name, date, status, venue_id, venue_name, version, archived_at) "
+            + "SELECT e.id, e.name, e.date, e.status, e.venue_id, v.name, e.version, CURRENT_TIMESTAMP "
+            + "FROM events e JOIN venues v ON v.id = e.venue_id WHERE e.id IN (:ids)", nativeQuery = true)
+    int archiveRowsByIds(@Param("ids") Collection<Long> ids);
 }
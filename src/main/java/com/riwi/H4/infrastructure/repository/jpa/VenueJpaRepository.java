@@ -1,11 +1,16 @@
 package com.riwi.H4.infrastructure.repository.jpa;
 
+import com.riwi.H4.domain.model.VenueSummary;
 import com.riwi.H4.infrastructure.entity.VenueEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repositorio JPA para VenueEntity con consultas JPQL optimizadas.
@@ -56,4 +61,34 @@ public interface VenueJpaRepository extends JpaRepository<VenueEntity, Long> {
      */
     @Query("SELECT v FROM VenueEntity v WHERE LOWER(v.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<VenueEntity> findByNameContaining(@Param("name") String name);
+
+    /**
+     * Retorna los IDs existentes dentro de la colección recibida.
+     * Validación de venues referenciados en operaciones masivas con una sola
+     * consulta (en lugar de un findById por elemento).
+     */
+    @Query("SELECT v.id FROM VenueEntity v WHERE v.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Solo la columna version del venue: responde un GET condicional
+     * (If-None-Match) sin hidratar la entidad.
+     */
+    @Query("SELECT v.version FROM VenueEntity v WHERE v.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Lista todos los venues como VenueSummary (constructor expression).
+     * No hidrata VenueEntity ni toca la colección de eventos.
+     */
+    @Query("SELECT new com.riwi.H4.domain.model.VenueSummary(v.id, v.name, v.location, v.capacity) FROM VenueEntity v")
+    List<VenueSummary> findAllSummaries();
+
+    /**
+     * Un DELETE sin cargar el venue ni su colección de eventos (el cascade de
+     * JPA no aplica: los eventos se borran antes). Retorna las filas borradas.
+     */
+    @Modifying
+    @Query("DELETE FROM VenueEntity v WHERE v.id = :id")
+    int deleteRowById(@Param("id") Long id);
 }
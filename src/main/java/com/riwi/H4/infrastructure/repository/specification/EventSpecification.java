@@ -1,5 +1,6 @@
 package com.riwi.H4.infrastructure.repository.specification;
 
+import com.riwi.H4.domain.model.EventSearchCriteria;
 import com.riwi.H4.domain.model.EventStatus;
 import com.riwi.H4.infrastructure.entity.EventEntity;
 import org.springframework.data.jpa.domain.Specification;
@@ -134,4 +135,36 @@ public class EventSpecification {
     public static Specification<EventEntity> isPast() {
         return beforeDate(LocalDate.now().minusDays(1));
     }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // BÚSQUEDA COMBINADA (GET /events/search)
+    // ═══════════════════════════════════════════════════════════════════════
+
+    /**
+     * Carga el venue en la misma query (JOIN FETCH) para evitar N+1.
+     * En la query de conteo no se aplica: un fetch sin select de la entidad
+     * raíz es inválido.
+     */
+    public static Specification<EventEntity> fetchVenue() {
+        return (root, query, criteriaBuilder) -> {
+            Class<?> resultType = query.getResultType();
+            if (resultType != Long.class && resultType != long.class) {
+                root.fetch("venue");
+            }
+            return criteriaBuilder.conjunction();
+        };
+    }
+
+    /**
+     * Combina en una sola Specification todos los filtros presentes en el
+     * criterio. Los filtros null se resuelven como conjunction() (sin filtro).
+     */
+    public static Specification<EventEntity> matching(EventSearchCriteria criteria) {
+        Specification<EventEntity> spec = Specification.allOf(
+                hasVenue(criteria.getVenueId()),
+                hasStatus(criteria.getStatus()),
+                betweenDates(criteria.getFrom(), criteria.getTo()),
+                nameContains(criteria.getName()));
+        return criteria.isUpcoming() ? spec.and(isFuture()) : spec;
+    }
 }
@@ -0,0 +1,391 @@
+package com.riwi.H4.infrastructure.search;
+
+import com.riwi.H4.application.port.out.EventSuggestIndexPort;
+import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.EventSummary;
+import com.riwi.H4.infrastructure.repository.jpa.EventJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de nombres de eventos para el autocompletado (type-ahead).
+ *
+ * Reemplaza el "LOWER(name) LIKE '%term%'" de EventSpecification.nameContains:
+ *
+ * 1. Un radix trie sobre el nombre normalizado: cada nodo es un tramo de
+ *    caracteres y todos los nombres que empiezan por un prefijo están bajo un
+ *    mismo nodo.
+ * 2. Cada nodo guarda ya calculados los TOP eventos más próximos de su
+ *    subárbol (por fecha y luego id). Una consulta baja por el prefijo y lee
+ *    los primeros limit de ese nodo: O(largo del prefijo + limit), sin
+ *    importar cuántos nombres coinciden.
+ * 3. Agregar un evento lo ofrece a los nodos de su camino. Quitarlo recalcula
+ *    el top solo de los nodos que lo tenían, desde sus hijos.
+ * 4. Cada valor es un EventSummary (5 campos), no la entidad completa.
+ *
+ * Solo contiene eventos ACTIVE con fecha >= hoy. Los que pasan de fecha se
+ * descartan (y purgan) al consultarlos. Se carga al arrancar y se mantiene
+ * sincronizado con las escrituras de EventServiceImpl después del commit.
+ * Las consultas comparten un read lock; las escrituras toman el write lock.
+ */
+@Component
+public class EventNameSuggestIndex implements EventSuggestIndexPort {
+
+    private static final Logger log = LoggerFactory.getLogger(EventNameSuggestIndex.class);
+
+    // Igual que el límite máximo de GET /events/suggest (EventServiceImpl)
+    static final int TOP = 50;
+
+    private static final EventSummary[] EMPTY = new EventSummary[0];
+
+    // Los más próximos primero; a igual fecha, el de menor id
+    private static final Comparator<EventSummary> BY_DATE = Comparator
+            .comparing(EventSummary::getDate)
+            .thenComparing(EventSummary::getId);
+
+    private final EventJpaRepository eventRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Solo se usan con el lock
+    private final Node root = new Node("");
+    private final Map<Long, EventSummary> byId = new HashMap<>();
+
+    private volatile boolean ready;
+
+    public EventNameSuggestIndex(EventJpaRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.nanoTime();
+        List<EventSummary> upcoming = eventRepository.findUpcomingSummaries(EventStatus.ACTIVE, LocalDate.now());
+        upcoming.forEach(this::put);
+        ready = true;
+        log.info("Índice de sugerencias de eventos listo: {} eventos en {} ms",
+                upcoming.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void index(Event event) {
+        EventSummary summary = new EventSummary(event.getId(), event.getName(), event.getDate(), event.getStatus(),
+                event.getVenue() == null ? null : event.getVenue().getId());
+        afterCommit(() -> put(summary));
+    }
+
+    @Override
+    public void remove(Long eventId) {
+        afterCommit(() -> delete(eventId));
+    }
+
+    @Override
+    public void removeVenue(Long venueId) {
+        afterCommit(() -> deleteVenue(venueId));
+    }
+
+    @Override
+    public void rename(Long eventId, String name) {
+        afterCommit(() -> replaceName(eventId, name));
+    }
+
+    @Override
+    public List<EventSummary> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit < 1) {
+            return List.of();
+        }
+        String key = normalize(prefix);
+        int wanted = Math.min(limit, TOP);
+        LocalDate today = LocalDate.now();
+        while (true) {
+            List<EventSummary> result = new ArrayList<>(wanted);
+            List<EventSummary> expired = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                Node node = find(key);
+                EventSummary[] top = node == null ? EMPTY : node.top;
+                for (int i = 0; i < top.length && result.size() < wanted; i++) {
+                    (top[i].getDate().isBefore(today) ? expired : result).add(top[i]);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            if (expired.isEmpty()) {
+                return result;
+            }
+            // Los pasados de fecha ocupan el principio del top: se purgan y se vuelve a leer
+            expired.forEach(this::expire);
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // ESCRITURAS (write lock)
+    // ═══════════════════════════════════════════════════════════════════════
+
+    private void put(EventSummary summary) {
+        lock.writeLock().lock();
+        try {
+            delete(summary.getId());
+            if (summary.getName() == null || summary.getDate() == null
+                    || summary.getStatus() != EventStatus.ACTIVE
+                    || summary.getDate().isBefore(LocalDate.now())) {
+                return;
+            }
+            insert(normalize(summary.getName()), summary);
+            byId.put(summary.getId(), summary);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Un evento que no está en el índice (cancelado o pasado) sigue fuera
+    private void replaceName(Long eventId, String name) {
+        lock.writeLock().lock();
+        try {
+            EventSummary current = byId.get(eventId);
+            if (current != null) {
+                put(new EventSummary(eventId, name, current.getDate(), current.getStatus(), current.getVenueId()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Recorre el índice completo: borrar un venue es poco frecuente
+    private void deleteVenue(Long venueId) {
+        lock.writeLock().lock();
+        try {
+            byId.values().stream()
+                    .filter(summary -> venueId.equals(summary.getVenueId()))
+                    .map(EventSummary::getId)
+                    .toList()
+                    .forEach(this::delete);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void delete(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            EventSummary summary = byId.remove(eventId);
+            if (summary != null) {
+                removeFromTrie(normalize(summary.getName()), summary);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Purga un evento que ya pasó de fecha, salvo que haya sido reemplazado entretanto
+    private void expire(EventSummary summary) {
+        lock.writeLock().lock();
+        try {
+            if (byId.get(summary.getId()) == summary) {
+                delete(summary.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // RADIX TRIE
+    // ═══════════════════════════════════════════════════════════════════════
+
+    // Nodo cuyo subárbol contiene todas las claves que empiezan por prefix; null si ninguna
+    private Node find(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            node = node.children.get(prefix.charAt(i));
+            if (node == null) {
+                return null;
+            }
+            int common = commonLength(node.label, prefix, i);
+            if (i + common == prefix.length()) {
+                // El prefijo termina en este nodo o a mitad de su tramo
+                return node;
+            }
+            if (common < node.label.length()) {
+                return null;
+            }
+            i += common;
+        }
+        return node;
+    }
+
+    private void insert(String key, EventSummary summary) {
+        Node node = root;
+        node.offer(summary);
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.children.put(key.charAt(i), child);
+                i = key.length();
+            } else {
+                int common = commonLength(child.label, key, i);
+                if (common < child.label.length()) {
+                    // Divide el tramo: el nodo nuevo cubre el mismo subárbol, con el mismo top
+                    Node middle = new Node(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    middle.children.put(child.label.charAt(0), child);
+                    middle.top = child.top;
+                    node.children.put(middle.label.charAt(0), middle);
+                    child = middle;
+                }
+                i += common;
+            }
+            node = child;
+            node.offer(summary);
+        }
+        node.own.add(summary);
+    }
+
+    private void removeFromTrie(String key, EventSummary summary) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            node = node.children.get(key.charAt(i));
+            if (node == null || !key.startsWith(node.label, i)) {
+                return;
+            }
+            path.add(node);
+            i += node.label.length();
+        }
+        if (!node.own.remove(summary)) {
+            return;
+        }
+        // Si no está en el top de un nodo, tampoco en el de sus ancestros
+        for (int depth = path.size() - 1; depth >= 0 && path.get(depth).holds(summary); depth--) {
+            path.get(depth).recompute();
+        }
+        prune(path);
+    }
+
+    // Quita el nodo que quedó vacío y fusiona un nodo de paso con su único hijo
+    private static void prune(List<Node> path) {
+        for (int depth = path.size() - 1; depth > 0; depth--) {
+            Node node = path.get(depth);
+            Node parent = path.get(depth - 1);
+            if (node.own.isEmpty() && node.children.isEmpty()) {
+                parent.children.remove(node.label.charAt(0));
+            } else if (node.own.isEmpty() && node.children.size() == 1) {
+                Node child = node.children.values().iterator().next();
+                child.label = node.label + child.label;
+                parent.children.put(child.label.charAt(0), child);
+                return;
+            } else {
+                return;
+            }
+        }
+    }
+
+    // Caracteres iguales entre label y key a partir de offset
+    private static int commonLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int common = 0;
+        while (common < max && label.charAt(common) == key.charAt(offset + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    private static final class Node {
+
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>();
+        // Eventos cuyo nombre normalizado termina exactamente en este nodo
+        private final TreeSet<EventSummary> own = new TreeSet<>(BY_DATE);
+        // Los TOP más próximos del subárbol, ordenados por BY_DATE
+        private EventSummary[] top = EMPTY;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private void offer(EventSummary summary) {
+            if (top.length == TOP && BY_DATE.compare(summary, top[TOP - 1]) >= 0) {
+                return;
+            }
+            int at = -Arrays.binarySearch(top, summary, BY_DATE) - 1;
+            EventSummary[] grown = new EventSummary[Math.min(TOP, top.length + 1)];
+            System.arraycopy(top, 0, grown, 0, at);
+            grown[at] = summary;
+            System.arraycopy(top, at, grown, at + 1, grown.length - at - 1);
+            top = grown;
+        }
+
+        private boolean holds(EventSummary summary) {
+            for (EventSummary candidate : top) {
+                if (candidate == summary) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Los TOP del subárbol salen de los eventos propios y del top de cada hijo
+        private void recompute() {
+            List<EventSummary> candidates = new ArrayList<>();
+            own.stream().limit(TOP).forEach(candidates::add);
+            children.values().forEach(child -> candidates.addAll(Arrays.asList(child.top)));
+            candidates.sort(BY_DATE);
+            top = candidates.subList(0, Math.min(TOP, candidates.size())).toArray(EMPTY);
+        }
+    }
+
+    // Si la escritura ocurre dentro de una transacción, el índice se actualiza
+    // solo cuando hace commit (un rollback no deja datos fantasma).
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,209 @@
+package com.riwi.H4.infrastructure.search;
+
+import com.riwi.H4.application.port.out.VenueSearchIndexPort;
+import com.riwi.H4.domain.model.Venue;
+import com.riwi.H4.domain.model.VenueSummary;
+import com.riwi.H4.infrastructure.repository.jpa.VenueJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Índice invertido de trigramas sobre name y location de los venues.
+ *
+ * Reemplaza los "LOWER(x) LIKE '%term%'" de VenueJpaRepository, que no pueden
+ * usar índices y recorren toda la tabla en cada tecla del buscador:
+ *
+ * 1. Cada texto se indexa por sus trigramas ("teatro" → tea, eat, atr, tro).
+ * 2. Un término de 3+ caracteres solo puede aparecer en los venues que
+ *    contienen TODOS sus trigramas: se intersectan las listas empezando por
+ *    la más corta.
+ * 3. Los candidatos se verifican con contains() (misma semántica que el LIKE).
+ *
+ * Se carga completo al arrancar (ApplicationReadyEvent) y se mantiene
+ * sincronizado con las escrituras de VenueServiceImpl después del commit.
+ * Las escrituras (y la carga inicial) se serializan; las lecturas no bloquean.
+ */
+@Component
+public class TrigramVenueSearchIndex implements VenueSearchIndexPort {
+
+    private static final Logger log = LoggerFactory.getLogger(TrigramVenueSearchIndex.class);
+
+    private final VenueJpaRepository venueRepository;
+
+    private final Map<Long, Venue> venues = new ConcurrentHashMap<>();
+    private final TrigramField names = new TrigramField();
+    private final TrigramField locations = new TrigramField();
+
+    private volatile boolean ready;
+
+    public TrigramVenueSearchIndex(VenueJpaRepository venueRepository) {
+        this.venueRepository = venueRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void warmUp() {
+        long start = System.nanoTime();
+        List<VenueSummary> all = venueRepository.findAllSummaries();
+        for (VenueSummary summary : all) {
+            put(new Venue(summary.getId(), summary.getName(), summary.getLocation(), summary.getCapacity()));
+        }
+        ready = true;
+        log.info("Índice de trigramas de venues listo: {} venues en {} ms",
+                all.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void index(Venue venue) {
+        Venue copy = new Venue(venue.getId(), venue.getName(), venue.getLocation(), venue.getCapacity());
+        afterCommit(() -> put(copy));
+    }
+
+    @Override
+    public void remove(Long venueId) {
+        afterCommit(() -> delete(venueId));
+    }
+
+    @Override
+    public List<Venue> findByName(String term) {
+        return search(names, term, Venue::getName);
+    }
+
+    @Override
+    public List<Venue> findByLocation(String term) {
+        return search(locations, term, Venue::getLocation);
+    }
+
+    private List<Venue> search(TrigramField field, String term, Function<Venue, String> text) {
+        if (term == null) {
+            return List.of();
+        }
+        String needle = normalize(term);
+        Iterable<Long> candidates = needle.length() < 3 ? venues.keySet() : field.candidates(needle);
+
+        List<Venue> result = new ArrayList<>();
+        for (Long id : candidates) {
+            Venue venue = venues.get(id);
+            String value = venue == null ? null : text.apply(venue);
+            if (value != null && normalize(value).contains(needle)) {
+                result.add(new Venue(venue.getId(), venue.getName(), venue.getLocation(), venue.getCapacity()));
+            }
+        }
+        result.sort(Comparator.comparing(Venue::getId));
+        return result;
+    }
+
+    private synchronized void put(Venue venue) {
+        Venue previous = venues.put(venue.getId(), venue);
+        if (previous != null) {
+            names.remove(previous.getId(), previous.getName());
+            locations.remove(previous.getId(), previous.getLocation());
+        }
+        names.add(venue.getId(), venue.getName());
+        locations.add(venue.getId(), venue.getLocation());
+    }
+
+    private synchronized void delete(Long venueId) {
+        Venue previous = venues.remove(venueId);
+        if (previous != null) {
+            names.remove(venueId, previous.getName());
+            locations.remove(venueId, previous.getLocation());
+        }
+    }
+
+    // Si la escritura ocurre dentro de una transacción, el índice se actualiza
+    // solo cuando hace commit (un rollback no deja datos fantasma).
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Listas invertidas trigrama → IDs de venue para un campo de texto.
+     */
+    private static class TrigramField {
+
+        private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+        void add(Long id, String text) {
+            if (text == null) {
+                return;
+            }
+            for (String trigram : trigrams(normalize(text))) {
+                postings.computeIfAbsent(trigram, key -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+
+        void remove(Long id, String text) {
+            if (text == null) {
+                return;
+            }
+            for (String trigram : trigrams(normalize(text))) {
+                postings.computeIfPresent(trigram, (key, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        /**
+         * IDs que contienen todos los trigramas del término (posibles coincidencias).
+         */
+        Iterable<Long> candidates(String needle) {
+            List<Set<Long>> lists = new ArrayList<>();
+            for (String trigram : trigrams(needle)) {
+                Set<Long> ids = postings.get(trigram);
+                if (ids == null) {
+                    return List.of();
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            List<Long> result = new ArrayList<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result.retainAll(lists.get(i));
+            }
+            return result;
+        }
+
+        private static Set<String> trigrams(String text) {
+            Set<String> trigrams = new HashSet<>();
+            for (int i = 0; i + 3 <= text.length(); i++) {
+                trigrams.add(text.substring(i, i + 3));
+            }
+            return trigrams;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.riwi.H4.infrastructure.search;
+
+import com.riwi.H4.application.port.out.UpcomingEventsPort;
+import com.riwi.H4.domain.model.ChangeType;
+import com.riwi.H4.domain.model.EventChange;
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.UpcomingEvent;
+import com.riwi.H4.domain.model.VenueChange;
+import com.riwi.H4.infrastructure.repository.jpa.EventJpaRepository;
+import com.riwi.H4.infrastructure.repository.jpa.VenueJpaRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Read model en memoria de "eventos activos y futuros, por fecha", la consulta
+ * más frecuente del catálogo (EventSpecification.isActive().and(isFuture())).
+ *
+ * 1. Un mapa ordenado (skip list) de día → eventos de ese día. Cada día es un
+ *    arreglo ordenado por id que nunca se modifica: una escritura publica un
+ *    arreglo nuevo (copy-on-write por día). Las lecturas no toman locks ni
+ *    copian eventos: recorren los arreglos desde el día pedido.
+ * 2. Cada UpcomingEvent lleva el nombre de su venue (desnormalizado): servirlo
+ *    no requiere JOIN ni búsqueda. Renombrar o borrar un venue reemplaza sus
+ *    eventos.
+ * 3. Se carga al arrancar y luego solo cambia con los EventChange /
+ *    VenueChange que publican los services, recibidos después del commit
+ *    (@TransactionalEventListener). Un rollback no llega al modelo.
+ * 4. A medianoche se descartan los días que pasaron. Las lecturas empiezan
+ *    siempre en hoy, así que un evento de ayer nunca se sirve aunque la
+ *    purga se atrase.
+ *
+ * Las escrituras se serializan con el lock del modelo (métodos synchronized).
+ * Un cambio de fecha agrega el evento al día nuevo antes de quitarlo del
+ * anterior: una lectura concurrente puede verlo dos veces, nunca ninguna.
+ */
+@Component
+public class UpcomingEventsReadModel implements UpcomingEventsPort {
+
+    private static final Logger log = LoggerFactory.getLogger(UpcomingEventsReadModel.class);
+
+    private static final UpcomingEvent[] EMPTY = new UpcomingEvent[0];
+
+    private final EventJpaRepository eventRepository;
+    private final VenueJpaRepository venueRepository;
+    private final ScheduledExecutorService rollover;
+
+    private final ConcurrentSkipListMap<LocalDate, UpcomingEvent[]> days = new ConcurrentSkipListMap<>();
+    // Solo se usan con el lock del modelo
+    private final Map<Long, UpcomingEvent> byId = new HashMap<>();
+    private final Map<Long, String> venueNames = new HashMap<>();
+    private ScheduledFuture<?> nextRollover;
+
+    private volatile boolean ready;
+
+    public UpcomingEventsReadModel(EventJpaRepository eventRepository, VenueJpaRepository venueRepository) {
+        this.eventRepository = eventRepository;
+        this.venueRepository = venueRepository;
+        this.rollover = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "upcoming-rollover");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void warmUp() {
+        long start = System.nanoTime();
+        days.clear();
+        byId.clear();
+        venueNames.clear();
+        venueRepository.findAllSummaries().forEach(venue -> venueNames.put(venue.getId(), venue.getName()));
+
+        // Vienen ordenados por (fecha, id): cada día es un tramo contiguo de la lista
+        List<UpcomingEvent> upcoming = eventRepository.findUpcoming(EventStatus.ACTIVE, LocalDate.now(),
+                Limit.unlimited());
+        int first = 0;
+        for (int i = 1; i <= upcoming.size(); i++) {
+            if (i == upcoming.size() || !upcoming.get(i).getDate().equals(upcoming.get(first).getDate())) {
+                days.put(upcoming.get(first).getDate(), upcoming.subList(first, i).toArray(EMPTY));
+                first = i;
+            }
+        }
+        upcoming.forEach(event -> byId.put(event.getId(), event));
+
+        ready = true;
+        scheduleRollover();
+        log.info("Read model de próximos eventos listo: {} eventos en {} días, {} ms",
+                upcoming.size(), days.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void forEachFrom(LocalDate from, Predicate<UpcomingEvent> action) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = from == null || from.isBefore(today) ? today : from;
+        for (UpcomingEvent[] day : days.tailMap(start, true).values()) {
+            for (UpcomingEvent event : day) {
+                if (!action.test(event)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return byId.size();
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // CAMBIOS CONFIRMADOS (después del commit)
+    // ═══════════════════════════════════════════════════════════════════════
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onEventChange(EventChange change) {
+        UpcomingEvent current = byId.get(change.getEventId());
+        if (change.getType() == ChangeType.DELETED) {
+            if (current != null) {
+                drop(current);
+            }
+            return;
+        }
+        // Un cambio parcial de un evento que no está (cancelado o pasado) no lo vuelve a agregar
+        if (current == null && !change.isComplete()) {
+            return;
+        }
+
+        EventStatus status = change.getStatus() != null ? change.getStatus() : EventStatus.ACTIVE;
+        LocalDate date = change.getDate() != null ? change.getDate() : current.getDate();
+        if (status != EventStatus.ACTIVE || date.isBefore(LocalDate.now())) {
+            if (current != null) {
+                drop(current);
+            }
+            return;
+        }
+        String name = change.getName() != null ? change.getName() : current.getName();
+        Long venueId = change.getVenueId() != null ? change.getVenueId() : current.getVenueId();
+        put(new UpcomingEvent(change.getEventId(), name, date, venueId, venueName(venueId, current)), current);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onVenueChange(VenueChange change) {
+        Long venueId = change.getVenueId();
+        if (change.getType() == ChangeType.DELETED) {
+            venueNames.remove(venueId);
+            eventsOf(venueId).forEach(this::drop);
+            return;
+        }
+        String previous = venueNames.put(venueId, change.getName());
+        if (change.getType() == ChangeType.UPDATED && !Objects.equals(previous, change.getName())) {
+            // Recorre el modelo completo: renombrar un venue es poco frecuente
+            for (UpcomingEvent event : eventsOf(venueId)) {
+                put(new UpcomingEvent(event.getId(), event.getName(), event.getDate(), venueId, change.getName()),
+                        event);
+            }
+        }
+    }
+
+    private String venueName(Long venueId, UpcomingEvent current) {
+        String name = venueNames.get(venueId);
+        if (name == null && current != null && venueId.equals(current.getVenueId())) {
+            return current.getVenueName();
+        }
+        return name;
+    }
+
+    private List<UpcomingEvent> eventsOf(Long venueId) {
+        return byId.values().stream()
+                .filter(event -> venueId.equals(event.getVenueId()))
+                .toList();
+    }
+
+    // Reemplaza current (si existe) por event
+    private void put(UpcomingEvent event, UpcomingEvent current) {
+        UpcomingEvent[] day = days.getOrDefault(event.getDate(), EMPTY);
+        int index = indexOf(day, event.getId());
+        if (index >= 0) {
+            UpcomingEvent[] replaced = day.clone();
+            replaced[index] = event;
+            days.put(event.getDate(), replaced);
+        } else {
+            int insertAt = -index - 1;
+            UpcomingEvent[] grown = new UpcomingEvent[day.length + 1];
+            System.arraycopy(day, 0, grown, 0, insertAt);
+            grown[insertAt] = event;
+            System.arraycopy(day, insertAt, grown, insertAt + 1, day.length - insertAt);
+            days.put(event.getDate(), grown);
+            if (current != null) {
+                removeFromDay(current);
+            }
+        }
+        byId.put(event.getId(), event);
+    }
+
+    private void drop(UpcomingEvent event) {
+        removeFromDay(event);
+        byId.remove(event.getId());
+    }
+
+    private void removeFromDay(UpcomingEvent event) {
+        UpcomingEvent[] day = days.get(event.getDate());
+        int index = day == null ? -1 : indexOf(day, event.getId());
+        if (index < 0) {
+            return;
+        }
+        if (day.length == 1) {
+            days.remove(event.getDate());
+            return;
+        }
+        UpcomingEvent[] shrunk = new UpcomingEvent[day.length - 1];
+        System.arraycopy(day, 0, shrunk, 0, index);
+        System.arraycopy(day, index + 1, shrunk, index, day.length - index - 1);
+        days.put(event.getDate(), shrunk);
+    }
+
+    // Búsqueda binaria por id; si no está, -(posición de inserción) - 1
+    private static int indexOf(UpcomingEvent[] day, long id) {
+        int low = 0;
+        int high = day.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = day[mid].getId();
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // CAMBIO DE DÍA
+    // ═══════════════════════════════════════════════════════════════════════
+
+    /**
+     * Descarta los días anteriores a today. Se ejecuta sola a cada medianoche
+     * (hora local del servidor).
+     */
+    public synchronized int rollOver(LocalDate today) {
+        NavigableMap<LocalDate, UpcomingEvent[]> past = days.headMap(today, false);
+        int removed = 0;
+        for (UpcomingEvent[] day : past.values()) {
+            for (UpcomingEvent event : day) {
+                byId.remove(event.getId());
+            }
+            removed += day.length;
+        }
+        past.clear();
+        return removed;
+    }
+
+    private synchronized void scheduleRollover() {
+        if (nextRollover != null) {
+            nextRollover.cancel(false);
+        }
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime midnight = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
+        nextRollover = rollover.schedule(this::rollOverToday, Duration.between(now, midnight).toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    // Si el reloj dispara unos milisegundos antes de medianoche no se descarta
+    // nada: scheduleRollover, todavía en el día que termina, programa de nuevo
+    // esa misma medianoche, a unos milisegundos. Así el día no queda sin purgar
+    private void rollOverToday() {
+        try {
+            int removed = rollOver(LocalDate.now());
+            log.info("Read model de próximos eventos: {} eventos de días pasados descartados", removed);
+        } finally {
+            scheduleRollover();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rollover.shutdownNow();
+    }
+}
@@ -0,0 +1,290 @@
+package com.riwi.H4.infrastructure.search;
+
+import com.riwi.H4.application.port.out.VenueOccupancyPort;
+import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.EventSummary;
+import com.riwi.H4.infrastructure.repository.jpa.EventJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Bitmap de ocupación por venue: un bit por día (epoch day) ocupado por un
+ * evento ACTIVE.
+ *
+ * Reemplaza la consulta "¿hay otro evento en este venue ese día?" en cada
+ * escritura:
+ *
+ * 1. Verificar y reservar un día es un get/set sobre el bitmap del venue,
+ *    sin ida a la base de datos.
+ * 2. La reserva se hace dentro de la transacción de escritura (visible de
+ *    inmediato para las demás) y se deshace si hay rollback. Liberar el día
+ *    anterior (cambio de fecha, cancelación, borrado) espera al commit.
+ * 3. La disponibilidad de un rango se lee recorriendo solo las palabras
+ *    ocupadas del rango, sin tocar la base de datos.
+ *
+ * Los datos cargados al arrancar pueden traer días con más de un evento
+ * ACTIVE (anteriores a esta validación): se cuentan aparte para que el día
+ * siga ocupado mientras quede alguno de ellos.
+ */
+@Component
+public class VenueOccupancyIndex implements VenueOccupancyPort {
+
+    private static final Logger log = LoggerFactory.getLogger(VenueOccupancyIndex.class);
+
+    private final EventJpaRepository eventRepository;
+
+    private final Map<Long, VenueDays> venues = new ConcurrentHashMap<>();
+    // Día que ocupa cada evento ACTIVE confirmado (para liberarlo después)
+    private final Map<Long, Slot> slotsByEvent = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    public VenueOccupancyIndex(EventJpaRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.nanoTime();
+        List<EventSummary> active = eventRepository.findSummariesByStatus(EventStatus.ACTIVE);
+        int shared = 0;
+        for (EventSummary event : active) {
+            if (event.getVenueId() == null || event.getDate() == null) {
+                continue;
+            }
+            Slot slot = new Slot(event.getVenueId(), event.getDate().toEpochDay());
+            // Una escritura confirmada durante la carga ya registró este evento
+            if (slotsByEvent.putIfAbsent(event.getId(), slot) == null && !days(slot.venueId()).load(slot.day())) {
+                shared++;
+            }
+        }
+        ready = true;
+        log.info("Índice de ocupación de venues listo: {} eventos en {} venues en {} ms",
+                active.size(), venues.size(), (System.nanoTime() - start) / 1_000_000);
+        if (shared > 0) {
+            log.warn("{} eventos activos comparten venue y día con otro evento activo", shared);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public boolean isBooked(Long venueId, LocalDate date, Long excludeEventId) {
+        Slot slot = new Slot(venueId, date.toEpochDay());
+        if (excludeEventId != null && slot.equals(slotsByEvent.get(excludeEventId))) {
+            return false;
+        }
+        VenueDays days = venues.get(venueId);
+        return days != null && days.isBooked(slot.day());
+    }
+
+    @Override
+    public boolean book(Event event) {
+        return bookAll(List.of(event));
+    }
+
+    /**
+     * Reserva los días nuevos que no ocupa ya el propio grupo (así un evento
+     * puede tomar el día que deja otro del mismo grupo, p. ej. al correr
+     * varias fechas una semana). Al commit cada evento pasa a su día nuevo y
+     * se liberan los días que el grupo dejó y nadie del grupo tomó; con
+     * rollback solo se liberan las reservas hechas aquí.
+     */
+    @Override
+    public boolean bookAll(Collection<Event> events) {
+        Set<Slot> groupSlots = new HashSet<>();
+        Map<Long, Slot> targets = new HashMap<>();
+        for (Event event : events) {
+            Slot current = slotsByEvent.get(event.getId());
+            if (current != null) {
+                groupSlots.add(current);
+            }
+            targets.put(event.getId(), slotOf(event));
+        }
+
+        List<Slot> reserved = new ArrayList<>();
+        for (Slot slot : targets.values()) {
+            if (slot == null || groupSlots.contains(slot)) {
+                continue;
+            }
+            if (!days(slot.venueId()).tryBook(slot.day())) {
+                reserved.forEach(taken -> days(taken.venueId()).free(taken.day()));
+                return false;
+            }
+            reserved.add(slot);
+        }
+
+        afterCompletion(committed -> {
+            if (!committed) {
+                reserved.forEach(slot -> days(slot.venueId()).free(slot.day()));
+                return;
+            }
+            Set<Slot> taken = new HashSet<>(targets.values());
+            targets.forEach((eventId, slot) -> {
+                Slot previous = slot == null ? slotsByEvent.remove(eventId) : slotsByEvent.put(eventId, slot);
+                if (previous != null && !taken.contains(previous)) {
+                    days(previous.venueId()).free(previous.day());
+                }
+            });
+        });
+        return true;
+    }
+
+    @Override
+    public void release(Long eventId) {
+        afterCompletion(committed -> {
+            Slot slot = committed ? slotsByEvent.remove(eventId) : null;
+            if (slot != null) {
+                days(slot.venueId()).free(slot.day());
+            }
+        });
+    }
+
+    @Override
+    public void removeVenue(Long venueId) {
+        afterCompletion(committed -> {
+            if (committed) {
+                venues.remove(venueId);
+                slotsByEvent.values().removeIf(slot -> slot.venueId().equals(venueId));
+            }
+        });
+    }
+
+    @Override
+    public List<LocalDate> bookedDays(Long venueId, LocalDate from, LocalDate to) {
+        VenueDays days = venues.get(venueId);
+        return days == null ? List.of() : days.booked(from.toEpochDay(), to.toEpochDay());
+    }
+
+    private VenueDays days(Long venueId) {
+        return venues.computeIfAbsent(venueId, id -> new VenueDays());
+    }
+
+    private static Slot slotOf(Event event) {
+        if (event.getStatus() != EventStatus.ACTIVE || event.getDate() == null
+                || event.getVenue() == null || event.getVenue().getId() == null) {
+            return null;
+        }
+        return new Slot(event.getVenue().getId(), event.getDate().toEpochDay());
+    }
+
+    // Dentro de una transacción la acción corre al terminarla, con committed
+    // = true solo si hizo commit. Sin transacción corre de inmediato.
+    private static void afterCompletion(Consumer<Boolean> action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.accept(status == STATUS_COMMITTED);
+                }
+            });
+        } else {
+            action.accept(true);
+        }
+    }
+
+    private record Slot(Long venueId, long day) {
+    }
+
+    /**
+     * Días ocupados de un venue, en palabras de 64 bits indexadas por
+     * epochDay >> 6 (el bit epochDay & 63 de la palabra es ese día). Solo
+     * existen las palabras con algún día ocupado: la memoria crece con los
+     * eventos y no con la distancia entre sus fechas, así que una fecha muy
+     * lejana no agranda el bitmap ni desborda un índice int.
+     */
+    private static final class VenueDays {
+
+        private final TreeMap<Long, Long> words = new TreeMap<>();
+        // Eventos adicionales en días que ya venían compartidos desde la base de datos
+        private final Map<Long, Integer> extra = new HashMap<>();
+
+        synchronized boolean tryBook(long day) {
+            long word = words.getOrDefault(day >> 6, 0L);
+            // El desplazamiento de un long usa solo los 6 bits bajos: 1L << (day & 63)
+            long bit = 1L << day;
+            if ((word & bit) != 0) {
+                return false;
+            }
+            words.put(day >> 6, word | bit);
+            return true;
+        }
+
+        // Carga inicial: acepta días compartidos y retorna false si lo era
+        synchronized boolean load(long day) {
+            if (tryBook(day)) {
+                return true;
+            }
+            extra.merge(day, 1, Integer::sum);
+            return false;
+        }
+
+        synchronized void free(long day) {
+            Integer shared = extra.get(day);
+            if (shared != null) {
+                if (shared == 1) {
+                    extra.remove(day);
+                } else {
+                    extra.put(day, shared - 1);
+                }
+                return;
+            }
+            Long word = words.get(day >> 6);
+            if (word != null) {
+                long remaining = word & ~(1L << day);
+                if (remaining == 0) {
+                    words.remove(day >> 6);
+                } else {
+                    words.put(day >> 6, remaining);
+                }
+            }
+        }
+
+        synchronized boolean isBooked(long day) {
+            return (words.getOrDefault(day >> 6, 0L) & (1L << day)) != 0;
+        }
+
+        synchronized List<LocalDate> booked(long from, long to) {
+            List<LocalDate> result = new ArrayList<>();
+            if (from > to) {
+                return result;
+            }
+            for (Map.Entry<Long, Long> entry : words.subMap(from >> 6, true, to >> 6, true).entrySet()) {
+                long base = entry.getKey() << 6;
+                long word = entry.getValue();
+                while (word != 0) {
+                    long day = base + Long.numberOfTrailingZeros(word);
+                    if (day > to) {
+                        break;
+                    }
+                    if (day >= from) {
+                        result.add(LocalDate.ofEpochDay(day));
+                    }
+                    word &= word - 1;
+                }
+            }
+            return result;
+        }
+    }
+}
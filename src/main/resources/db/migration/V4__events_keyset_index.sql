@@ -0,0 +1,8 @@
+-- V4: Índice compuesto para paginación keyset (seek) sobre events
+
+-- La paginación por cursor ordena por (date, id) y busca con
+-- "date >= :date AND (date > :date OR id > :id)". Con este índice la
+-- consulta hace un range scan desde la posición del cursor en vez de
+-- recorrer y descartar filas como OFFSET, así la latencia no depende
+-- de la profundidad de la página.
+CREATE INDEX idx_events_date_id ON events(date, id);
@@ -0,0 +1,17 @@
+-- V5: Secuencias para generación de IDs con optimizador pooled
+
+-- Con GenerationType.IDENTITY Hibernate necesita ejecutar cada INSERT en el
+-- momento para conocer el ID, lo que desactiva el batching JDBC
+-- (hibernate.jdbc.batch_size). Con una secuencia que avanza de 50 en 50
+-- Hibernate reserva 50 IDs por llamada y agrupa los INSERT en lotes.
+--
+-- El optimizador pooled interpreta el valor de la secuencia como el límite
+-- superior del bloque, por eso se reinicia en MAX(id) + 50: el primer bloque
+-- entrega los IDs MAX(id)+1 .. MAX(id)+50 sin chocar con los existentes.
+-- Las columnas AUTO_INCREMENT se mantienen y aceptan IDs explícitos.
+
+CREATE SEQUENCE venues_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE venues_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM venues);
+
+CREATE SEQUENCE events_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE events_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM events);
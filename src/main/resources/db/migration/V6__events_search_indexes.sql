@@ -0,0 +1,7 @@
+-- V6: Índices compuestos para la búsqueda combinada (GET /events/search)
+
+-- La búsqueda ordena por (date, id). Con el filtro de igualdad como primera
+-- columna y la fecha como segunda, el motor resuelve filtro + rango de fechas
+-- + orden con el mismo índice, sin ordenar en memoria.
+CREATE INDEX idx_events_venue_date ON events(venue_id, date);
+CREATE INDEX idx_events_status_date ON events(status, date);
@@ -0,0 +1,8 @@
+-- V7: Columnas de versión para bloqueo optimista (@Version) y ETags
+
+-- Hibernate incrementa version en cada UPDATE ("... WHERE id = ? AND version = ?"):
+-- dos escrituras concurrentes sobre la misma fila no se pisan, y el par
+-- (id, version) identifica el estado de la fila para los ETag de GET /events/{id}
+-- y GET /venues/{id}. Las filas existentes empiezan en 0.
+ALTER TABLE events ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE venues ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
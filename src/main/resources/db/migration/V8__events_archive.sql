@@ -0,0 +1,17 @@
+-- V8: Archivo de eventos de venues eliminados
+
+-- La eliminación por lotes de un venue (POST /venues/{id}/removal?archive=true)
+-- copia cada lote de eventos aquí con un INSERT ... SELECT antes de borrarlo.
+-- Sin FK a venues: el venue deja de existir; su nombre se guarda con el evento.
+CREATE TABLE events_archive (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    date DATE,
+    status VARCHAR(20) NOT NULL,
+    venue_id BIGINT NOT NULL,
+    venue_name VARCHAR(255),
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_events_archive_venue ON events_archive(venue_id);
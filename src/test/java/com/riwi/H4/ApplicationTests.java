@@ -1,8 +1,4 @@
-<<<<<<<< HEAD:src/test/java/com/riwi/H4/ApplicationTests.java
 package com.riwi.H4;
-========
-package com.riwi.H3;
->>>>>>>> origin/main:src/test/java/com/riwi/H3/ApplicationTests.java
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -0,0 +1,316 @@
+package com.riwi.H4;
+
+import com.riwi.H4.application.port.in.EventUseCase;
+import com.riwi.H4.application.port.in.VenueUseCase;
+import com.riwi.H4.domain.exception.ConflictException;
+import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.Venue;
+import com.riwi.H4.infrastructure.feed.CatalogChangeFeed;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.riwi.H4.support.TestEvents.newEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Feed GET /changes sobre un servidor real: entrega los cambios confirmados
+ * (no los revertidos), reenvía desde el buffer a partir de Last-Event-ID,
+ * envía "reset" cuando lo pedido ya no está en el buffer (8 cambios aquí) y
+ * no crea más de 2 + 2 hilos de envío con clientes trabados: los suscriptores
+ * sin hilo se desconectan al llenar su cola (4 cambios aquí).
+ *
+ * StallingFilter simula un cliente que no lee: en las peticiones con su
+ * cabecera, la escritura de un cambio se bloquea hasta release().
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.feed.buffer-size=8",
+        "app.feed.subscriber-queue=4",
+        "app.feed.sender-threads=2",
+        "app.feed.sender-extra-threads=2"
+})
+@ActiveProfiles("test")
+@Timeout(value = 30, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+class ChangeFeedTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EventUseCase events;
+
+    @Autowired
+    private VenueUseCase venues;
+
+    @Autowired
+    private CatalogChangeFeed feed;
+
+    @Autowired
+    private StallingFilter stall;
+
+    @Test
+    void deliversCommittedChangesAndResumesFromLastEventId() throws Exception {
+        String venueCreatedId;
+        Venue venue;
+        try (SseStream stream = open(null)) {
+            venue = venues.create(new Venue(null, "Feed sala", "Centro", 100));
+            Long eventId = events.create(newEvent("Feed concierto", venue.getId(), 6)).getId();
+            assertThrows(ConflictException.class,
+                    () -> events.create(newEvent("Feed choque", venue.getId(), 6)));
+            venues.delete(venue.getId());
+
+            Map<String, String> created = stream.next();
+            venueCreatedId = created.get("id");
+            assertTrue(created.get("data").contains("\"entity\":\"VENUE\",\"type\":\"CREATED\""));
+            assertTrue(stream.next().get("data").contains("\"id\":" + eventId + ",\"name\":\"Feed concierto\""));
+            // El evento revertido por el choque no se publica
+            assertTrue(stream.next().get("data").contains("\"entity\":\"VENUE\",\"type\":\"DELETED\""));
+        }
+
+        try (SseStream resumed = open(venueCreatedId)) {
+            assertTrue(resumed.next().get("data").contains("Feed concierto"));
+            assertTrue(resumed.next().get("data").contains("\"type\":\"DELETED\""));
+        }
+    }
+
+    @Test
+    void sendsResetWhenLastEventIdIsGone() throws Exception {
+        try (SseStream stream = open("otra-ejecucion-5")) {
+            assertEquals("reset", stream.next().get("event"));
+        }
+
+        String firstId;
+        try (SseStream stream = open(null)) {
+            Venue venue = venues.create(new Venue(null, "Feed lleno", "Norte", 10));
+            firstId = stream.next().get("id");
+            for (int i = 0; i < 10; i++) {
+                venues.update(venue.getId(), new Venue(null, "Feed lleno " + i, "Norte", 10));
+            }
+            venues.delete(venue.getId());
+        }
+        try (SseStream stream = open(firstId)) {
+            Map<String, String> reset = stream.next();
+            assertEquals("reset", reset.get("event"));
+            assertTrue(reset.get("data").contains("reason"));
+        }
+    }
+
+    @Test
+    void stalledSubscribersDoNotGrowTheSenderPoolPastItsLimit() throws Exception {
+        ThreadPoolExecutor senders = (ThreadPoolExecutor) ReflectionTestUtils.getField(feed, "senders");
+        List<CompletableFuture<HttpResponse<Void>>> stalled = new ArrayList<>();
+        Venue venue;
+        try {
+            // Uno a uno: cada suscripción recibe su primer envío (el ping) antes de la siguiente
+            for (int i = 0; i < 10; i++) {
+                stalled.add(client.sendAsync(request(null).header(StallingFilter.HEADER, "true").build(),
+                        HttpResponse.BodyHandlers.discarding()));
+                assertTrue(stall.connected.tryAcquire(10, TimeUnit.SECONDS), "suscripción " + i);
+            }
+
+            // 6 cambios: llenan la cola de cada suscriptor sin salir del buffer
+            venue = venues.create(new Venue(null, "Feed trabado", "Sur", 10));
+            for (int i = 0; i < 5; i++) {
+                venues.update(venue.getId(), new Venue(null, "Feed trabado " + i, "Sur", 10));
+            }
+
+            // 2 + 2 hilos quedan bloqueados escribiendo; los otros 6 suscriptores no consiguen hilo,
+            // llenan su cola y se desconectan
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (stalled.stream().filter(CompletableFuture::isDone).count() < 6 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(6, stalled.stream().filter(CompletableFuture::isDone).count());
+            assertEquals(4, senders.getPoolSize());
+            assertEquals(4, senders.getLargestPoolSize());
+        } finally {
+            stall.release();
+        }
+
+        // Los hilos vuelven a estar libres: una suscripción nueva recibe los cambios
+        try (SseStream stream = open(null)) {
+            venues.delete(venue.getId());
+            assertTrue(stream.next().get("data").contains("\"entity\":\"VENUE\",\"type\":\"DELETED\""));
+        }
+        assertTrue(senders.getLargestPoolSize() <= 4);
+    }
+
+    private HttpRequest.Builder request(String lastEventId) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/changes"))
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return request;
+    }
+
+    private SseStream open(String lastEventId) throws Exception {
+        HttpResponse<Stream<String>> response = client.send(request(lastEventId).build(),
+                HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+        return new SseStream(response.body());
+    }
+
+    @TestConfiguration
+    static class StallConfig {
+
+        @Bean
+        StallingFilter stallingFilter() {
+            return new StallingFilter();
+        }
+    }
+
+    /**
+     * En las peticiones con X-Test-Stall deja pasar los heartbeats (":ping")
+     * y bloquea la escritura de los cambios hasta release(), como un cliente
+     * que dejó de leer con el buffer del socket lleno.
+     */
+    static class StallingFilter extends OncePerRequestFilter {
+
+        static final String HEADER = "X-Test-Stall";
+
+        // Un permiso por cada ping escrito
+        private final Semaphore connected = new Semaphore(0);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        void release() {
+            released.countDown();
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            if (request.getHeader(HEADER) == null) {
+                chain.doFilter(request, response);
+                return;
+            }
+            chain.doFilter(request, new HttpServletResponseWrapper(response) {
+
+                private ServletOutputStream stream;
+
+                @Override
+                public ServletOutputStream getOutputStream() throws IOException {
+                    if (stream == null) {
+                        stream = new StallingStream(super.getOutputStream());
+                    }
+                    return stream;
+                }
+            });
+        }
+
+        private final class StallingStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            private StallingStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                String text = new String(bytes, offset, length, StandardCharsets.UTF_8);
+                if (text.startsWith(":ping")) {
+                    connected.release();
+                } else if (text.startsWith("id:") || text.startsWith("data:")) {
+                    try {
+                        released.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException();
+                    }
+                }
+                delegate.write(bytes, offset, length);
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] { (byte) b }, 0, 1);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                delegate.setWriteListener(listener);
+            }
+        }
+    }
+
+    // Lee eventos SSE (campos hasta la línea vacía), ignorando los comentarios (heartbeat)
+    private static final class SseStream implements AutoCloseable {
+
+        private final Stream<String> lines;
+        private final Iterator<String> iterator;
+
+        private SseStream(Stream<String> lines) {
+            this.lines = lines;
+            this.iterator = lines.iterator();
+        }
+
+        private Map<String, String> next() {
+            Map<String, String> fields = new HashMap<>();
+            while (iterator.hasNext()) {
+                String line = iterator.next();
+                if (line.isEmpty()) {
+                    if (!fields.isEmpty()) {
+                        return fields;
+                    }
+                } else if (!line.startsWith(":")) {
+                    int colon = line.indexOf(':');
+                    fields.merge(line.substring(0, colon), line.substring(colon + 1), (a, b) -> a + "\n" + b);
+                }
+            }
+            throw new IllegalStateException("El stream terminó");
+        }
+
+        @Override
+        public void close() {
+            lines.close();
+        }
+    }
+}
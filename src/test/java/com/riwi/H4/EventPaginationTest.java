@@ -0,0 +1,103 @@
+package com.riwi.H4;
+
+import com.jayway.jsonpath.JsonPath;
+import com.riwi.H4.application.port.in.EventUseCase;
+import com.riwi.H4.application.port.in.VenueUseCase;
+import com.riwi.H4.domain.model.Venue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.riwi.H4.support.TestEvents.newEvent;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Paginación de GET /events: límites de page/size (400, no 500), forma de
+ * la respuesta y recorrido completo por cursor (GET /events/keyset).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class EventPaginationTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private EventUseCase events;
+
+    @Autowired
+    private VenueUseCase venues;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void pagedRejectsOutOfRangeParameters() throws Exception {
+        for (String query : new String[] { "page=-1&size=10", "page=0&size=0", "page=0&size=101" }) {
+            mvc.perform(get("/events/paged?" + query))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.detail").exists());
+        }
+        mvc.perform(get("/events/paged?page=0&size=100")).andExpect(status().isOk());
+    }
+
+    @Test
+    void pagedReturnsSummaryDTOs() throws Exception {
+        mvc.perform(get("/events/paged?page=0&size=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[0].name").isString())
+                .andExpect(jsonPath("$[0].status").isString())
+                .andExpect(jsonPath("$[0].venueId").isNumber());
+    }
+
+    @Test
+    void keysetWalksEveryEventOnceInDateOrderWithUndatedLast() throws Exception {
+        LocalDate sameDay = LocalDate.now().plusYears(5);
+        List<Long> venueIds = new ArrayList<>();
+        try {
+            // Varios eventos el mismo día (uno por venue) y varios sin fecha
+            for (int i = 0; i < 4; i++) {
+                Long venueId = venues.create(new Venue(null, "Keyset sala " + i, "Centro", 10)).getId();
+                venueIds.add(venueId);
+                events.create(newEvent("Keyset mismo día " + i, venueId, sameDay));
+            }
+            for (int i = 0; i < 3; i++) {
+                Long id = events.create(newEvent("Keyset sin fecha " + i, venueIds.get(0), i + 1)).getId();
+                jdbc.update("UPDATE events SET date = NULL WHERE id = ?", id);
+            }
+            List<Long> expected = jdbc.queryForList("SELECT id FROM events ORDER BY date ASC NULLS LAST, id ASC",
+                    Long.class);
+
+            List<Long> walked = new ArrayList<>();
+            String cursor = null;
+            do {
+                String body = mvc.perform(get("/events/keyset").param("size", "3").param("cursor", cursor))
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString();
+                List<Number> ids = JsonPath.read(body, "$.items[*].id");
+                ids.forEach(id -> walked.add(id.longValue()));
+                cursor = JsonPath.read(body, "$.nextCursor");
+            } while (cursor != null);
+
+            assertEquals(expected, walked);
+        } finally {
+            // Borrar el venue borra sus eventos
+            venueIds.forEach(venues::delete);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.riwi.H4;
+
+import com.riwi.H4.application.port.in.EventUseCase;
+import com.riwi.H4.application.port.in.VenueUseCase;
+import com.riwi.H4.application.port.out.EventRepositoryPort;
+import com.riwi.H4.application.port.out.EventSuggestIndexPort;
+import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventSummary;
+import com.riwi.H4.domain.model.Venue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.riwi.H4.support.TestEvents.newEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Respaldo de GET /events/suggest mientras el índice se carga: la consulta
+ * LIKE 'prefijo%' debe dar lo mismo que el índice en memoria, aunque haya
+ * más de una página de eventos que contienen el término a mitad del nombre
+ * y aunque el prefijo traiga comodines de LIKE.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EventSuggestFallbackTest {
+
+    private static final LocalDate FROM = LocalDate.now().plusYears(8);
+
+    @Autowired
+    private EventUseCase events;
+
+    @Autowired
+    private VenueUseCase venues;
+
+    @Autowired
+    private EventRepositoryPort repository;
+
+    @Autowired
+    private EventSuggestIndexPort index;
+
+    @Test
+    void prefixQueryMatchesTheWarmIndex() {
+        Long venueId = venues.create(new Venue(null, "Sugerencias respaldo", "Centro", 10)).getId();
+        List<Event> batch = new ArrayList<>();
+        // 150 eventos con el término a mitad del nombre, antes (por fecha) que los que empiezan con él
+        for (int i = 0; i < 150; i++) {
+            batch.add(newEvent("Gira zqw " + i, venueId, FROM.plusDays(i)));
+        }
+        batch.add(newEvent("Zqw final", venueId, FROM.plusDays(200)));
+        batch.add(newEvent("  zqw con espacios ", venueId, FROM.plusDays(201)));
+        batch.add(newEvent("zqw_guion", venueId, FROM.plusDays(202)));
+        batch.add(newEvent("zqwxguion", venueId, FROM.plusDays(203)));
+        batch.add(newEvent("100% zqw", venueId, FROM.plusDays(204)));
+        batch.add(newEvent("1000 zqw", venueId, FROM.plusDays(205)));
+        assertEquals(batch.size(), events.createAll(batch).getCreated());
+        assertTrue(index.isReady());
+
+        assertEquals(List.of("Zqw final", "  zqw con espacios ", "zqw_guion", "zqwxguion"),
+                names(repository.findUpcomingByNamePrefix("ZQW", 50)));
+        assertEquals(List.of("zqw_guion"), names(repository.findUpcomingByNamePrefix("zqw_", 50)));
+        assertEquals(List.of("100% zqw"), names(repository.findUpcomingByNamePrefix("100%", 50)));
+        for (String prefix : new String[] { "zqw", " Zqw ", "zqw_", "gira zqw 1", "g", "100%", "100", "zz" }) {
+            for (int limit : new int[] { 1, 7, 50 }) {
+                assertEquals(ids(index.suggest(prefix, limit)), ids(repository.findUpcomingByNamePrefix(prefix, limit)),
+                        "prefijo '" + prefix + "', límite " + limit);
+            }
+        }
+    }
+
+    private static List<String> names(List<EventSummary> summaries) {
+        return summaries.stream().map(EventSummary::getName).toList();
+    }
+
+    private static List<Long> ids(List<EventSummary> summaries) {
+        return summaries.stream().map(EventSummary::getId).toList();
+    }
+}
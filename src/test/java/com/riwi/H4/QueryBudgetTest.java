@@ -0,0 +1,424 @@
+package com.riwi.H4;
+
+import com.riwi.H4.application.port.out.CatalogReadPort;
+import com.riwi.H4.application.port.out.EventRepositoryPort;
+import com.riwi.H4.application.port.out.VenueRepositoryPort;
+import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventSearchCriteria;
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.Venue;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.riwi.H4.support.TestEvents.newEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Presupuesto exacto de sentencias SQL por método de adapter y por endpoint.
+ *
+ * Un lazy load de más (por ejemplo, un listado que deja el venue como proxy y
+ * lo carga al mapear) cambia el número de sentencias y hace fallar el build.
+ * El mensaje de error incluye el SQL ejecutado.
+ *
+ * - Las sentencias se capturan con un StatementInspector por hilo: MockMvc
+ *   atiende la petición en el hilo del test.
+ * - No cuentan las llamadas a secuencias ("next value for"): con el optimizador
+ *   pooled dependen de cuántos IDs quedan en el bloque asignado.
+ * - La caché de venues y la de segundo nivel de Hibernate se desactivan para
+ *   medir siempre el camino a la base de datos (con ellas el número de
+ *   sentencias dependería del orden de los tests), y la agrupación de
+ *   findById de eventos para que la consulta corra en el hilo del test (no en
+ *   el hilo del loader). SecondLevelCacheTest cubre la caché de segundo nivel.
+ */
+@SpringBootTest(properties = {
+        "app.cache.venues.enabled=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "app.events.coalescing.enabled=false"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class QueryBudgetTest {
+
+    private static final LocalDate IN_A_MONTH = LocalDate.now().plusDays(30);
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private EventRepositoryPort eventRepository;
+
+    @Autowired
+    private VenueRepositoryPort venueRepository;
+
+    @Autowired
+    private CatalogReadPort catalogRead;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // ADAPTERS (cada llamada dentro de una transacción, como desde un service)
+    // ═══════════════════════════════════════════════════════════════════════
+
+    @Test
+    void eventAdapterReads() {
+        LocalDate today = LocalDate.now();
+        assertBudget("findById", 1, () -> eventRepository.findById(1L));
+        assertBudget("findAllById", 1, () -> eventRepository.findAllById(List.of(1L, 2L, 3L, 99L)));
+        assertBudget("findAll", 1, () -> eventRepository.findAll());
+        assertBudget("findAll(page, size)", 1, () -> eventRepository.findAll(0, 5));
+        assertBudget("findByVenue", 1, () -> eventRepository.findByVenue(1L));
+        assertBudget("findByDateRange", 1, () -> eventRepository.findByDateRange(today.minusYears(5), today.plusYears(5)));
+        assertBudget("findByStatus", 1, () -> eventRepository.findByStatus(EventStatus.ACTIVE));
+        assertBudget("existsActiveOn", 1, () -> eventRepository.existsActiveOn(1L, today, null));
+        assertBudget("findAllAfter (primera página)", 1, () -> eventRepository.findAllAfter(null, null, 5));
+        assertBudget("findAllAfter (cursor)", 1, () -> eventRepository.findAllAfter(today.minusYears(5), 1L, 5));
+        assertBudget("search", 1, () -> eventRepository.search(
+                new EventSearchCriteria(null, EventStatus.ACTIVE, null, null, "o", false), 0, 5));
+        assertBudget("forEachEvent", 1, () -> eventRepository.forEachEvent(event -> event.getVenue().getName()));
+        assertBudget("findIdsByVenue", 1, () -> eventRepository.findIdsByVenue(1L, 1000));
+        assertBudget("countByVenue", 1, () -> eventRepository.countByVenue(1L));
+        assertBudget("findUpcomingByNamePrefix", 1, () -> eventRepository.findUpcomingByNamePrefix("con", 10));
+    }
+
+    @Test
+    void eventAdapterWrites() {
+        assertBudget("save (nuevo)", 1, () -> eventRepository.save(newEvent("Budget save", 1L, IN_A_MONTH)));
+        assertBudget("saveAll (3 eventos, un batch)", 1, () -> eventRepository.saveAll(List.of(
+                newEvent("Budget 1", 1L, IN_A_MONTH), newEvent("Budget 2", 1L, IN_A_MONTH),
+                newEvent("Budget 3", 1L, IN_A_MONTH))));
+
+        Long id = inTransaction(() -> eventRepository.save(newEvent("Budget delete", 1L, IN_A_MONTH)).getId());
+        assertBudget("deleteById", 1, () -> eventRepository.deleteById(id));
+        assertBudget("deleteById (inexistente)", 1, () -> eventRepository.deleteById(id));
+
+        // Un lote de la eliminación por lotes de un venue: INSERT ... SELECT + DELETE ... IN
+        List<Long> ids = inTransaction(() -> eventRepository.saveAll(List.of(
+                newEvent("Budget archive 1", 1L, IN_A_MONTH), newEvent("Budget archive 2", 1L, IN_A_MONTH)))
+                .stream().map(Event::getId).toList());
+        assertBudget("archiveAllById + deleteAllById", 2, () -> {
+            eventRepository.archiveAllById(ids);
+            eventRepository.deleteAllById(ids);
+        });
+    }
+
+    @Test
+    void venueAndCatalogAdapters() {
+        assertBudget("venue findById", 1, () -> venueRepository.findById(1L));
+        assertBudget("venue findAll", 1, () -> venueRepository.findAll());
+        assertBudget("venue findExistingIds", 1, () -> venueRepository.findExistingIds(Set.of(1L, 2L, 99L)));
+        assertBudget("venue findByLocation", 1, () -> venueRepository.findByLocation("calle"));
+        assertBudget("venue findByName", 1, () -> venueRepository.findByName("teatro"));
+        assertBudget("catalog findAllEvents", 1, () -> catalogRead.findAllEvents());
+        assertBudget("catalog findEvents", 1, () -> catalogRead.findEvents(0, 5));
+        assertBudget("catalog findAllVenues", 1, () -> catalogRead.findAllVenues());
+        assertBudget("catalog findVenueStats", 1, () -> catalogRead.findVenueStats(null, null, LocalDate.now()));
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // ENDPOINTS REST
+    // ═══════════════════════════════════════════════════════════════════════
+
+    @Test
+    void readEndpoints() {
+        assertEndpoint("GET /events", 1, () -> mvc.perform(get("/events")).andExpect(status().isOk()));
+        assertEndpoint("GET /events/paged", 1, () -> mvc.perform(get("/events/paged?page=0&size=5")).andExpect(status().isOk()));
+        assertEndpoint("GET /events/keyset", 1, () -> mvc.perform(get("/events/keyset?size=5")).andExpect(status().isOk()));
+        assertEndpoint("GET /events?ids=", 1, () -> mvc.perform(get("/events?ids=1,2,3,4,5")).andExpect(status().isOk()));
+        assertEndpoint("GET /events/{id}", 1, () -> mvc.perform(get("/events/1")).andExpect(status().isOk()));
+        assertEndpoint("GET /events/search", 1, () -> mvc.perform(get("/events/search?status=ACTIVE&size=5")).andExpect(status().isOk()));
+        assertEndpoint("GET /events/suggest", 0, () -> mvc.perform(get("/events/suggest?prefix=con")).andExpect(status().isOk()));
+        assertEndpoint("GET /venues", 1, () -> mvc.perform(get("/venues")).andExpect(status().isOk()));
+        assertEndpoint("GET /venues/{id}", 1, () -> mvc.perform(get("/venues/1")).andExpect(status().isOk()));
+        assertEndpoint("GET /venues/{id}/availability (bitmap en memoria + venue)", 1, () -> mvc.perform(get("/venues/1/availability")).andExpect(status().isOk()));
+        assertEndpoint("GET /venues/stats", 1, () -> mvc.perform(get("/venues/stats?from=2025-01-01&to=2025-12-31")).andExpect(status().isOk()));
+        assertEndpoint("GET /venues/by-name", 0, () -> mvc.perform(get("/venues/by-name?name=tea")).andExpect(status().isOk()));
+    }
+
+    // If-None-Match con el ETag vigente: 304 con la consulta de versión (recurso)
+    // o sin base de datos (listado completo)
+    @Test
+    void conditionalReadEndpoints() throws Exception {
+        for (String path : List.of("/events/1", "/events", "/venues/1", "/venues")) {
+            String etag = mvc.perform(get(path)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            int expected = path.endsWith("/1") ? 1 : 0;
+            assertEndpoint("GET " + path + " (If-None-Match)", expected, () -> mvc.perform(get(path)
+                    .header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isNotModified()));
+        }
+    }
+
+    @Test
+    void writeEndpoints() throws Exception {
+        // Cada evento en un día distinto: el venue no admite dos eventos activos el mismo día
+        assertEndpoint("POST /events", 1, () -> mvc.perform(post("/events")
+                .contentType(MediaType.APPLICATION_JSON).content(eventJson(10))).andExpect(status().isCreated()));
+        assertEndpoint("POST /events/bulk", 2, () -> mvc.perform(post("/events/bulk")
+                .contentType(MediaType.APPLICATION_JSON).content("[" + eventJson(11) + "," + eventJson(12) + "]"))
+                .andExpect(status().isOk()));
+
+        Long id = inTransaction(() -> eventRepository.save(newEvent("Budget PUT/DELETE", 1L, IN_A_MONTH)).getId());
+        assertEndpoint("PUT /events/{id}", 2, () -> mvc.perform(put("/events/" + id)
+                .contentType(MediaType.APPLICATION_JSON).content(eventJson(13))).andExpect(status().isOk()));
+
+        // PATCH: solo nombre = un UPDATE; fecha = proyección + UPDATE
+        String etag = mvc.perform(get("/events/" + id)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String renamed = mvc.perform(patch("/events/" + id).header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Budget PATCH\"}")).andReturn()
+                .getResponse().getHeader(HttpHeaders.ETAG);
+        assertEndpoint("PATCH /events/{id} (fecha)", 2, () -> mvc.perform(patch("/events/" + id)
+                .header(HttpHeaders.IF_MATCH, renamed).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"date\":\"" + LocalDate.now().plusDays(14) + "\"}")).andExpect(status().isNoContent()));
+        assertEndpoint("PATCH /events/{id} (versión vieja)", 2, () -> mvc.perform(patch("/events/" + id)
+                .header(HttpHeaders.IF_MATCH, renamed).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Budget stale\"}")).andExpect(status().isPreconditionFailed()));
+
+        assertEndpoint("DELETE /events/{id}", 1, () -> mvc.perform(delete("/events/" + id))
+                .andExpect(status().isNoContent()));
+        assertEndpoint("DELETE /events/{id} (404)", 1, () -> mvc.perform(delete("/events/" + id))
+                .andExpect(status().isNotFound()));
+
+        List<Long> ids = inTransaction(() -> eventRepository.saveAll(List.of(
+                newEvent("Budget bulk 1", 1L, IN_A_MONTH), newEvent("Budget bulk 2", 1L, IN_A_MONTH),
+                newEvent("Budget bulk 3", 1L, IN_A_MONTH))).stream().map(Event::getId).toList());
+        // IDs existentes + DELETE de esos; el repetido y el inexistente no se publican ni se borran
+        assertEndpoint("DELETE /events?ids=", 2, () -> mvc.perform(delete("/events?ids=" + ids.get(0) + ","
+                + ids.get(1) + "," + ids.get(2) + "," + ids.get(0) + ",999999")).andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(4)).andExpect(jsonPath("$.deleted").value(3)));
+
+        // Venue con eventos: DELETE de los eventos + DELETE del venue
+        Long venueId = inTransaction(() -> {
+            Venue venue = venueRepository.save(new Venue(null, "Budget venue", "Budget", 10));
+            Venue reference = new Venue();
+            reference.setId(venue.getId());
+            eventRepository.saveAll(List.of(new Event(null, "Budget v1", LocalDate.now(), reference),
+                    new Event(null, "Budget v2", LocalDate.now().plusDays(1), reference)));
+            return venue.getId();
+        });
+        assertEndpoint("DELETE /venues/{id} (con 2 eventos)", 2, () -> mvc.perform(delete("/venues/" + venueId))
+                .andExpect(status().isNoContent()));
+
+        // El merge de un venue borraba sus eventos (orphanRemoval): un DELETE de más rompe el presupuesto
+        assertEndpoint("PUT /venues/{id}", 2, () -> mvc.perform(put("/venues/3")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Auditorio Central\",\"location\":\"Calle Universitaria\",\"capacity\":600}"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void patchNameOnlyIsOneStatement() throws Exception {
+        Long id = inTransaction(() -> eventRepository.save(newEvent("Budget rename", 1L, IN_A_MONTH)).getId());
+        assertEndpoint("PATCH /events/{id} (solo nombre)", 1, () -> mvc.perform(patch("/events/" + id)
+                .header(HttpHeaders.IF_MATCH, "\"event-" + id + "-v0\"").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Budget renamed\"}")).andExpect(status().isNoContent()));
+    }
+
+    // Proyección de los afectados + un UPDATE/DELETE con el filtro. Además de
+    // las sentencias se comprueban las filas: los eventos del filtro cambian
+    // (y suben de versión) y los de fuera (otro venue, después de "to") no.
+    @Test
+    void filterBulkEndpoints() throws Exception {
+        Long venueId = inTransaction(() -> venueRepository.save(new Venue(null, "Budget filtro", "Budget", 10)).getId());
+        Long otherVenueId = inTransaction(() -> venueRepository.save(
+                new Venue(null, "Budget fuera del filtro", "Budget", 10)).getId());
+        // Días consecutivos: al correrlos un día cada evento toma el que deja el siguiente
+        mvc.perform(post("/events/bulk").contentType(MediaType.APPLICATION_JSON).content("["
+                + eventJson(40, venueId) + "," + eventJson(41, venueId) + "," + eventJson(42, venueId) + ","
+                + eventJson(50, venueId) + "," + eventJson(40, otherVenueId) + "," + eventJson(41, otherVenueId)
+                + "]"))
+                .andExpect(status().isOk());
+        LocalDate to = LocalDate.now().plusDays(45);
+        String filter = "?venueId=" + venueId + "&upcoming=true&to=" + to;
+
+        Map<Long, EventRow> before = eventRows(venueId, otherVenueId);
+        List<Long> targeted = before.entrySet().stream()
+                .filter(row -> row.getValue().venueId().equals(venueId) && !row.getValue().date().isAfter(to))
+                .map(Map.Entry::getKey)
+                .toList();
+        assertEquals(3, targeted.size());
+
+        assertEndpoint("POST /events/bulk-reschedule", 2, () -> mvc.perform(post("/events/bulk-reschedule"
+                + filter + "&days=1")).andExpect(status().isOk()).andExpect(jsonPath("$.affected").value(3)));
+        Map<Long, EventRow> expected = new HashMap<>(before);
+        targeted.forEach(id -> expected.computeIfPresent(id, (key, row) ->
+                new EventRow(row.venueId(), row.date().plusDays(1), row.status(), row.version() + 1)));
+        assertEquals(expected, eventRows(venueId, otherVenueId));
+
+        assertEndpoint("POST /events/bulk-cancel", 2, () -> mvc.perform(post("/events/bulk-cancel" + filter))
+                .andExpect(status().isOk()).andExpect(jsonPath("$.affected").value(3)));
+        targeted.forEach(id -> expected.computeIfPresent(id, (key, row) ->
+                new EventRow(row.venueId(), row.date(), "CANCELLED", row.version() + 1)));
+        assertEquals(expected, eventRows(venueId, otherVenueId));
+
+        assertEndpoint("DELETE /events/bulk-delete", 2, () -> mvc.perform(delete("/events/bulk-delete" + filter))
+                .andExpect(status().isOk()).andExpect(jsonPath("$.affected").value(3)));
+        targeted.forEach(expected::remove);
+        assertEquals(expected, eventRows(venueId, otherVenueId));
+        assertEquals(3, expected.size());
+    }
+
+    @Test
+    void bulkRescheduleLeavesUndatedEventsAlone() throws Exception {
+        Long venueId = inTransaction(() -> venueRepository.save(new Venue(null, "Budget sin fecha", "Budget", 10)).getId());
+        mvc.perform(post("/events/bulk").contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + eventJson(60, venueId) + "," + eventJson(61, venueId) + "]"))
+                .andExpect(status().isOk());
+        // Un evento sin fecha en el mismo venue (la columna admite NULL)
+        jdbc.update("UPDATE events SET date = NULL WHERE venue_id = ? AND date = ?", venueId,
+                LocalDate.now().plusDays(61));
+        Map<Long, EventRow> before = eventRows(venueId, venueId);
+        assertEquals(1, before.values().stream().filter(row -> row.date() == null).count());
+
+        assertEndpoint("POST /events/bulk-reschedule", 2, () -> mvc.perform(post("/events/bulk-reschedule?venueId="
+                + venueId + "&days=3")).andExpect(status().isOk()).andExpect(jsonPath("$.affected").value(1)));
+        Map<Long, EventRow> expected = new HashMap<>(before);
+        expected.replaceAll((id, row) -> row.date() == null ? row
+                : new EventRow(row.venueId(), row.date().plusDays(3), row.status(), row.version() + 1));
+        assertEquals(expected, eventRows(venueId, venueId));
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // SOPORTE
+    // ═══════════════════════════════════════════════════════════════════════
+
+    private void assertBudget(String label, int expected, Runnable action) {
+        assertStatements(label, expected, () -> inTransaction(() -> {
+            action.run();
+            return null;
+        }));
+    }
+
+    private void assertEndpoint(String label, int expected, MockMvcCall call) {
+        assertStatements(label, expected, () -> {
+            try {
+                call.perform();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static void assertStatements(String label, int expected, Runnable action) {
+        List<String> statements = RecordingStatementInspector.record(action);
+        assertEquals(expected, statements.size(),
+                () -> label + ": se esperaban " + expected + " sentencias SQL y se ejecutaron "
+                        + statements.size() + ":\n  " + String.join("\n  ", statements));
+    }
+
+    // Estado de los eventos de dos venues, por ID
+    private Map<Long, EventRow> eventRows(Long venueId, Long otherVenueId) {
+        Map<Long, EventRow> rows = new HashMap<>();
+        jdbc.query("SELECT id, venue_id, date, status, version FROM events WHERE venue_id IN (?, ?)",
+                (ResultSet rs) -> {
+                    rows.put(rs.getLong("id"), new EventRow(rs.getLong("venue_id"),
+                            rs.getObject("date", LocalDate.class), rs.getString("status"), rs.getLong("version")));
+                }, venueId, otherVenueId);
+        return rows;
+    }
+
+    private <T> T inTransaction(java.util.function.Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private static String eventJson(int daysAhead) {
+        return eventJson(daysAhead, 1L);
+    }
+
+    private static String eventJson(int daysAhead, Long venueId) {
+        return "{\"name\":\"Budget REST\",\"date\":\"" + LocalDate.now().plusDays(daysAhead)
+                + "\",\"status\":\"ACTIVE\",\"venueId\":" + venueId + "}";
+    }
+
+    @FunctionalInterface
+    private interface MockMvcCall {
+        void perform() throws Exception;
+    }
+
+    private record EventRow(Long venueId, LocalDate date, String status, long version) {
+    }
+
+    /**
+     * StatementInspector que, además de delegar en el inspector de la
+     * aplicación (métricas), guarda el SQL del hilo actual mientras se graba.
+     */
+    static class RecordingStatementInspector implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> RECORDING = new ThreadLocal<>();
+
+        private final StatementInspector delegate;
+
+        RecordingStatementInspector(StatementInspector delegate) {
+            this.delegate = delegate;
+        }
+
+        static List<String> record(Runnable action) {
+            List<String> statements = new ArrayList<>();
+            RECORDING.set(statements);
+            try {
+                action.run();
+            } finally {
+                RECORDING.remove();
+            }
+            return statements;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = RECORDING.get();
+            if (statements != null && !sql.toLowerCase().contains("next value for")) {
+                statements.add(sql);
+            }
+            return delegate.inspect(sql);
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingConfig {
+
+        // Se aplica después de MetricsConfig y envuelve su StatementInspector
+        @Bean
+        @Order(Ordered.LOWEST_PRECEDENCE)
+        HibernatePropertiesCustomizer recordingStatementInspector() {
+            return properties -> {
+                Object current = properties.get(AvailableSettings.STATEMENT_INSPECTOR);
+                if (!(current instanceof StatementInspector inspector)) {
+                    throw new IllegalStateException("No hay StatementInspector registrado para envolver");
+                }
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR, new RecordingStatementInspector(inspector));
+            };
+        }
+    }
+}
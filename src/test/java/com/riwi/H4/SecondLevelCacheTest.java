@@ -0,0 +1,137 @@
+package com.riwi.H4;
+
+import com.riwi.H4.application.port.in.EventUseCase;
+import com.riwi.H4.application.port.in.VenueUseCase;
+import com.riwi.H4.domain.exception.NotFoundException;
+import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventPatch;
+import com.riwi.H4.domain.model.EventSearchCriteria;
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.Venue;
+import com.riwi.H4.infrastructure.entity.VenueEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static com.riwi.H4.support.TestEvents.newEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Caché de segundo nivel de Hibernate: una lectura repetida de eventos no va
+ * a la base de datos, y cada escritura de los services (por entidad,
+ * UPDATE/DELETE masivos, borrado de venues) invalida lo que corresponde.
+ *
+ * La caché de venues (Caffeine) y la agrupación de findById se desactivan
+ * para que cada lectura de los services pase por Hibernate: así se ve que los
+ * venues no tienen una segunda caché debajo.
+ */
+@SpringBootTest(properties = {
+        "app.cache.venues.enabled=false",
+        "app.events.coalescing.enabled=false"
+})
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EventUseCase events;
+
+    @Autowired
+    private VenueUseCase venues;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void venuesAreNotInTheSecondLevelCache() {
+        Venue venue = venues.create(new Venue(null, "L2 venue", "Centro", 100));
+        venues.findById(venue.getId());
+
+        assertFalse(entityManagerFactory.getCache().contains(VenueEntity.class, venue.getId()));
+        long before = statistics.getPrepareStatementCount();
+        venues.findById(venue.getId());
+        assertTrue(statistics.getPrepareStatementCount() > before, "findById repetido debe ir a la base de datos");
+
+        venues.update(venue.getId(), new Venue(null, "L2 venue renombrado", "Norte", 150));
+        Venue updated = venues.findById(venue.getId());
+        assertEquals("L2 venue renombrado", updated.getName());
+        assertEquals(Integer.valueOf(150), updated.getCapacity());
+
+        venues.delete(venue.getId());
+        assertThrows(NotFoundException.class, () -> venues.findById(venue.getId()));
+    }
+
+    @Test
+    void statusQueryIsNotCachedAndSeesBulkWrites() {
+        Venue venue = venues.create(new Venue(null, "L2 eventos", "Sur", 50));
+        Long id = events.create(newEvent("L2 concierto", venue.getId(), 3)).getId();
+
+        // Sin caché de consultas: cada entrada sería el estado completo del catálogo
+        assertTrue(names(EventStatus.ACTIVE).contains("L2 concierto"));
+        long before = statistics.getPrepareStatementCount();
+        names(EventStatus.ACTIVE);
+        assertTrue(statistics.getPrepareStatementCount() > before, "findByStatus repetido debe ir a la base de datos");
+        assertEquals(0, statistics.getQueryCachePutCount());
+
+        // PATCH: un UPDATE masivo (Criteria), sin entidad en el contexto de persistencia
+        events.patch(id, events.findVersion(id), new EventPatch("L2 renombrado", null, null, null));
+        assertTrue(names(EventStatus.ACTIVE).contains("L2 renombrado"));
+        assertFalse(names(EventStatus.ACTIVE).contains("L2 concierto"));
+        assertEquals("L2 renombrado", events.findById(id).getName());
+
+        // Operación por filtro: UPDATE masivo del estado
+        events.cancelMatching(new EventSearchCriteria(venue.getId(), null, null, null, null, false));
+        assertFalse(names(EventStatus.ACTIVE).contains("L2 renombrado"));
+        assertTrue(names(EventStatus.CANCELLED).contains("L2 renombrado"));
+        assertEquals(EventStatus.CANCELLED, events.findById(id).getStatus());
+
+        // Borrado del venue: DELETE de sus eventos y del venue
+        venues.delete(venue.getId());
+        assertFalse(names(EventStatus.CANCELLED).contains("L2 renombrado"));
+        assertThrows(NotFoundException.class, () -> events.findById(id));
+    }
+
+    @Test
+    void findAllIsNotCachedAndSeesEntityWrites() {
+        Venue venue = venues.create(new Venue(null, "L2 listado", "Este", 80));
+        allNames();
+        long before = statistics.getPrepareStatementCount();
+        allNames();
+        assertTrue(statistics.getPrepareStatementCount() > before, "findAll repetido debe ir a la base de datos");
+
+        Long id = events.create(newEvent("L2 listado nuevo", venue.getId(), 4)).getId();
+        assertTrue(allNames().contains("L2 listado nuevo"));
+
+        events.update(id, newEvent("L2 listado editado", venue.getId(), 4));
+        assertTrue(allNames().contains("L2 listado editado"));
+        assertFalse(allNames().contains("L2 listado nuevo"));
+
+        events.delete(id);
+        assertFalse(allNames().contains("L2 listado editado"));
+        venues.delete(venue.getId());
+    }
+
+    private List<String> names(EventStatus status) {
+        return events.findByStatus(status).stream().map(Event::getName).toList();
+    }
+
+    private List<String> allNames() {
+        return events.findAll().stream().map(Event::getName).toList();
+    }
+}
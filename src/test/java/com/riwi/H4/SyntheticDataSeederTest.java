@@ -0,0 +1,86 @@
+package com.riwi.H4;
+
+import com.riwi.H4.infrastructure.config.SyntheticDataGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Datos sintéticos sobre un servidor real: con app.seed.synthetic.enabled se
+ * generan antes de que el servidor arranque (ServerStart cuenta los eventos
+ * en WebServerInitializedEvent), y con el servidor ya arrancado generate()
+ * se rechaza sin tocar la base de datos.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.seed.synthetic.enabled=true",
+        "app.seed.synthetic.venues=20",
+        "app.seed.synthetic.events-per-venue=50"
+})
+@ActiveProfiles("test")
+class SyntheticDataSeederTest {
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ServerStart serverStart;
+
+    @Test
+    void generatesBeforeTheServerStarts() {
+        Long atStart = serverStart.events;
+        assertNotNull(atStart, "el servidor no arrancó");
+        assertTrue(atStart >= 20 * 50, "eventos al arrancar el servidor: " + atStart);
+        assertEquals(atStart, events());
+    }
+
+    @Test
+    void refusesToGenerateWhileServing() {
+        long before = events();
+        assertThrows(IllegalStateException.class,
+                () -> generator.generate(new SyntheticDataGenerator.Settings(5, 10, 30, 0.1, 7)));
+        assertEquals(before, events());
+    }
+
+    private long events() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM events", Long.class);
+    }
+
+    @TestConfiguration
+    static class ServerStartConfig {
+
+        @Bean
+        ServerStart serverStart(JdbcTemplate jdbc) {
+            return new ServerStart(jdbc);
+        }
+    }
+
+    /** Cuenta los eventos en el momento en que el servidor web arranca. */
+    static class ServerStart {
+
+        private final JdbcTemplate jdbc;
+        private volatile Long events;
+
+        ServerStart(JdbcTemplate jdbc) {
+            this.jdbc = jdbc;
+        }
+
+        @EventListener
+        public void onStart(WebServerInitializedEvent event) {
+            events = jdbc.queryForObject("SELECT COUNT(*) FROM events", Long.class);
+        }
+    }
+}
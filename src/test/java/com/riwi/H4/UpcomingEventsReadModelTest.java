@@ -0,0 +1,121 @@
+package com.riwi.H4;
+
+import com.riwi.H4.application.port.in.CatalogReadUseCase;
+import com.riwi.H4.application.port.in.EventUseCase;
+import com.riwi.H4.application.port.in.VenueUseCase;
+import com.riwi.H4.domain.exception.ConflictException;
+import com.riwi.H4.domain.model.EventPatch;
+import com.riwi.H4.domain.model.EventSearchCriteria;
+import com.riwi.H4.domain.model.UpcomingEvent;
+import com.riwi.H4.domain.model.Venue;
+import com.riwi.H4.infrastructure.search.UpcomingEventsReadModel;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.riwi.H4.support.TestEvents.newEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Read model de próximos eventos: se sirve sin ir a la base de datos y refleja
+ * cada escritura confirmada de los services (y ninguna revertida).
+ *
+ * Cada prueba usa su propio venue y fechas lejanas para no depender de los
+ * datos de ejemplo.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UpcomingEventsReadModelTest {
+
+    @Autowired
+    private CatalogReadUseCase catalog;
+
+    @Autowired
+    private EventUseCase events;
+
+    @Autowired
+    private VenueUseCase venues;
+
+    @Autowired
+    private UpcomingEventsReadModel readModel;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void followsCommittedWrites() {
+        LocalDate from = LocalDate.now().plusYears(8);
+        Venue venue = venues.create(new Venue(null, "RM sala", "Centro", 100));
+        Long late = events.create(newEvent("RM tarde", venue.getId(), from.plusDays(5))).getId();
+        Long early = events.create(newEvent("RM temprano", venue.getId(), from.plusDays(1))).getId();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long before = statistics.getPrepareStatementCount();
+        List<UpcomingEvent> upcoming = upcoming(venue, from);
+        assertEquals(before, statistics.getPrepareStatementCount(), "findUpcoming no debe ir a la base de datos");
+        assertEquals(List.of(early, late), ids(upcoming));
+        assertEquals("RM sala", upcoming.get(0).getVenueName());
+
+        // Un choque de día revierte la transacción: el evento no llega al modelo
+        assertThrows(ConflictException.class,
+                () -> events.create(newEvent("RM choque", venue.getId(), from.plusDays(1))));
+        assertEquals(List.of(early, late), ids(upcoming(venue, from)));
+
+        events.patch(late, events.findVersion(late), new EventPatch("RM renombrado", null, null, null));
+        venues.update(venue.getId(), new Venue(null, "RM sala nueva", "Centro", 100));
+        upcoming = upcoming(venue, from);
+        assertEquals("RM renombrado", upcoming.get(1).getName());
+        assertTrue(upcoming.stream().allMatch(event -> "RM sala nueva".equals(event.getVenueName())));
+
+        // Reprogramar en bloque: el temprano pasa a ser el último
+        events.rescheduleMatching(new EventSearchCriteria(venue.getId(), null, from, from.plusDays(1), null, false),
+                10);
+        assertEquals(List.of(late, early), ids(upcoming(venue, from)));
+
+        events.cancelMatching(new EventSearchCriteria(venue.getId(), null, null, from.plusDays(5), null, false));
+        assertEquals(List.of(early), ids(upcoming(venue, from)));
+
+        venues.delete(venue.getId());
+        assertTrue(upcoming(venue, from).isEmpty());
+    }
+
+    @Test
+    void rollOverDropsPastDays() {
+        LocalDate day = LocalDate.now().plusYears(9);
+        Venue venue = venues.create(new Venue(null, "RM medianoche", "Norte", 50));
+        Long id = events.create(newEvent("RM hoy", venue.getId(), day)).getId();
+        Long next = events.create(newEvent("RM mañana", venue.getId(), day.plusDays(1))).getId();
+        int size = readModel.size();
+
+        try {
+            assertEquals(List.of(id, next), ids(upcoming(venue, day)));
+            assertTrue(readModel.rollOver(day.plusDays(1)) > 0);
+            assertEquals(List.of(next), ids(upcoming(venue, day)));
+        } finally {
+            // El cambio de día simulado descartó también los demás eventos anteriores
+            readModel.warmUp();
+        }
+        assertEquals(size, readModel.size());
+        venues.delete(venue.getId());
+    }
+
+    private List<UpcomingEvent> upcoming(Venue venue, LocalDate from) {
+        return catalog.findUpcoming(from, 1_000).stream()
+                .filter(event -> venue.getId().equals(event.getVenueId()))
+                .toList();
+    }
+
+    private static List<Long> ids(List<UpcomingEvent> events) {
+        return events.stream().map(UpcomingEvent::getId).toList();
+    }
+
+}
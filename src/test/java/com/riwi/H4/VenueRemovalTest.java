@@ -0,0 +1,251 @@
+package com.riwi.H4;
+
+import com.jayway.jsonpath.JsonPath;
+import com.riwi.H4.application.port.in.EventUseCase;
+import com.riwi.H4.application.port.in.VenueUseCase;
+import com.riwi.H4.domain.model.EventChange;
+import com.riwi.H4.domain.model.Venue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.riwi.H4.support.TestEvents.newEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Eliminación por lotes (POST /venues/{id}/removal) de punta a punta: lotes
+ * con y sin archivo, estados del progreso, y un evento creado en el venue
+ * mientras un lote está abierto (la FK rechaza borrar el venue y el lote se
+ * repite).
+ *
+ * Para ver el estado intermedio, PausedRemoval detiene el hilo de la
+ * eliminación dentro del primer lote (al publicar el primer DELETED, antes
+ * del commit).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class VenueRemovalTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusYears(7);
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private EventUseCase events;
+
+    @Autowired
+    private VenueUseCase venues;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private PausedRemoval pause;
+
+    @AfterEach
+    void release() {
+        pause.release();
+    }
+
+    @Test
+    void removesVenueAndEventsInChunksWithoutArchiving() throws Exception {
+        Long venueId = venueWithEvents("Lotes sin archivo", 7);
+
+        String removalId = start(venueId, false, 3);
+        String body = awaitFinished(removalId);
+
+        // 3 + 3 + 1: el lote incompleto es el último y borra también el venue
+        assertEquals("COMPLETED", JsonPath.read(body, "$.status"));
+        assertEquals(7, ((Number) JsonPath.read(body, "$.totalEvents")).intValue());
+        assertEquals(7, ((Number) JsonPath.read(body, "$.deletedEvents")).intValue());
+        assertEquals(0, ((Number) JsonPath.read(body, "$.archivedEvents")).intValue());
+        assertEquals(3, (int) JsonPath.read(body, "$.chunks"));
+        assertTrue(JsonPath.read(body, "$.finishedAt") != null);
+        assertGone(venueId);
+        assertEquals(0, archived(venueId));
+    }
+
+    @Test
+    void archivesEveryEventBeforeDeletingIt() throws Exception {
+        Long venueId = venueWithEvents("Lotes con archivo", 6);
+        List<Long> eventIds = jdbc.queryForList("SELECT id FROM events WHERE venue_id = ? ORDER BY id", Long.class,
+                venueId);
+
+        String removalId = start(venueId, true, 3);
+        String body = awaitFinished(removalId);
+
+        // 3 + 3 + un lote vacío que comprueba que no quedan eventos
+        assertEquals("COMPLETED", JsonPath.read(body, "$.status"));
+        assertEquals(6, ((Number) JsonPath.read(body, "$.deletedEvents")).intValue());
+        assertEquals(6, ((Number) JsonPath.read(body, "$.archivedEvents")).intValue());
+        assertEquals(3, (int) JsonPath.read(body, "$.chunks"));
+        assertGone(venueId);
+        assertEquals(eventIds, jdbc.queryForList("SELECT id FROM events_archive WHERE venue_id = ? ORDER BY id",
+                Long.class, venueId));
+    }
+
+    @Test
+    void reportsProgressStatesAndRetriesWhenAnEventArrivesDuringTheLastChunk() throws Exception {
+        Long venueId = venueWithEvents("Lotes en curso", 3);
+        Long queuedVenueId = venueWithEvents("Lotes en cola", 1);
+        pause.arm();
+
+        String removalId = start(venueId, false, 5);
+        pause.awaitPaused();
+
+        // Primer lote abierto: en curso, nada confirmado todavía
+        mvc.perform(get("/venues/removals/" + removalId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.finished").value(false))
+                .andExpect(jsonPath("$.totalEvents").value(3))
+                .andExpect(jsonPath("$.deletedEvents").value(0))
+                .andExpect(jsonPath("$.chunks").value(0));
+        // Otra eliminación del mismo venue devuelve la que está en curso
+        mvc.perform(post("/venues/" + venueId + "/removal"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(removalId));
+        // La de otro venue espera al hilo de eliminación
+        String queuedId = start(queuedVenueId, false, 5);
+        mvc.perform(get("/venues/removals/" + queuedId))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.finished").value(false));
+
+        // Un evento nuevo en el venue mientras el lote (que será el último) sigue abierto
+        Long lateEventId = events.create(newEvent("Lotes tardío", venueId, DAY.plusDays(100))).getId();
+        pause.release();
+
+        String body = awaitFinished(removalId);
+        assertEquals("COMPLETED", JsonPath.read(body, "$.status"));
+        assertEquals(4, ((Number) JsonPath.read(body, "$.deletedEvents")).intValue());
+        assertEquals(1, (int) JsonPath.read(body, "$.chunks"));
+        assertGone(venueId);
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM events WHERE id = ?", Integer.class, lateEventId));
+
+        assertEquals("COMPLETED", JsonPath.read(awaitFinished(queuedId), "$.status"));
+        assertGone(queuedVenueId);
+    }
+
+    @Test
+    void rejectsUnknownVenuesAndChunkSizesOutOfRange() throws Exception {
+        Long venueId = venueWithEvents("Lotes inválidos", 1);
+        mvc.perform(post("/venues/" + venueId + "/removal").param("chunkSize", "0"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(post("/venues/" + venueId + "/removal").param("chunkSize", "10001"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(post("/venues/999999999/removal")).andExpect(status().isNotFound());
+        mvc.perform(get("/venues/removals/desconocida")).andExpect(status().isNotFound());
+        venues.delete(venueId);
+    }
+
+    private Long venueWithEvents(String name, int count) {
+        Long venueId = venues.create(new Venue(null, name, "Centro", 10)).getId();
+        for (int i = 0; i < count; i++) {
+            events.create(newEvent(name + " " + i, venueId, DAY.plusDays(i)));
+        }
+        return venueId;
+    }
+
+    private String start(Long venueId, boolean archive, int chunkSize) throws Exception {
+        String body = mvc.perform(post("/venues/" + venueId + "/removal")
+                        .param("archive", String.valueOf(archive))
+                        .param("chunkSize", String.valueOf(chunkSize)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.venueId").value(venueId))
+                .andExpect(jsonPath("$.archive").value(archive))
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.id");
+    }
+
+    private String awaitFinished(String removalId) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (System.nanoTime() < deadline) {
+            String body = mvc.perform(get("/venues/removals/" + removalId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            if (JsonPath.<Boolean>read(body, "$.finished")) {
+                return body;
+            }
+            Thread.sleep(20);
+        }
+        return fail("La eliminación " + removalId + " no terminó");
+    }
+
+    private void assertGone(Long venueId) throws Exception {
+        mvc.perform(get("/venues/" + venueId)).andExpect(status().isNotFound());
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM events WHERE venue_id = ?", Integer.class, venueId));
+    }
+
+    private int archived(Long venueId) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM events_archive WHERE venue_id = ?", Integer.class, venueId);
+    }
+
+    @TestConfiguration
+    static class PauseConfig {
+
+        @Bean
+        PausedRemoval pausedRemoval() {
+            return new PausedRemoval();
+        }
+    }
+
+    /**
+     * Detiene una vez el hilo "venue-removal" en el primer DELETED que publica
+     * (dentro del lote, antes del commit) hasta release().
+     */
+    static class PausedRemoval {
+
+        private final AtomicReference<CountDownLatch> gate = new AtomicReference<>();
+        private final CountDownLatch paused = new CountDownLatch(1);
+        private volatile CountDownLatch resume = new CountDownLatch(0);
+
+        void arm() {
+            resume = new CountDownLatch(1);
+            gate.set(resume);
+        }
+
+        void awaitPaused() throws InterruptedException {
+            assertTrue(paused.await(10, TimeUnit.SECONDS), "el lote no llegó a publicar");
+        }
+
+        void release() {
+            resume.countDown();
+        }
+
+        @EventListener
+        public void onChange(EventChange change) throws InterruptedException {
+            if (!Thread.currentThread().getName().equals("venue-removal")) {
+                return;
+            }
+            CountDownLatch latch = gate.getAndSet(null);
+            if (latch != null) {
+                paused.countDown();
+                latch.await(30, TimeUnit.SECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.riwi.H4.benchmark;
+
+import com.riwi.H4.application.port.in.EventUseCase;
+import com.riwi.H4.domain.model.BulkResult;
+import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.Venue;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara filas/segundo entre la creación uno a uno (POST /events, una
+ * transacción por evento) y la carga masiva (POST /events/bulk, batches JDBC).
+ *
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=EventBulkIngestBenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class EventBulkIngestBenchmark {
+
+    private static final int ROWS = 5_000;
+    private static final int WARMUP_ROWS = 500;
+
+    @Autowired
+    private EventUseCase eventUseCase;
+
+    @Test
+    void bulkIngestVersusOneAtATime() {
+        // Calentamiento del JIT y del pool de conexiones en ambos caminos
+        oneAtATime(events(WARMUP_ROWS));
+        eventUseCase.createAll(events(WARMUP_ROWS));
+
+        long start = System.nanoTime();
+        oneAtATime(events(ROWS));
+        double singleSeconds = (System.nanoTime() - start) / 1e9;
+
+        start = System.nanoTime();
+        BulkResult result = eventUseCase.createAll(events(ROWS));
+        double bulkSeconds = (System.nanoTime() - start) / 1e9;
+
+        assertEquals(ROWS, result.getCreated());
+
+        System.out.printf("%n[bulk-ingest] %d filas%n", ROWS);
+        System.out.printf("[bulk-ingest] uno a uno : %8.0f filas/s (%.2f s)%n", ROWS / singleSeconds, singleSeconds);
+        System.out.printf("[bulk-ingest] bulk      : %8.0f filas/s (%.2f s)%n", ROWS / bulkSeconds, bulkSeconds);
+        System.out.printf("[bulk-ingest] speedup   : %.1fx%n", singleSeconds / bulkSeconds);
+    }
+
+    private void oneAtATime(List<Event> events) {
+        events.forEach(eventUseCase::create);
+    }
+
+    private List<Event> events(int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Venue venue = new Venue();
+            venue.setId((long) (i % 4) + 1); // venues de V3__data_seed.sql
+            events.add(new Event(null, "Benchmark " + i, LocalDate.now().plusDays(1 + i % 365), venue));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,173 @@
+package com.riwi.H4.benchmark;
+
+import com.riwi.H4.application.port.out.EventRepositoryPort;
+import com.riwi.H4.infrastructure.adapter.CoalescingEventRepositoryAdapter;
+import com.riwi.H4.infrastructure.adapter.EventJpaAdapter;
+import com.riwi.H4.infrastructure.config.SyntheticDataGenerator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * Búsqueda de eventos por ID bajo carga concurrente:
+ *
+ * - findById directo (EventJpaAdapter): una transacción y una consulta por
+ *   búsqueda.
+ * - findById agrupado (CoalescingEventRepositoryAdapter): las búsquedas que
+ *   llegan mientras otra carga está en curso comparten una consulta IN.
+ * - findById sin concurrencia, directo vs agrupado: una búsqueda aislada no
+ *   debe pagar la ventana.
+ * - 50 IDs conocidos: 50 findById seguidos contra un findAllById (GET /events?ids=).
+ *
+ * Reporta búsquedas por segundo, p50 / p99 y sentencias SQL por búsqueda.
+ *
+ * Ejecutar: mvn test -Pbenchmark -Dtest=EventLookupBenchmark
+ *   -Dbench.threads=32 -Dbench.duration-seconds=5 -Dbench.events=100000
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "app.events.coalescing.enabled=true"
+})
+@ActiveProfiles("test")
+class EventLookupBenchmark {
+
+    private static final int VENUES = Integer.getInteger("bench.venues", 100);
+    private static final int EVENTS = Integer.getInteger("bench.events", 100_000);
+    private static final int THREADS = Integer.getInteger("bench.threads", 32);
+    private static final int WARMUP_SECONDS = Integer.getInteger("bench.warmup-seconds", 2);
+    private static final int DURATION_SECONDS = Integer.getInteger("bench.duration-seconds", 5);
+    private static final int MULTI_ID_SIZE = 50;
+    private static final int MULTI_ID_ITERATIONS = 200;
+
+    @Autowired
+    private EventRepositoryPort coalescing;
+
+    @Autowired
+    private EventJpaAdapter direct;
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private long firstEventId;
+    private long eventCount;
+
+    @BeforeAll
+    void loadData() {
+        assertInstanceOf(CoalescingEventRepositoryAdapter.class, coalescing);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        SyntheticDataGenerator.Result dataset = generator.generate(
+                new SyntheticDataGenerator.Settings(VENUES, EVENTS / VENUES, 730, 0.1, 42));
+        firstEventId = dataset.firstEventId();
+        eventCount = dataset.events();
+        System.out.printf("[lookup] dataset: %,d eventos; %d hilos, %d s por escenario%n",
+                eventCount, THREADS, DURATION_SECONDS);
+    }
+
+    @Test
+    void concurrentFindById() throws InterruptedException {
+        run("findById directo (1 consulta c/u)", id -> direct.findById(id));
+        run("findById agrupado (ventana + IN)", id -> coalescing.findById(id));
+    }
+
+    @Test
+    void isolatedFindById() {
+        measureSequential("findById directo, sin concurrencia", () -> direct.findById(randomId()));
+        measureSequential("findById agrupado, sin concurrencia", () -> coalescing.findById(randomId()));
+    }
+
+    @Test
+    void fiftyKnownIds() {
+        List<Long> ids = LongStream.range(0, MULTI_ID_SIZE).map(i -> randomId()).boxed().toList();
+        measureSequential("50 × findById", () -> ids.forEach(direct::findById));
+        measureSequential("findAllById(50) (IN con padding)", () -> direct.findAllById(ids));
+    }
+
+    private void run(String label, LongConsumer lookup) throws InterruptedException {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+
+        ExecutorService threads = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            threads.submit(() -> {
+                List<Long> local = new ArrayList<>();
+                while (System.nanoTime() < end) {
+                    long start = System.nanoTime();
+                    lookup.accept(randomId());
+                    if (start > warmupEnd) {
+                        local.add(System.nanoTime() - start);
+                    }
+                }
+                latencies.addAll(local);
+            });
+        }
+        // Las sentencias se cuentan solo durante la medición
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(warmupEnd - System.nanoTime()));
+        long before = statistics.getPrepareStatementCount();
+        threads.shutdown();
+        threads.awaitTermination(WARMUP_SECONDS + DURATION_SECONDS + 60, TimeUnit.SECONDS);
+        long statements = statistics.getPrepareStatementCount() - before;
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("[lookup] %-36s %,10.0f búsquedas/s  p50 %7.3f ms  p99 %7.3f ms  SQL/búsqueda %.3f%n",
+                label, sorted.size() / (double) DURATION_SECONDS, percentile(sorted, 50), percentile(sorted, 99),
+                statements / (double) Math.max(1, sorted.size()));
+    }
+
+    private void measureSequential(String label, Runnable action) {
+        for (int i = 0; i < MULTI_ID_ITERATIONS / 10; i++) {
+            action.run();
+        }
+        List<Long> latencies = new ArrayList<>();
+        long before = statistics.getPrepareStatementCount();
+        for (int i = 0; i < MULTI_ID_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            action.run();
+            latencies.add(System.nanoTime() - start);
+        }
+        long statements = statistics.getPrepareStatementCount() - before;
+        Collections.sort(latencies);
+        System.out.printf("[lookup] %-36s p50 %7.3f ms  p99 %7.3f ms  SQL/operación %.1f%n",
+                label, percentile(latencies, 50), percentile(latencies, 99),
+                statements / (double) MULTI_ID_ITERATIONS);
+    }
+
+    private long randomId() {
+        return firstEventId + ThreadLocalRandom.current().nextLong(eventCount);
+    }
+
+    private static double percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1e6;
+    }
+}
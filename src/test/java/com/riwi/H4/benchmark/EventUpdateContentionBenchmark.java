@@ -0,0 +1,162 @@
+package com.riwi.H4.benchmark;
+
+import com.riwi.H4.application.port.in.EventUseCase;
+import com.riwi.H4.domain.exception.PreconditionFailedException;
+import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventPatch;
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.Venue;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Actualizaciones concurrentes del MISMO evento:
+ *
+ * - PUT (update): carga el evento con su venue, copia los campos y hace merge;
+ *   @DynamicUpdate escribe solo el nombre. Dos escrituras que leyeron la misma
+ *   versión chocan al commit (bloqueo optimista → 409) y se reintentan.
+ * - PATCH (patch): un UPDATE ... WHERE version = ? sin lectura previa. Si
+ *   otra escritura ganó, responde 412; el cliente relee solo la versión
+ *   (findVersion) y reintenta.
+ *
+ * Cada escenario corre con 1 hilo (sin contención) y con bench.threads hilos.
+ * Reporta actualizaciones confirmadas por segundo, conflictos y sentencias SQL
+ * por actualización confirmada (incluye los intentos fallidos y las relecturas).
+ *
+ * Ejecutar: mvn test -Pbenchmark -Dtest=EventUpdateContentionBenchmark
+ *   -Dbench.threads=16 -Dbench.duration-seconds=5
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "logging.level.org.hibernate.engine.jdbc.batch.internal.BatchingBatch=OFF"
+})
+@ActiveProfiles("test")
+class EventUpdateContentionBenchmark {
+
+    private static final int THREADS = Integer.getInteger("bench.threads", 16);
+    private static final int WARMUP_SECONDS = Integer.getInteger("bench.warmup-seconds", 2);
+    private static final int DURATION_SECONDS = Integer.getInteger("bench.duration-seconds", 5);
+
+    @Autowired
+    private EventUseCase events;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private int nextDay;
+
+    @BeforeAll
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void sameEventUnderContention() throws Exception {
+        for (int threads : new int[] { 1, THREADS }) {
+            run("PUT (carga + merge)", threads, this::putLoop);
+            run("PATCH (UPDATE con versión)", threads, this::patchLoop);
+        }
+    }
+
+    // Como un cliente que envía PUT sin If-Match: el conflicto aparece al commit
+    private int[] putLoop(Event event, long end) {
+        int updated = 0;
+        int conflicts = 0;
+        while (System.nanoTime() < end) {
+            Event changes = new Event(null, "PUT " + System.nanoTime(), event.getDate(), EventStatus.ACTIVE, venue(1L));
+            try {
+                events.update(event.getId(), changes);
+                updated++;
+            } catch (OptimisticLockingFailureException e) {
+                conflicts++;
+            }
+        }
+        return new int[] { updated, conflicts };
+    }
+
+    // Como un cliente que envía PATCH con If-Match y, ante un 412, relee el ETag
+    private int[] patchLoop(Event event, long end) {
+        Long id = event.getId();
+        int updated = 0;
+        int conflicts = 0;
+        Long version = events.findVersion(id);
+        while (System.nanoTime() < end) {
+            try {
+                version = events.patch(id, version, new EventPatch("PATCH " + System.nanoTime(), null, null, null));
+                updated++;
+            } catch (PreconditionFailedException e) {
+                conflicts++;
+                version = events.findVersion(id);
+            }
+        }
+        return new int[] { updated, conflicts };
+    }
+
+    private void run(String label, int threads, UpdateLoop loop) throws Exception {
+        // Un evento nuevo por escenario, en un día libre del venue
+        Event created = events.create(new Event(null, "Contention", LocalDate.now().plusYears(5).plusDays(nextDay++),
+                EventStatus.ACTIVE, venue(1L)));
+
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        runAll(pool, threads, () -> loop.run(created, warmupEnd));
+
+        long before = statistics.getPrepareStatementCount();
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+        int[] totals = runAll(pool, threads, () -> loop.run(created, end));
+        long statements = statistics.getPrepareStatementCount() - before;
+        pool.shutdown();
+
+        System.out.printf("[contention] %-28s %2d hilos  %,9.0f actualizaciones/s  conflictos %,7d (%4.1f%%)  SQL/actualización %.2f%n",
+                label, threads, totals[0] / (double) DURATION_SECONDS, totals[1],
+                100.0 * totals[1] / Math.max(1, totals[0] + totals[1]),
+                statements / (double) Math.max(1, totals[0]));
+    }
+
+    private static int[] runAll(ExecutorService pool, int threads, java.util.concurrent.Callable<int[]> task)
+            throws Exception {
+        List<Future<int[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(task));
+        }
+        int[] totals = new int[2];
+        for (Future<int[]> future : futures) {
+            int[] result = future.get(WARMUP_SECONDS + DURATION_SECONDS + 60L, TimeUnit.SECONDS);
+            totals[0] += result[0];
+            totals[1] += result[1];
+        }
+        return totals;
+    }
+
+    private static Venue venue(Long id) {
+        Venue venue = new Venue();
+        venue.setId(id);
+        return venue;
+    }
+
+    @FunctionalInterface
+    private interface UpdateLoop {
+        int[] run(Event event, long end);
+    }
+}
@@ -0,0 +1,104 @@
+package com.riwi.H4.benchmark;
+
+import com.riwi.H4.application.port.in.CatalogReadUseCase;
+import com.riwi.H4.application.port.in.EventUseCase;
+import com.riwi.H4.application.port.in.VenueUseCase;
+import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.Venue;
+import com.riwi.H4.infrastructure.mapper.EventDTOMapper;
+import com.riwi.H4.infrastructure.mapper.VenueDTOMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Compara los listados GET /events y GET /venues por el camino anterior
+ * (Entity → Domain → DTO) contra las proyecciones de CatalogReadUseCase.
+ * Reporta operaciones/segundo y bytes asignados por operación.
+ *
+ * Ejecutar con: mvn test -Pbenchmark -Dtest=ListReadPathBenchmark
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest
+@ActiveProfiles("test")
+class ListReadPathBenchmark {
+
+    private static final int EVENTS = 20_000;
+    private static final int VENUES = 2_000;
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 30;
+
+    @Autowired
+    private EventUseCase eventUseCase;
+
+    @Autowired
+    private VenueUseCase venueUseCase;
+
+    @Autowired
+    private CatalogReadUseCase catalogReadUseCase;
+
+    @Autowired
+    private EventDTOMapper eventDTOMapper;
+
+    @Autowired
+    private VenueDTOMapper venueDTOMapper;
+
+    @BeforeAll
+    void loadData() {
+        for (int i = 0; i < VENUES; i++) {
+            venueUseCase.create(new Venue(null, "Venue " + i, "Calle " + i, 100 + i));
+        }
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            Venue venue = new Venue();
+            venue.setId((long) (i % 4) + 1);
+            events.add(new Event(null, "Evento " + i, LocalDate.now().plusDays(1 + i % 365), venue));
+            if (events.size() == 10_000) {
+                eventUseCase.createAll(events);
+                events = new ArrayList<>();
+            }
+        }
+    }
+
+    @Test
+    void eventListPaths() {
+        measure("GET /events  entity+mappers", () -> eventUseCase.findAll().stream().map(eventDTOMapper::toDTO).toList());
+        measure("GET /events  proyección    ", catalogReadUseCase::findAllEvents);
+    }
+
+    @Test
+    void venueListPaths() {
+        measure("GET /venues  entity+mappers", () -> venueUseCase.findAll().stream().map(venueDTOMapper::toDTO).toList());
+        measure("GET /venues  proyección    ", catalogReadUseCase::findAllVenues);
+    }
+
+    private void measure(String label, Supplier<List<?>> path) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP; i++) {
+            path.get();
+        }
+        long rows = 0;
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            rows += path.get().size();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        System.out.printf("[read-path] %s : %7.1f ops/s | %6.2f MB/op | %5.0f B/fila%n",
+                label, ITERATIONS / seconds, allocated / (double) ITERATIONS / (1024 * 1024),
+                allocated / (double) rows);
+    }
+}
@@ -0,0 +1,242 @@
+package com.riwi.H4.benchmark;
+
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.infrastructure.config.SyntheticDataGenerator;
+import com.riwi.H4.infrastructure.entity.EventEntity;
+import com.riwi.H4.infrastructure.repository.jpa.EventJpaRepository;
+import com.riwi.H4.infrastructure.repository.jpa.VenueJpaRepository;
+import com.riwi.H4.infrastructure.repository.specification.EventSpecification;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Mide cada consulta de EventJpaRepository / VenueJpaRepository y cada
+ * combinación de filtros de EventSpecification sobre un dataset grande en H2.
+ *
+ * Por consulta reporta:
+ * - p50 / p99 de latencia (cada ejecución en su propia transacción readOnly)
+ * - sentencias SQL emitidas por ejecución (incluye lazy loads: expone N+1)
+ * - entidades hidratadas por ejecución y filas devueltas
+ *
+ * Los eventos se recorren accediendo a venue.getName(), como lo hace el mapper
+ * en los endpoints, para que un fetch LAZY sin JOIN FETCH se vea en las cifras.
+ *
+ * Ejecutar: mvn test -Pbenchmark -Dtest=RepositoryQueryBenchmark
+ * Dataset (SyntheticDataGenerator) configurable con propiedades de sistema:
+ *   -Dbench.venues=1000 -Dbench.events=5000000 -DargLine=-Xmx8g
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@ActiveProfiles("test")
+class RepositoryQueryBenchmark {
+
+    private static final int VENUES = Integer.getInteger("bench.venues", 1_000);
+    private static final int EVENTS = Integer.getInteger("bench.events", 100_000);
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 5);
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 30);
+    // Consultas que devuelven (casi) toda la tabla: menos repeticiones
+    private static final int FULL_SCAN_ITERATIONS = Integer.getInteger("bench.full-scan-iterations", 5);
+    private static final int SEARCH_LIMIT = 100;
+
+    @Autowired
+    private EventJpaRepository eventRepository;
+
+    @Autowired
+    private VenueJpaRepository venueRepository;
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate readOnly;
+    private Statistics statistics;
+
+    private final LocalDate today = LocalDate.now();
+    private Long venueId;
+    private List<Long> someVenueIds;
+
+    @BeforeAll
+    void loadData() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        SyntheticDataGenerator.Result dataset = generator.generate(
+                new SyntheticDataGenerator.Settings(VENUES, EVENTS / VENUES, 730, 0.1, 42));
+        jdbcTemplate.execute("ANALYZE");
+
+        long firstVenue = dataset.firstVenueId();
+        venueId = firstVenue + VENUES / 2;
+        someVenueIds = LongStream.range(firstVenue, firstVenue + Math.min(VENUES, 100)).boxed().toList();
+        System.out.printf("[repo] dataset: %,d venues, %,d eventos generados en %d ms%n",
+                dataset.venues(), dataset.events(), dataset.millis());
+    }
+
+    @Test
+    void eventRepositoryQueries() {
+        LocalDate from = today.plusDays(30);
+        LocalDate to = today.plusDays(37);
+        Long middleId = jdbcTemplate.queryForObject(
+                "SELECT id FROM events ORDER BY date, id LIMIT 1 OFFSET ?", Long.class, EVENTS / 2);
+        EventEntity middle = readOnly.execute(status -> eventRepository.findById(middleId).orElseThrow());
+
+        measure("findByVenueId", ITERATIONS, () -> touch(eventRepository.findByVenueId(venueId)));
+        measure("findByVenueIdWithVenue", ITERATIONS, () -> touch(eventRepository.findByVenueIdWithVenue(venueId)));
+        measure("findByDateRange (1 semana)", ITERATIONS, () -> touch(eventRepository.findByDateRange(from, to)));
+        measure("findByDateRangeWithVenue (1 semana)", ITERATIONS,
+                () -> touch(eventRepository.findByDateRangeWithVenue(from, to)));
+        measure("findByStatus(CANCELLED)", FULL_SCAN_ITERATIONS,
+                () -> touch(eventRepository.findByStatus(EventStatus.CANCELLED)));
+        measure("findByStatusWithVenue(CANCELLED)", FULL_SCAN_ITERATIONS,
+                () -> touch(eventRepository.findByStatusWithVenue(EventStatus.CANCELLED)));
+        measure("findAll (@EntityGraph)", FULL_SCAN_ITERATIONS, () -> touch(eventRepository.findAll()));
+        measure("findAllWithVenue", FULL_SCAN_ITERATIONS, () -> touch(eventRepository.findAllWithVenue()));
+        measure("findAll(Pageable) página 100x20", ITERATIONS,
+                () -> touch(eventRepository.findAll(PageRequest.of(100, 20)).getContent()));
+        measure("findById", ITERATIONS, () -> touch(eventRepository.findById(middle.getId()).stream().toList()));
+        measure("findKeysetFirstPage(20)", ITERATIONS, () -> touch(eventRepository.findKeysetFirstPage(Limit.of(20))));
+        measure("findKeysetPageAfter(mitad, 20)", ITERATIONS,
+                () -> touch(eventRepository.findKeysetPageAfter(middle.getDate(), middle.getId(), Limit.of(20))));
+        measure("findAllSummaries", FULL_SCAN_ITERATIONS, () -> eventRepository.findAllSummaries().size());
+        measure("findSummaries página 100x20", ITERATIONS,
+                () -> eventRepository.findSummaries(PageRequest.of(100, 20)).size());
+        measure("findUpcomingSummaries(ACTIVE, hoy)", FULL_SCAN_ITERATIONS,
+                () -> eventRepository.findUpcomingSummaries(EventStatus.ACTIVE, today).size());
+        measure("streamAllWithVenue", FULL_SCAN_ITERATIONS, () -> {
+            try (Stream<EventEntity> stream = eventRepository.streamAllWithVenue()) {
+                return touch(stream.toList());
+            }
+        });
+    }
+
+    @Test
+    void venueRepositoryQueries() {
+        measure("venue findAll", ITERATIONS, () -> venueRepository.findAll().size());
+        measure("venue findById", ITERATIONS, () -> venueRepository.findById(venueId).stream().toList().size());
+        measure("venue findByMinimumCapacity(15000)", ITERATIONS,
+                () -> venueRepository.findByMinimumCapacity(15_000).size());
+        measure("venue findByExactCapacity(1000)", ITERATIONS, () -> venueRepository.findByExactCapacity(1_000).size());
+        measure("venue findByCapacityRange(1000-2000)", ITERATIONS,
+                () -> venueRepository.findByCapacityRange(1_000, 2_000).size());
+        measure("venue findByLocation(\"calle 1\")", ITERATIONS, () -> venueRepository.findByLocation("calle 1").size());
+        measure("venue findByNameContaining(\"99\")", ITERATIONS,
+                () -> venueRepository.findByNameContaining("99").size());
+        measure("venue findExistingIds(100)", ITERATIONS, () -> venueRepository.findExistingIds(someVenueIds).size());
+        measure("venue findAllSummaries", ITERATIONS, () -> venueRepository.findAllSummaries().size());
+    }
+
+    /**
+     * Todas las combinaciones (no vacías) de los filtros de EventSpecification,
+     * con la forma de GET /events/search: JOIN FETCH del venue, orden
+     * (date, id) y límite de filas.
+     */
+    @Test
+    void specificationCombinations() {
+        List<NamedSpec> filters = List.of(
+                new NamedSpec("venue", EventSpecification.hasVenue(venueId)),
+                new NamedSpec("status", EventSpecification.hasStatus(EventStatus.ACTIVE)),
+                new NamedSpec("rango", EventSpecification.betweenDates(today.plusDays(30), today.plusDays(60))),
+                new NamedSpec("nombre", EventSpecification.nameContains("festival")),
+                new NamedSpec("futuro", EventSpecification.isFuture()));
+
+        for (int mask = 1; mask < (1 << filters.size()); mask++) {
+            List<String> names = new ArrayList<>();
+            List<Specification<EventEntity>> specs = new ArrayList<>();
+            specs.add(EventSpecification.fetchVenue());
+            for (int i = 0; i < filters.size(); i++) {
+                if ((mask & (1 << i)) != 0) {
+                    names.add(filters.get(i).name());
+                    specs.add(filters.get(i).spec());
+                }
+            }
+            Specification<EventEntity> spec = Specification.allOf(specs);
+            measure("spec " + String.join("+", names), ITERATIONS, () -> touch(eventRepository.findBy(spec,
+                    query -> query.sortBy(Sort.by("date", "id")).limit(SEARCH_LIMIT).all())));
+        }
+        // Referencia: mismas condiciones sin JOIN FETCH (un SELECT extra por venue distinto)
+        Specification<EventEntity> noFetch = EventSpecification.hasStatus(EventStatus.ACTIVE)
+                .and(EventSpecification.isFuture());
+        measure("spec status+futuro SIN fetchVenue", ITERATIONS, () -> touch(eventRepository.findBy(noFetch,
+                query -> query.sortBy(Sort.by("date", "id")).limit(SEARCH_LIMIT).all())));
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════
+    // MEDICIÓN
+    // ═══════════════════════════════════════════════════════════════════════
+
+    private void measure(String label, int iterations, Supplier<Integer> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            readOnly.execute(status -> query.get());
+        }
+
+        statistics.clear();
+        long[] nanos = new long[iterations];
+        long rows = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            Integer size = readOnly.execute(status -> query.get());
+            nanos[i] = System.nanoTime() - start;
+            rows += size;
+        }
+        Arrays.sort(nanos);
+
+        System.out.printf("[repo] %-42s | p50 %9.2f ms | p99 %9.2f ms | %7.1f SQL | %9.0f entidades | %9.0f filas%n",
+                label, percentile(nanos, 50) / 1e6, percentile(nanos, 99) / 1e6,
+                statistics.getPrepareStatementCount() / (double) iterations,
+                statistics.getEntityLoadCount() / (double) iterations,
+                rows / (double) iterations);
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    // Accede al venue de cada evento como lo hace EventMapper al mapear
+    private static int touch(Collection<EventEntity> events) {
+        int checksum = 0;
+        for (EventEntity event : events) {
+            checksum += event.getVenue().getName().length();
+        }
+        return checksum >= 0 ? events.size() : -1;
+    }
+
+    private record NamedSpec(String name, Specification<EventEntity> spec) {
+    }
+}
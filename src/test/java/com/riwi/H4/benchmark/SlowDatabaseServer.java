@@ -0,0 +1,95 @@
+package com.riwi.H4.benchmark;
+
+import com.riwi.H4.Application;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Aplicación con una base de datos artificialmente lenta, para que
+ * VirtualThreadLoadBenchmark la arranque en una JVM aparte: cada sentencia
+ * preparada espera bench.slow-query-ms con la conexión tomada.
+ *
+ * Al terminar de arrancar escribe en stdout una línea
+ * "READY <puerto> <virtual threads activos> <ids de eventos separados por comas>".
+ * Termina cuando el proceso recibe SIGTERM (el hook de cierre de Spring).
+ */
+public class SlowDatabaseServer {
+
+    static final String READY = "READY";
+
+    public static void main(String[] args) {
+        long slowQueryMs = Long.getLong("bench.slow-query-ms", 50);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .initializers(ctx -> ctx.getBeanFactory()
+                        .addBeanPostProcessor(new SlowDataSourcePostProcessor(slowQueryMs)))
+                .run(args);
+        List<Long> eventIds = context.getBean(JdbcTemplate.class)
+                .queryForList("SELECT id FROM events ORDER BY id FETCH FIRST 5 ROWS ONLY", Long.class);
+        System.out.println(READY + " " + context.getEnvironment().getProperty("local.server.port")
+                + " " + Threading.VIRTUAL.isActive(context.getEnvironment())
+                + " " + eventIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        System.out.flush();
+    }
+
+    /**
+     * Envuelve el DataSource: cada prepareStatement() espera slowQueryMs con
+     * la conexión tomada, como una consulta lenta en el servidor de base de datos.
+     */
+    private static class SlowDataSourcePostProcessor implements BeanPostProcessor {
+
+        private final long slowQueryMs;
+
+        SlowDataSourcePostProcessor(long slowQueryMs) {
+            this.slowQueryMs = slowQueryMs;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { DataSource.class },
+                    (proxy, method, methodArgs) -> {
+                        // equals/hashCode sobre el proxy: Spring Boot compara el DataSource de
+                        // Flyway con el de JPA y, si no coinciden, usa ddl-auto=create-drop
+                        if (method.getName().equals("equals")) {
+                            return proxy == methodArgs[0];
+                        }
+                        if (method.getName().equals("hashCode")) {
+                            return System.identityHashCode(proxy);
+                        }
+                        Object result = invoke(dataSource, method, methodArgs);
+                        return result instanceof Connection connection ? slow(connection) : result;
+                    });
+        }
+
+        private Connection slow(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] { Connection.class }, (proxy, method, methodArgs) -> {
+                        if (method.getName().equals("prepareStatement")) {
+                            Thread.sleep(slowQueryMs);
+                        }
+                        return invoke(connection, method, methodArgs);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] methodArgs) throws Throwable {
+            try {
+                return method.invoke(target, methodArgs);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.riwi.H4.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Carga HTTP real contra la aplicación con hilos de plataforma (Tomcat, 200
+ * hilos) y con el perfil virtual-threads, con una base de datos artificialmente
+ * lenta: cada sentencia preparada espera bench.slow-query-ms.
+ *
+ * El servidor corre en otra JVM (SlowDatabaseServer, mismo classpath y mismo
+ * JDK) y la carga sale de este proceso con HttpClient.sendAsync: bench.clients
+ * peticiones en vuelo atendidas por bench.client-threads hilos, en lugar de un
+ * hilo cliente bloqueado por petición compitiendo con el servidor.
+ *
+ * - Las peticiones en vuelo piden GET /events/{id} (1 sentencia) sobre los
+ *   primeros 5 eventos existentes; cada respuesta lanza la siguiente.
+ * - Una sonda pide GET /events/suggest (índice en memoria, sin base de datos)
+ *   cada 20 ms para medir cuánto espera una petición barata detrás de las lentas.
+ *
+ * Ambos modos usan el pool de conexiones del perfil virtual-threads
+ * (spring.datasource.hikari.maximum-pool-size, sobreescribible con
+ * bench.pool-size): el throughput de las peticiones a la base de datos está
+ * limitado por el pool en los dos casos; lo que cambia es la latencia de cola
+ * y la de la sonda. Con una sola CPU cliente y servidor se la reparten y los
+ * números no son representativos; bench.server-cpus (p. ej. "1-3") fija el
+ * servidor a esas CPUs con taskset.
+ *
+ * Requiere Java 21 (en Java 17 el perfil virtual-threads no arranca y el
+ * benchmark se omite). Ejecutar:
+ *   JAVA_HOME=/ruta/jdk-21 mvn test -Pbenchmark -Dtest=VirtualThreadLoadBenchmark
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21, disabledReason = "spring.threads.virtual.enabled requiere Java 21+")
+class VirtualThreadLoadBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("bench.clients", 400);
+    private static final int CLIENT_THREADS = Integer.getInteger("bench.client-threads", 2);
+    private static final long SLOW_QUERY_MS = Long.getLong("bench.slow-query-ms", 50);
+    private static final int WARMUP_SECONDS = Integer.getInteger("bench.warmup-seconds", 3);
+    private static final int DURATION_SECONDS = Integer.getInteger("bench.duration-seconds", 15);
+    private static final String SERVER_CPUS = System.getProperty("bench.server-cpus");
+    private static final long PROBE_INTERVAL_MS = 20;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    @Test
+    void platformVersusVirtualThreads() throws Exception {
+        int poolSize = Integer.getInteger("bench.pool-size", profilePoolSize());
+        System.out.printf("[vthreads] Java %d, %d CPU, %d peticiones en vuelo (%d hilos cliente), "
+                        + "pool %d, %d ms por sentencia%n",
+                Runtime.version().feature(), Runtime.getRuntime().availableProcessors(), CLIENTS,
+                CLIENT_THREADS, poolSize, SLOW_QUERY_MS);
+        if (Runtime.getRuntime().availableProcessors() < 2 && SERVER_CPUS == null) {
+            System.out.println("[vthreads] AVISO: una sola CPU compartida por cliente y servidor; "
+                    + "los resultados no son representativos");
+        }
+        run("hilos de plataforma", false, poolSize);
+        run("virtual threads    ", true, poolSize);
+    }
+
+    private void run(String label, boolean virtualThreads, int poolSize) throws Exception {
+        try (Server server = Server.start(virtualThreads, poolSize)) {
+            assertTrue(server.virtualActive() == virtualThreads,
+                    label.strip() + ": el servidor arrancó con virtual threads=" + server.virtualActive());
+            LoadResult result = load(server.base(), server.eventIds());
+            System.out.printf("[vthreads] %s | DB: %6.1f req/s  p50 %6.0f ms  p99 %6.0f ms  errores %d "
+                            + "| sonda en memoria: p50 %6.0f ms  p99 %6.0f ms%n",
+                    label, result.dbThroughput(), result.dbP50(), result.dbP99(), result.errors(),
+                    result.probeP50(), result.probeP99());
+        }
+    }
+
+    private LoadResult load(String base, List<Long> eventIds) throws InterruptedException {
+        ExecutorService clientThreads = Executors.newFixedThreadPool(CLIENT_THREADS);
+        ScheduledExecutorService probe = Executors.newSingleThreadScheduledExecutor();
+        try {
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientThreads)
+                    .build();
+            long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+            long end = warmupEnd + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+            Recorder db = new Recorder(warmupEnd);
+            Recorder probes = new Recorder(warmupEnd);
+
+            CountDownLatch finished = new CountDownLatch(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                URI uri = URI.create(base + "/events/" + eventIds.get(i % eventIds.size()));
+                loop(http, uri, end, db, finished);
+            }
+            URI probeUri = URI.create(base + "/events/suggest?prefix=con");
+            probe.scheduleAtFixedRate(() -> {
+                if (System.nanoTime() < end) {
+                    send(http, probeUri, probes);
+                }
+            }, 0, PROBE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+            finished.await(WARMUP_SECONDS + DURATION_SECONDS + REQUEST_TIMEOUT.toSeconds() + 60, TimeUnit.SECONDS);
+            return new LoadResult(db.count() / (double) DURATION_SECONDS,
+                    db.percentileMillis(50), db.percentileMillis(99), db.errors(),
+                    probes.percentileMillis(50), probes.percentileMillis(99));
+        } finally {
+            probe.shutdownNow();
+            clientThreads.shutdownNow();
+        }
+    }
+
+    /** Una petición en vuelo: al completarse, lanza la siguiente hasta el final de la medición. */
+    private static void loop(HttpClient http, URI uri, long end, Recorder recorder, CountDownLatch finished) {
+        if (System.nanoTime() >= end) {
+            finished.countDown();
+            return;
+        }
+        send(http, uri, recorder).whenComplete((ignored, error) -> loop(http, uri, end, recorder, finished));
+    }
+
+    private static CompletableFuture<HttpResponse<Void>> send(HttpClient http, URI uri, Recorder recorder) {
+        long start = System.nanoTime();
+        return http.sendAsync(HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build(),
+                        HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) ->
+                        recorder.record(start, error == null && response.statusCode() == 200));
+    }
+
+    private static int profilePoolSize() throws IOException {
+        String size = PropertiesLoaderUtils
+                .loadProperties(new ClassPathResource("application-virtual-threads.properties"))
+                .getProperty("spring.datasource.hikari.maximum-pool-size");
+        return Integer.parseInt(size.strip());
+    }
+
+    /** Latencias de las peticiones que empezaron después del calentamiento. */
+    private static class Recorder {
+
+        private final long warmupEnd;
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicLong errors = new AtomicLong();
+
+        Recorder(long warmupEnd) {
+            this.warmupEnd = warmupEnd;
+        }
+
+        void record(long start, boolean ok) {
+            if (start <= warmupEnd) {
+                return;
+            }
+            if (ok) {
+                latencies.add(System.nanoTime() - start);
+            } else {
+                errors.incrementAndGet();
+            }
+        }
+
+        long count() {
+            return latencies.size();
+        }
+
+        long errors() {
+            return errors.get();
+        }
+
+        double percentileMillis(int percentile) {
+            List<Long> sorted;
+            synchronized (latencies) {
+                sorted = new ArrayList<>(latencies);
+            }
+            if (sorted.isEmpty()) {
+                return Double.NaN;
+            }
+            Collections.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+            return sorted.get(Math.max(0, index)) / 1e6;
+        }
+    }
+
+    private record LoadResult(double dbThroughput, double dbP50, double dbP99, long errors,
+                              double probeP50, double probeP99) {
+    }
+
+    /** SlowDatabaseServer en otra JVM; close() la detiene. */
+    private record Server(Process process, String base, boolean virtualActive, List<Long> eventIds)
+            implements AutoCloseable {
+
+        static Server start(boolean virtualThreads, int poolSize) throws Exception {
+            List<String> command = new ArrayList<>();
+            if (SERVER_CPUS != null) {
+                command.addAll(List.of("taskset", "-c", SERVER_CPUS));
+            }
+            command.addAll(List.of(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-Dbench.slow-query-ms=" + SLOW_QUERY_MS,
+                    // Sin el reinicio de devtools: la aplicación corre en el hilo main y su class loader
+                    "-Dspring.devtools.restart.enabled=false",
+                    "-cp", System.getProperty("java.class.path"),
+                    SlowDatabaseServer.class.getName(),
+                    "--server.port=0",
+                    "--spring.profiles.active=test" + (virtualThreads ? ",virtual-threads" : ""),
+                    "--logging.level.root=WARN",
+                    "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                    "--spring.datasource.hikari.connection-timeout=60000"));
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+
+            // La salida del servidor se reenvía con prefijo; la línea READY trae puerto, modo e ids
+            CompletableFuture<String> ready = new CompletableFuture<>();
+            Thread output = new Thread(() -> {
+                try (BufferedReader reader = process.inputReader()) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.startsWith(SlowDatabaseServer.READY + " ")) {
+                            ready.complete(line);
+                        } else {
+                            System.out.println("[server] " + line);
+                        }
+                    }
+                } catch (IOException ignored) {
+                    // El proceso terminó
+                }
+                ready.completeExceptionally(new IllegalStateException("El servidor terminó antes de arrancar"));
+            });
+            output.setDaemon(true);
+            output.start();
+
+            try {
+                String[] fields = ready.get(120, TimeUnit.SECONDS).split(" ");
+                List<Long> eventIds = Arrays.stream(fields[3].split(",")).map(Long::valueOf).toList();
+                return new Server(process, "http://localhost:" + fields[1], Boolean.parseBoolean(fields[2]),
+                        eventIds);
+            } catch (Exception e) {
+                process.destroyForcibly();
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+}
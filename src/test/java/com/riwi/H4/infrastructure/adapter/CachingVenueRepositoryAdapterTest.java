@@ -0,0 +1,100 @@
+package com.riwi.H4.infrastructure.adapter;
+
+import com.riwi.H4.application.port.out.VenueRepositoryPort;
+import com.riwi.H4.domain.model.Venue;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Caché de venues con lecturas y escrituras concurrentes: una lectura que
+ * cargó el valor anterior a una escritura no lo deja en caché después de la
+ * invalidación.
+ */
+class CachingVenueRepositoryAdapterTest {
+
+    private final VenueRepositoryPort delegate = mock(VenueRepositoryPort.class);
+    private final CachingVenueRepositoryAdapter adapter =
+            new CachingVenueRepositoryAdapter(delegate, 100, Duration.ofMinutes(10));
+    // Lo que la base de datos tiene confirmado
+    private final AtomicReference<Venue> stored = new AtomicReference<>(venue("Sala", 1L));
+
+    @Test
+    void readThatLoadedBeforeAWriteDoesNotCacheTheOldValue() throws Exception {
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            Venue current = stored.get();
+            if (Thread.currentThread().getName().startsWith("lector")) {
+                // La lectura ya tiene la fila vieja; la escritura se confirma antes del put
+                loaded.countDown();
+                written.await(5, TimeUnit.SECONDS);
+            }
+            return Optional.of(current);
+        });
+        when(delegate.save(any())).thenAnswer(invocation -> {
+            stored.set(venue("Sala renombrada", 2L));
+            return stored.get();
+        });
+
+        CompletableFuture<Optional<Venue>> reader = new CompletableFuture<>();
+        Thread thread = new Thread(() -> reader.complete(adapter.findById(1L)), "lector");
+        thread.start();
+        assertTrue(loaded.await(5, TimeUnit.SECONDS));
+        adapter.save(venue("Sala renombrada", null));
+        written.countDown();
+
+        assertEquals("Sala", reader.get(5, TimeUnit.SECONDS).orElseThrow().getName());
+        assertEquals("Sala renombrada", adapter.findById(1L).orElseThrow().getName());
+        assertEquals(Optional.of(2L), adapter.findVersionById(1L));
+    }
+
+    @Test
+    void concurrentReadsAndWritesEndWithTheLastWrite() throws Exception {
+        when(delegate.findById(1L)).thenAnswer(invocation -> Optional.of(stored.get()));
+        when(delegate.findVersionById(1L)).thenAnswer(invocation -> Optional.of(stored.get().getVersion()));
+        when(delegate.save(any())).thenAnswer(invocation -> {
+            Venue venue = invocation.getArgument(0);
+            stored.set(venue);
+            return venue;
+        });
+
+        Thread[] readers = new Thread[4];
+        CountDownLatch done = new CountDownLatch(1);
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                while (done.getCount() > 0) {
+                    adapter.findById(1L);
+                }
+            });
+            readers[r].start();
+        }
+        for (long version = 2; version <= 2_000; version++) {
+            adapter.save(venue("Sala " + version, version));
+        }
+        done.countDown();
+        for (Thread reader : readers) {
+            reader.join(5_000);
+        }
+
+        assertEquals("Sala 2000", adapter.findById(1L).orElseThrow().getName());
+        assertEquals(Optional.of(2_000L), adapter.findVersionById(1L));
+    }
+
+    private static Venue venue(String name, Long version) {
+        Venue venue = new Venue(1L, name, "Centro", 100);
+        venue.setVersion(version);
+        return venue;
+    }
+}
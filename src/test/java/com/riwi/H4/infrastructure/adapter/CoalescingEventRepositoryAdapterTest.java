@@ -0,0 +1,156 @@
+package com.riwi.H4.infrastructure.adapter;
+
+import com.riwi.H4.application.port.out.EventRepositoryPort;
+import com.riwi.H4.domain.model.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Agrupación de findById: sin otra carga en curso no hay ventana; con una
+ * carga en curso el mismo ID la espera (salvo que una escritura sobre ese ID
+ * se haya confirmado después de que empezó) y los demás forman un lote.
+ * Ningún llamador queda esperando indefinidamente.
+ */
+class CoalescingEventRepositoryAdapterTest {
+
+    private final EventRepositoryPort delegate = mock(EventRepositoryPort.class);
+    // Cada findAllById recibido (copia de los IDs)
+    private final List<Set<Long>> queries = new CopyOnWriteArrayList<>();
+    // Mientras no se abre, la consulta del ID 1 queda bloqueada
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch firstEntered = new CountDownLatch(1);
+    private CoalescingEventRepositoryAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        adapter.shutdown();
+    }
+
+    @Test
+    void isolatedLookupDoesNotWaitForTheWindow() {
+        adapter = adapter(Duration.ofSeconds(30), Duration.ofSeconds(5));
+        stubQueries(false);
+
+        Optional<Event> event = assertTimeoutPreemptively(Duration.ofSeconds(2), () -> adapter.findById(7L));
+        assertEquals(7L, event.orElseThrow().getId());
+        assertEquals(List.of(Set.of(7L)), queries);
+    }
+
+    @Test
+    void lookupsDuringALoadJoinItOrShareOneBatch() throws Exception {
+        adapter = adapter(Duration.ofMillis(300), Duration.ofSeconds(5));
+        stubQueries(true);
+
+        CompletableFuture<Optional<Event>> first = CompletableFuture.supplyAsync(() -> adapter.findById(1L));
+        assertTrue(firstEntered.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Optional<Event>> same = CompletableFuture.supplyAsync(() -> adapter.findById(1L));
+        CompletableFuture<Optional<Event>> second = CompletableFuture.supplyAsync(() -> adapter.findById(2L));
+        CompletableFuture<Optional<Event>> third = CompletableFuture.supplyAsync(() -> adapter.findById(3L));
+
+        assertEquals(2L, second.get(5, TimeUnit.SECONDS).orElseThrow().getId());
+        assertEquals(3L, third.get(5, TimeUnit.SECONDS).orElseThrow().getId());
+        release.countDown();
+        assertEquals(1L, first.get(5, TimeUnit.SECONDS).orElseThrow().getId());
+        assertEquals(1L, same.get(5, TimeUnit.SECONDS).orElseThrow().getId());
+        assertEquals(List.of(Set.of(1L), Set.of(2L, 3L)), queries);
+    }
+
+    @Test
+    void lookupAfterACommittedWriteDoesNotJoinTheOlderLoad() throws Exception {
+        adapter = adapter(Duration.ofMillis(1), Duration.ofSeconds(5));
+        AtomicReference<String> row = new AtomicReference<>("antes");
+        when(delegate.findAllById(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            queries.add(Set.copyOf(ids));
+            // La primera consulta lee la fila y queda bloqueada antes de devolverla
+            String name = row.get();
+            if (queries.size() == 1) {
+                firstEntered.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            }
+            return ids.stream().map(id -> new Event(id, name, null, null)).toList();
+        });
+        when(delegate.save(any())).thenAnswer(invocation -> {
+            row.set("después");
+            return invocation.getArgument(0);
+        });
+
+        CompletableFuture<Optional<Event>> before = CompletableFuture.supplyAsync(() -> adapter.findById(1L));
+        assertTrue(firstEntered.await(5, TimeUnit.SECONDS));
+        // Sin transacción la escritura cuenta como confirmada al volver
+        adapter.save(new Event(1L, "después", null, null));
+
+        Optional<Event> after = assertTimeoutPreemptively(Duration.ofSeconds(2), () -> adapter.findById(1L));
+        assertEquals("después", after.orElseThrow().getName());
+        release.countDown();
+        assertEquals("antes", before.get(5, TimeUnit.SECONDS).orElseThrow().getName());
+        assertEquals(List.of(Set.of(1L), Set.of(1L)), queries);
+    }
+
+    @Test
+    void waitingCallerTimesOut() throws Exception {
+        adapter = adapter(Duration.ofMillis(1), Duration.ofMillis(200));
+        stubQueries(true);
+
+        CompletableFuture<Optional<Event>> first = CompletableFuture.supplyAsync(() -> adapter.findById(1L));
+        assertTrue(firstEntered.await(5, TimeUnit.SECONDS));
+        assertTimeoutPreemptively(Duration.ofSeconds(2),
+                () -> assertThrows(QueryTimeoutException.class, () -> adapter.findById(1L)));
+        release.countDown();
+        assertEquals(1L, first.get(5, TimeUnit.SECONDS).orElseThrow().getId());
+    }
+
+    @Test
+    void rejectedBatchIsLoadedByTheCaller() throws Exception {
+        adapter = adapter(Duration.ofSeconds(30), Duration.ofSeconds(5));
+        stubQueries(true);
+
+        CompletableFuture<Optional<Event>> first = CompletableFuture.supplyAsync(() -> adapter.findById(1L));
+        assertTrue(firstEntered.await(5, TimeUnit.SECONDS));
+        adapter.shutdown();
+        // Hay una carga en curso, pero el loader ya no acepta la ventana
+        Optional<Event> event = assertTimeoutPreemptively(Duration.ofSeconds(2), () -> adapter.findById(2L));
+        assertEquals(2L, event.orElseThrow().getId());
+        release.countDown();
+        assertEquals(1L, first.get(5, TimeUnit.SECONDS).orElseThrow().getId());
+    }
+
+    private CoalescingEventRepositoryAdapter adapter(Duration window, Duration timeout) {
+        return new CoalescingEventRepositoryAdapter(delegate, mock(PlatformTransactionManager.class), window, 100, 2,
+                timeout);
+    }
+
+    private void stubQueries(boolean blockFirst) {
+        when(delegate.findAllById(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            queries.add(Set.copyOf(ids));
+            if (blockFirst && ids.contains(1L)) {
+                firstEntered.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            }
+            return ids.stream().map(id -> new Event(id, "Evento " + id, null, null)).toList();
+        });
+    }
+}
@@ -0,0 +1,149 @@
+package com.riwi.H4.infrastructure.search;
+
+import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.EventSummary;
+import com.riwi.H4.infrastructure.repository.jpa.EventJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static com.riwi.H4.support.TestEvents.venueRef;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Índice de sugerencias (radix trie con top por nodo): coincidencia por
+ * prefijo, orden por fecha e id, límite, y cambios (renombrar, cancelar,
+ * borrar, borrar el venue) contra el resultado de filtrar y ordenar todo.
+ */
+class EventNameSuggestIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private final EventJpaRepository repository = mock(EventJpaRepository.class);
+    private EventNameSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findUpcomingSummaries(any(), any())).thenReturn(List.of(
+                summary(1L, "Concierto de Rock", 5, 10L),
+                summary(2L, "Conferencia de Ciencia", 2, 10L),
+                summary(3L, "Festival de Jazz", 1, 20L),
+                summary(4L, "  CONCIERTO de Jazz ", 2, 20L)));
+        index = new EventNameSuggestIndex(repository);
+        index.warmUp();
+    }
+
+    @Test
+    void matchesPrefixesIgnoringCaseAndSurroundingSpaces() {
+        assertEquals(List.of(2L, 4L, 1L), ids("con"));
+        assertEquals(List.of(4L, 1L), ids(" CONCIERTO "));
+        assertEquals(List.of(4L, 1L), ids("concierto de "));
+        assertEquals(List.of(4L), ids("concierto de j"));
+        // Prefijo que termina a mitad de un tramo del trie, y uno que no coincide
+        assertEquals(List.of(2L), ids("confe"));
+        assertEquals(List.of(), ids("conz"));
+        assertEquals(List.of(), ids("concierto de rock y más"));
+        assertEquals(List.of(), index.suggest("  ", 10));
+    }
+
+    @Test
+    void ordersByDateThenIdAndAppliesTheLimit() {
+        index.index(event(5L, "Concierto de Salsa", 2, 10L));
+        // Mismo día que 2 y 4: desempata el id
+        assertEquals(List.of(2L, 4L, 5L, 1L), ids("con"));
+        assertEquals(List.of(2L, 4L), index.suggest("con", 2).stream().map(EventSummary::getId).toList());
+    }
+
+    @Test
+    void followsRenamesCancellationsAndDeletions() {
+        index.rename(3L, "Concierto de Vallenato");
+        assertEquals(List.of(3L, 2L, 4L, 1L), ids("con"));
+        assertEquals(List.of(), ids("festival"));
+
+        Event cancelled = event(4L, "Concierto de Jazz", 2, 20L);
+        cancelled.setStatus(EventStatus.CANCELLED);
+        index.index(cancelled);
+        // Un evento fuera del índice no vuelve con un cambio de nombre
+        index.rename(4L, "Concierto otra vez");
+        assertEquals(List.of(3L, 2L, 1L), ids("con"));
+
+        index.remove(2L);
+        assertEquals(List.of(3L, 1L), ids("con"));
+
+        index.removeVenue(10L);
+        assertEquals(List.of(3L), ids("con"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void leavesOutPastEvents() {
+        index.index(event(6L, "Concierto de ayer", -1, 10L));
+        assertEquals(List.of(2L, 4L, 1L), ids("con"));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void matchesAFullScanAcrossRandomChanges() {
+        String[] words = { "con", "concierto", "conferencia", "feria", "festival", "fest", "c", "rock", "jazz" };
+        Random random = new Random(7);
+        Map<Long, EventSummary> expected = new HashMap<>();
+        index.removeVenue(10L);
+        index.removeVenue(20L);
+
+        for (int step = 0; step < 3_000; step++) {
+            long id = 100 + random.nextInt(400);
+            if (random.nextInt(4) == 0) {
+                index.remove(id);
+                expected.remove(id);
+            } else {
+                String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+                Event event = event(id, name, random.nextInt(60), 10L);
+                index.index(event);
+                expected.put(id, summary(id, name, event.getDate()));
+            }
+            if (step % 50 == 0) {
+                for (String prefix : new String[] { "c", "con", "conc", "fe", "fest", "festival ", "r", "x" }) {
+                    int limit = 1 + random.nextInt(EventNameSuggestIndex.TOP);
+                    List<Long> scan = expected.values().stream()
+                            .filter(summary -> summary.getName().toLowerCase(Locale.ROOT).startsWith(prefix.strip()))
+                            .sorted(Comparator.comparing(EventSummary::getDate).thenComparing(EventSummary::getId))
+                            .limit(limit)
+                            .map(EventSummary::getId)
+                            .toList();
+                    assertEquals(scan, index.suggest(prefix, limit).stream().map(EventSummary::getId).toList(),
+                            "prefijo '" + prefix + "', límite " + limit);
+                }
+            }
+        }
+        assertEquals(expected.size(), index.size());
+        assertTrue(index.size() > 100);
+    }
+
+    private List<Long> ids(String prefix) {
+        return index.suggest(prefix, 10).stream().map(EventSummary::getId).toList();
+    }
+
+    private static EventSummary summary(Long id, String name, int daysAhead, Long venueId) {
+        return new EventSummary(id, name, TODAY.plusDays(daysAhead), EventStatus.ACTIVE, venueId);
+    }
+
+    private static EventSummary summary(Long id, String name, LocalDate date) {
+        return new EventSummary(id, name, date, EventStatus.ACTIVE, 10L);
+    }
+
+    private static Event event(Long id, String name, int daysAhead, Long venueId) {
+        return new Event(id, name, TODAY.plusDays(daysAhead), EventStatus.ACTIVE, venueRef(venueId));
+    }
+}
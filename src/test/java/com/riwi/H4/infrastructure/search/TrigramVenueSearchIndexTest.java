@@ -0,0 +1,145 @@
+package com.riwi.H4.infrastructure.search;
+
+import com.riwi.H4.domain.model.Venue;
+import com.riwi.H4.domain.model.VenueSummary;
+import com.riwi.H4.infrastructure.repository.jpa.VenueJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Índice de trigramas de venues: misma semántica que el
+ * LOWER(x) LIKE LOWER('%term%') que reemplaza (subcadena, sin distinguir
+ * mayúsculas, acentos tal cual), con términos cortos, con errores de
+ * escritura y después de renombrar o borrar un venue.
+ */
+class TrigramVenueSearchIndexTest {
+
+    private final VenueJpaRepository repository = mock(VenueJpaRepository.class);
+    private final List<Venue> all = new ArrayList<>(List.of(
+            new Venue(1L, "Teatro Colón", "Bogotá", 900),
+            new Venue(2L, "Teatro Atrio", "Medellín", 300),
+            new Venue(3L, "Estadio El Campín", "Bogotá", 36000),
+            new Venue(4L, "Movistar Arena", "BOGOTÁ D.C.", 14000),
+            new Venue(5L, "Sala Ro", null, 80)));
+    private TrigramVenueSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findAllSummaries()).thenReturn(all.stream()
+                .map(venue -> new VenueSummary(venue.getId(), venue.getName(), venue.getLocation(),
+                        venue.getCapacity()))
+                .toList());
+        index = new TrigramVenueSearchIndex(repository);
+        index.warmUp();
+    }
+
+    @AfterEach
+    void clearTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void ignoresCaseAndMatchesAccentsAsWritten() {
+        assertTrue(index.isReady());
+        assertEquals(List.of(1L, 2L), ids(index.findByName("TEATRO")));
+        assertEquals(List.of(1L), ids(index.findByName("cOLÓN")));
+        assertEquals(List.of(1L, 3L, 4L), ids(index.findByLocation("bogotá")));
+        assertEquals(List.of(3L), ids(index.findByName("CAMPÍN")));
+        // Sin el acento no coincide, igual que el LIKE
+        assertEquals(List.of(), ids(index.findByName("colon")));
+        assertEquals(List.of(), ids(index.findByLocation("bogota")));
+    }
+
+    @Test
+    void rejectsMisspelledTermsEvenWhenEveryTrigramIsPresent() {
+        // tea, eat, atr, tri, rio están todos en "Teatro Atrio", pero no seguidos
+        assertEquals(List.of(), ids(index.findByName("teatrio")));
+        assertEquals(List.of(), ids(index.findByName("taetro")));
+        assertEquals(List.of(), ids(index.findByName("estadio el campin x")));
+        assertEquals(List.of(2L), ids(index.findByName("o atrio")));
+    }
+
+    @Test
+    void scansEveryVenueForTermsShorterThanATrigram() {
+        assertEquals(List.of(1L, 2L, 5L), ids(index.findByName("ro")));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids(index.findByName("a")));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids(index.findByName("")));
+        // Los venues sin ubicación no coinciden ni con el término vacío
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(index.findByLocation("")));
+        assertEquals(List.of(), ids(index.findByName(null)));
+    }
+
+    @Test
+    void followsRenamesAndDeletions() {
+        index.index(new Venue(2L, "Auditorio León de Greiff", "Bogotá", 1600));
+        assertEquals(List.of(1L), ids(index.findByName("teatro")));
+        assertEquals(List.of(), ids(index.findByLocation("medellín")));
+        assertEquals(List.of(2L), ids(index.findByName("LEÓN")));
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(index.findByLocation("bogot")));
+        assertEquals("Auditorio León de Greiff", index.findByName("greiff").get(0).getName());
+
+        index.remove(1L);
+        assertEquals(List.of(), ids(index.findByName("colón")));
+        assertEquals(List.of(2L, 3L, 4L), ids(index.findByLocation("bogot")));
+        assertEquals(List.of(2L, 3L, 4L, 5L), ids(index.findByName("")));
+    }
+
+    @Test
+    void appliesWritesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.index(new Venue(1L, "Teatro Renombrado", "Cali", 900));
+        index.remove(3L);
+        assertEquals(List.of(1L), ids(index.findByName("colón")));
+        // Rollback: no llega afterCommit
+        TransactionSynchronizationManager.clearSynchronization();
+        assertEquals(List.of(), ids(index.findByName("renombrado")));
+        assertEquals(List.of(3L), ids(index.findByName("estadio")));
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.index(new Venue(1L, "Teatro Renombrado", "Cali", 900));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertEquals(List.of(1L), ids(index.findByName("renombrado")));
+        assertEquals(List.of(), ids(index.findByName("colón")));
+    }
+
+    @Test
+    void matchesASubstringScanForEveryQuery() {
+        String[] terms = { "te", "tea", "teat", "atr", "rio", "o a", "ín", "arena", "mov", "D.C", "á", "x", "  ",
+                "ESTADIO EL", "lí", "llín", "sala ro", "ala r" };
+        for (String term : terms) {
+            assertEquals(scan(term, Venue::getName), ids(index.findByName(term)), "nombre '" + term + "'");
+            assertEquals(scan(term, Venue::getLocation), ids(index.findByLocation(term)),
+                    "ubicación '" + term + "'");
+        }
+    }
+
+    private List<Long> scan(String term, Function<Venue, String> field) {
+        String needle = term.toLowerCase(Locale.ROOT);
+        return all.stream()
+                .filter(venue -> field.apply(venue) != null
+                        && field.apply(venue).toLowerCase(Locale.ROOT).contains(needle))
+                .map(Venue::getId)
+                .toList();
+    }
+
+    private static List<Long> ids(List<Venue> venues) {
+        return venues.stream().map(Venue::getId).toList();
+    }
+}
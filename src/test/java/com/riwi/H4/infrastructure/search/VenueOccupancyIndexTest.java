@@ -0,0 +1,213 @@
+package com.riwi.H4.infrastructure.search;
+
+import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.EventSummary;
+import com.riwi.H4.infrastructure.repository.jpa.EventJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.riwi.H4.support.TestEvents.venueRef;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Bitmap de ocupación por venue: días compartidos de la carga inicial,
+ * fechas anteriores y muy lejanas a las ya reservadas, reservas y
+ * liberaciones (con commit y con rollback) y días ocupados de un rango.
+ */
+class VenueOccupancyIndexTest {
+
+    private static final Long VENUE = 10L;
+    private static final Long OTHER_VENUE = 20L;
+    // Múltiplo de 64: primer día de una palabra del bitmap
+    private static final LocalDate DAY = LocalDate.ofEpochDay(64 * 400);
+
+    private final EventJpaRepository repository = mock(EventJpaRepository.class);
+    private VenueOccupancyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findSummariesByStatus(EventStatus.ACTIVE)).thenReturn(List.of(
+                summary(1L, DAY, VENUE),
+                summary(2L, DAY, VENUE),
+                summary(3L, DAY, VENUE),
+                summary(4L, DAY.plusDays(1), VENUE),
+                summary(5L, DAY, OTHER_VENUE)));
+        index = new VenueOccupancyIndex(repository);
+        index.warmUp();
+    }
+
+    @AfterEach
+    void clearTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void sharedDaysFromTheDatabaseStayBookedUntilTheLastEventLeaves() {
+        assertTrue(index.isReady());
+        assertTrue(index.isBooked(VENUE, DAY, null));
+
+        // Borrado de uno de los tres y cancelación de otro: queda uno
+        index.release(1L);
+        assertTrue(index.isBooked(VENUE, DAY, null));
+        assertTrue(index.book(event(2L, DAY, VENUE, EventStatus.CANCELLED)));
+        assertTrue(index.isBooked(VENUE, DAY, null));
+
+        index.release(3L);
+        assertFalse(index.isBooked(VENUE, DAY, null));
+        // El mismo día en otro venue no cambia
+        assertTrue(index.isBooked(OTHER_VENUE, DAY, null));
+    }
+
+    @Test
+    void keepsDaysBookedBeforeTheFirstLoadedDay() {
+        LocalDate wordsBefore = DAY.minusDays(200);
+        LocalDate dayBefore = DAY.minusDays(1);
+        assertFalse(index.isBooked(VENUE, wordsBefore, null));
+
+        assertTrue(index.book(event(20L, wordsBefore, VENUE, EventStatus.ACTIVE)));
+        assertTrue(index.book(event(21L, dayBefore, VENUE, EventStatus.ACTIVE)));
+
+        assertEquals(List.of(wordsBefore, dayBefore, DAY, DAY.plusDays(1)),
+                index.bookedDays(VENUE, wordsBefore.minusDays(10), DAY.plusDays(10)));
+        assertFalse(index.isBooked(VENUE, wordsBefore.plusDays(1), null));
+        assertFalse(index.isBooked(VENUE, DAY.plusDays(2), null));
+
+        index.release(20L);
+        assertFalse(index.isBooked(VENUE, wordsBefore, null));
+        assertTrue(index.isBooked(VENUE, dayBefore, null));
+    }
+
+    @Test
+    void booksFarFutureDatesWithoutGrowingTheBitmapToThem() {
+        // Más allá de Integer.MAX_VALUE días desde DAY: un índice int se desbordaría
+        LocalDate farFuture = LocalDate.of(7_000_000, 1, 1);
+        LocalDate farther = LocalDate.MAX;
+        assertTrue(farFuture.toEpochDay() - DAY.toEpochDay() > Integer.MAX_VALUE);
+
+        assertTrue(index.book(event(50L, farFuture, VENUE, EventStatus.ACTIVE)));
+        assertTrue(index.book(event(51L, farther, VENUE, EventStatus.ACTIVE)));
+        assertFalse(index.book(event(52L, farFuture, VENUE, EventStatus.ACTIVE)));
+        assertTrue(index.isBooked(VENUE, farFuture, null));
+        assertFalse(index.isBooked(VENUE, farFuture.plusDays(1), null));
+
+        assertEquals(List.of(DAY, DAY.plusDays(1), farFuture, farther),
+                index.bookedDays(VENUE, DAY, LocalDate.MAX));
+        assertEquals(List.of(farFuture), index.bookedDays(VENUE, farFuture.minusDays(1), farFuture.plusDays(1)));
+
+        index.release(50L);
+        assertFalse(index.isBooked(VENUE, farFuture, null));
+        assertEquals(List.of(DAY, DAY.plusDays(1), farther), index.bookedDays(VENUE, DAY, LocalDate.MAX));
+    }
+
+    @Test
+    void booksDatesBeforeTheEpochAndFarInThePast() {
+        // Epoch days negativos: la palabra es epochDay >> 6 (redondea hacia abajo)
+        LocalDate beforeEpoch = LocalDate.ofEpochDay(-1);
+        LocalDate farPast = LocalDate.of(-7_000_000, 1, 1);
+
+        assertTrue(index.book(event(60L, beforeEpoch, VENUE, EventStatus.ACTIVE)));
+        assertTrue(index.book(event(61L, LocalDate.ofEpochDay(-64), VENUE, EventStatus.ACTIVE)));
+        assertTrue(index.book(event(62L, farPast, VENUE, EventStatus.ACTIVE)));
+        assertFalse(index.isBooked(VENUE, LocalDate.ofEpochDay(0), null));
+        assertFalse(index.isBooked(VENUE, LocalDate.ofEpochDay(-63), null));
+
+        assertEquals(List.of(farPast, LocalDate.ofEpochDay(-64), beforeEpoch, DAY),
+                index.bookedDays(VENUE, LocalDate.MIN, DAY));
+        assertEquals(List.of(LocalDate.ofEpochDay(-64), beforeEpoch),
+                index.bookedDays(VENUE, LocalDate.ofEpochDay(-64), LocalDate.ofEpochDay(0)));
+        assertEquals(List.of(), index.bookedDays(VENUE, DAY, DAY.minusDays(1)));
+
+        index.release(60L);
+        assertFalse(index.isBooked(VENUE, beforeEpoch, null));
+        assertTrue(index.isBooked(VENUE, LocalDate.ofEpochDay(-64), null));
+    }
+
+    @Test
+    void rejectsTakenDaysAndFreesThePreviousDayOnReschedule() {
+        LocalDate next = DAY.plusDays(7);
+        assertFalse(index.book(event(30L, DAY.plusDays(1), VENUE, EventStatus.ACTIVE)));
+        assertTrue(index.book(event(30L, next, VENUE, EventStatus.ACTIVE)));
+        // El propio evento no cuenta como ocupación de su día
+        assertTrue(index.isBooked(VENUE, next, null));
+        assertFalse(index.isBooked(VENUE, next, 30L));
+
+        index.book(event(4L, DAY.plusDays(2), VENUE, EventStatus.ACTIVE));
+        assertFalse(index.isBooked(VENUE, DAY.plusDays(1), null));
+        assertTrue(index.isBooked(VENUE, DAY.plusDays(2), null));
+
+        // Dos eventos que intercambian días en un mismo grupo
+        assertTrue(index.bookAll(List.of(
+                event(30L, DAY.plusDays(2), VENUE, EventStatus.ACTIVE),
+                event(4L, next, VENUE, EventStatus.ACTIVE))));
+        assertEquals(List.of(DAY, DAY.plusDays(2), next), index.bookedDays(VENUE, DAY, next));
+        // Si uno no puede reservarse, no se reserva ninguno
+        assertFalse(index.bookAll(List.of(
+                event(30L, DAY.plusDays(3), VENUE, EventStatus.ACTIVE),
+                event(4L, DAY, VENUE, EventStatus.ACTIVE))));
+        assertFalse(index.isBooked(VENUE, DAY.plusDays(3), null));
+    }
+
+    @Test
+    void rollbackUndoesOnlyTheReservationsMadeInTheTransaction() {
+        LocalDate next = DAY.plusDays(5);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(index.book(event(4L, next, VENUE, EventStatus.ACTIVE)));
+        index.release(1L);
+        // La reserva se ve antes del commit; el día anterior se libera al commit
+        assertTrue(index.isBooked(VENUE, next, null));
+        assertTrue(index.isBooked(VENUE, DAY.plusDays(1), null));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertFalse(index.isBooked(VENUE, next, null));
+        assertTrue(index.isBooked(VENUE, DAY.plusDays(1), null));
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(index.book(event(4L, next, VENUE, EventStatus.ACTIVE)));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertTrue(index.isBooked(VENUE, next, null));
+        assertFalse(index.isBooked(VENUE, DAY.plusDays(1), null));
+    }
+
+    @Test
+    void listsBookedDaysWithinTheRange() {
+        index.book(event(40L, DAY.plusDays(63), VENUE, EventStatus.ACTIVE));
+        index.book(event(41L, DAY.plusDays(64), VENUE, EventStatus.ACTIVE));
+
+        assertEquals(List.of(DAY.plusDays(1), DAY.plusDays(63)),
+                index.bookedDays(VENUE, DAY.plusDays(1), DAY.plusDays(63)));
+        assertEquals(List.of(DAY), index.bookedDays(VENUE, DAY.minusDays(30), DAY));
+        assertEquals(List.of(), index.bookedDays(VENUE, DAY.minusDays(30), DAY.minusDays(1)));
+        assertEquals(List.of(), index.bookedDays(99L, DAY, DAY.plusDays(100)));
+
+        index.removeVenue(VENUE);
+        assertEquals(List.of(), index.bookedDays(VENUE, DAY, DAY.plusDays(100)));
+        assertTrue(index.book(event(42L, DAY, VENUE, EventStatus.ACTIVE)));
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static EventSummary summary(Long id, LocalDate date, Long venueId) {
+        return new EventSummary(id, "Evento " + id, date, EventStatus.ACTIVE, venueId);
+    }
+
+    private static Event event(Long id, LocalDate date, Long venueId, EventStatus status) {
+        return new Event(id, "Evento " + id, date, status, venueRef(venueId));
+    }
+}
@@ -0,0 +1,31 @@
+package com.riwi.H4.support;
+
+import com.riwi.H4.domain.model.Event;
+import com.riwi.H4.domain.model.EventStatus;
+import com.riwi.H4.domain.model.Venue;
+
+import java.time.LocalDate;
+
+/**
+ * Eventos de prueba: activos y con el venue referido solo por su ID, como
+ * llegan desde el controller.
+ */
+public final class TestEvents {
+
+    private TestEvents() {
+    }
+
+    public static Event newEvent(String name, Long venueId, LocalDate date) {
+        return new Event(null, name, date, EventStatus.ACTIVE, venueRef(venueId));
+    }
+
+    public static Event newEvent(String name, Long venueId, int yearsAhead) {
+        return newEvent(name, venueId, LocalDate.now().plusYears(yearsAhead));
+    }
+
+    public static Venue venueRef(Long venueId) {
+        Venue venue = new Venue();
+        venue.setId(venueId);
+        return venue;
+    }
+}